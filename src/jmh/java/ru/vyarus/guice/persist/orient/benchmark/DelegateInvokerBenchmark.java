@@ -0,0 +1,74 @@
+package ru.vyarus.guice.persist.orient.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vyarus.guice.persist.orient.repository.delegate.invoker.DelegateInvoker;
+import ru.vyarus.guice.persist.orient.repository.delegate.invoker.DelegateInvokerFactory;
+import ru.vyarus.guice.persist.orient.repository.delegate.invoker.ReflectionDelegateInvoker;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delegate method call cost: generated invoker (used by {@code @Delegate} methods) compared with reflective
+ * call (previous implementation) and direct method call.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DelegateInvokerBenchmark {
+
+    private Target target;
+    private Object[] args;
+    private DelegateInvoker generated;
+    private DelegateInvoker reflection;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        target = new Target();
+        args = new Object[]{"name", 10};
+        final Method method = Target.class.getMethod("call", String.class, int.class);
+        generated = DelegateInvokerFactory.create(Target.class, method);
+        reflection = new ReflectionDelegateInvoker(method);
+    }
+
+    @Benchmark
+    public Object direct() {
+        return target.call((String) args[0], (Integer) args[1]);
+    }
+
+    @Benchmark
+    public Object generated() throws Exception {
+        return generated.invoke(target, args);
+    }
+
+    @Benchmark
+    public Object reflection() throws Exception {
+        return reflection.invoke(target, args);
+    }
+
+    /**
+     * Delegate bean.
+     */
+    public static class Target {
+
+        public int call(final String name, final int size) {
+            return name.length() + size;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package ru.vyarus.guice.persist.orient.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vyarus.guice.persist.orient.benchmark.support.BenchRepository;
+import ru.vyarus.guice.persist.orient.benchmark.support.BenchmarkContext;
+import ru.vyarus.guice.persist.orient.repository.core.MethodDescriptorFactory;
+import ru.vyarus.guice.persist.orient.repository.core.spi.RepositoryMethodDescriptor;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cached (warm) repository method descriptor lookup: pure library overhead, paid on each repository call.
+ * Run with multiple threads ({@code -t}) to see contention.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DescriptorLookupBenchmark {
+
+    private BenchmarkContext context;
+    private MethodDescriptorFactory factory;
+    private Method method;
+
+    @Setup(Level.Trial)
+    public void setup() throws Throwable {
+        context = BenchmarkContext.start(1);
+        factory = context.getInjector().getInstance(MethodDescriptorFactory.class);
+        method = BenchRepository.class.getMethod("documentSelect", String.class);
+        // warm cache
+        factory.create(method, BenchRepository.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.stop();
+    }
+
+    @Benchmark
+    public RepositoryMethodDescriptor lookup() throws Throwable {
+        return factory.create(method, BenchRepository.class);
+    }
+}
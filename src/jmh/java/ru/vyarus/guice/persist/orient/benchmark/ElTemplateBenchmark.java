@@ -0,0 +1,48 @@
+package ru.vyarus.guice.persist.orient.benchmark;
+
+import com.google.common.collect.ImmutableMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vyarus.guice.persist.orient.repository.command.core.el.ElTemplate;
+import ru.vyarus.guice.persist.orient.repository.command.core.el.ElUtils;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Command el variables substitution: complete query analysis on each call vs pre-compiled template.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ElTemplateBenchmark {
+
+    private static final String QUERY = "select from ${T} where name = ? and ${field} = ? order by ${field} desc";
+    private static final Map<String, String> STATIC = ImmutableMap.of("T", "BenchModel");
+    private static final Map<String, String> VALUES = ImmutableMap.of("T", "BenchModel", "field", "nick");
+
+    private final ElTemplate template = ElTemplate.compile(QUERY, STATIC);
+
+    @Benchmark
+    public String replace() {
+        return ElUtils.replace(QUERY, VALUES);
+    }
+
+    @Benchmark
+    public String template() {
+        return template.render(VALUES);
+    }
+}
@@ -0,0 +1,95 @@
+package ru.vyarus.guice.persist.orient.benchmark;
+
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.tinkerpop.blueprints.Vertex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vyarus.guice.persist.orient.benchmark.model.BenchModel;
+import ru.vyarus.guice.persist.orient.benchmark.support.BenchRepository;
+import ru.vyarus.guice.persist.orient.benchmark.support.BenchmarkContext;
+import ru.vyarus.guice.persist.orient.benchmark.support.RawQueries;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full {@code @Query} repository method call (interceptor, descriptor lookup, command execution and result
+ * conversion) against in-memory database for document, object and graph executors.
+ * <p>Each repository benchmark has raw counterpart, executing the same query directly on connection inside
+ * the same unit of work: difference between them is the library overhead (use {@code -prof gc} to compare
+ * allocations per call, see {@code gc.alloc.rate.norm}).</p>
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RepositoryDispatchBenchmark {
+
+    /**
+     * Rows selected by each call.
+     */
+    @Param({"1", "10"})
+    public int rows;
+
+    private BenchmarkContext context;
+    private BenchRepository repository;
+    private RawQueries raw;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = BenchmarkContext.start(rows);
+        repository = context.getInjector().getInstance(BenchRepository.class);
+        raw = context.getInjector().getInstance(RawQueries.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.stop();
+    }
+
+    @Benchmark
+    public List<ODocument> documentRepository() {
+        return repository.documentSelect(BenchmarkContext.NAME);
+    }
+
+    @Benchmark
+    public List<ODocument> documentRaw() {
+        return raw.documentSelect(BenchmarkContext.NAME);
+    }
+
+    @Benchmark
+    public List<BenchModel> objectRepository() {
+        return repository.objectSelect(BenchmarkContext.NAME);
+    }
+
+    @Benchmark
+    public List<BenchModel> objectRaw() {
+        return raw.objectSelect(BenchmarkContext.NAME);
+    }
+
+    @Benchmark
+    public List<Vertex> graphRepository() {
+        return repository.graphSelect(BenchmarkContext.NAME);
+    }
+
+    @Benchmark
+    public List<Vertex> graphRaw() {
+        return raw.graphSelect(BenchmarkContext.NAME);
+    }
+}
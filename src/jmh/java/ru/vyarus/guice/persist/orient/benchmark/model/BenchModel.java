@@ -0,0 +1,30 @@
+package ru.vyarus.guice.persist.orient.benchmark.model;
+
+import ru.vyarus.guice.persist.orient.model.VersionedEntity;
+
+/**
+ * Plain model used for document and object connection benchmarks.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class BenchModel extends VersionedEntity {
+    private String name;
+    private String nick;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(final String name) {
+        this.name = name;
+    }
+
+    public String getNick() {
+        return nick;
+    }
+
+    public void setNick(final String nick) {
+        this.nick = nick;
+    }
+}
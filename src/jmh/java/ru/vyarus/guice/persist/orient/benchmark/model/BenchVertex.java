@@ -0,0 +1,46 @@
+package ru.vyarus.guice.persist.orient.benchmark.model;
+
+import ru.vyarus.guice.persist.orient.db.scheme.initializer.ext.type.vertex.VertexType;
+
+import javax.persistence.Id;
+import javax.persistence.Version;
+
+/**
+ * Vertex model used for graph connection benchmarks (can't extend
+ * {@link ru.vyarus.guice.persist.orient.model.VersionedEntity} because of vertex superclass).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@VertexType
+public class BenchVertex {
+    @Id
+    private String id;
+    @Version
+    private Long version;
+    private String name;
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(final String id) {
+        this.id = id;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(final Long version) {
+        this.version = version;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(final String name) {
+        this.name = name;
+    }
+}
@@ -0,0 +1,31 @@
+package ru.vyarus.guice.persist.orient.benchmark.support;
+
+import com.google.inject.ProvidedBy;
+import com.google.inject.internal.DynamicClassProvider;
+import com.google.inject.persist.Transactional;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.tinkerpop.blueprints.Vertex;
+import ru.vyarus.guice.persist.orient.benchmark.model.BenchModel;
+import ru.vyarus.guice.persist.orient.repository.command.query.Query;
+
+import java.util.List;
+
+/**
+ * The same select executed through each repository executor (connection type is recognized from return type).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@Transactional
+@ProvidedBy(DynamicClassProvider.class)
+public interface BenchRepository {
+
+    @Query("select from BenchModel where name = ?")
+    List<ODocument> documentSelect(String name);
+
+    @Query("select from BenchModel where name = ?")
+    List<BenchModel> objectSelect(String name);
+
+    @Query("select from BenchVertex where name = ?")
+    List<Vertex> graphSelect(String name);
+}
@@ -0,0 +1,82 @@
+package ru.vyarus.guice.persist.orient.benchmark.support;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.persist.PersistService;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.object.db.OObjectDatabaseTx;
+import com.tinkerpop.blueprints.impls.orient.OrientBaseGraph;
+import ru.vyarus.guice.persist.orient.benchmark.model.BenchModel;
+import ru.vyarus.guice.persist.orient.db.transaction.template.TxAction;
+import ru.vyarus.guice.persist.orient.db.transaction.template.TxTemplate;
+
+import javax.inject.Provider;
+
+/**
+ * Starts in-memory database with benchmark model and test data. Shared by all benchmarks.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public final class BenchmarkContext {
+
+    /**
+     * Name of all inserted records (queries select by this name).
+     */
+    public static final String NAME = "bench";
+
+    private final String uri;
+    private final Injector injector;
+
+    private BenchmarkContext(final String uri) {
+        this.uri = uri;
+        this.injector = Guice.createInjector(new BenchmarkModule(uri));
+    }
+
+    public Injector getInjector() {
+        return injector;
+    }
+
+    /**
+     * Starts persistence and inserts records, which will be selected by benchmark queries.
+     *
+     * @param rows count of records to insert (for each model)
+     * @return started context
+     */
+    public static BenchmarkContext start(final int rows) {
+        // unique name to isolate trials
+        final BenchmarkContext context = new BenchmarkContext("memory:bench" + System.nanoTime());
+        context.injector.getInstance(PersistService.class).start();
+        context.insert(rows);
+        return context;
+    }
+
+    /**
+     * Stops persistence and drops in-memory database.
+     */
+    public void stop() {
+        injector.getInstance(PersistService.class).stop();
+        final ODatabaseDocumentTx db = new ODatabaseDocumentTx(uri);
+        if (db.exists()) {
+            db.open("admin", "admin").drop();
+        }
+    }
+
+    private void insert(final int rows) {
+        final Provider<OObjectDatabaseTx> objectDb = injector.getProvider(OObjectDatabaseTx.class);
+        final Provider<OrientBaseGraph> graphDb = injector.getProvider(OrientBaseGraph.class);
+        injector.getInstance(TxTemplate.class).doInTransaction(new TxAction<Void>() {
+            @Override
+            public Void execute() throws Throwable {
+                for (int i = 0; i < rows; i++) {
+                    final BenchModel model = new BenchModel();
+                    model.setName(NAME);
+                    model.setNick("nick" + i);
+                    objectDb.get().save(model);
+                    graphDb.get().addVertex("class:BenchVertex", "name", NAME);
+                }
+                return null;
+            }
+        });
+    }
+}
@@ -0,0 +1,29 @@
+package ru.vyarus.guice.persist.orient.benchmark.support;
+
+import com.google.inject.AbstractModule;
+import ru.vyarus.guice.persist.orient.OrientModule;
+import ru.vyarus.guice.persist.orient.RepositoryModule;
+import ru.vyarus.guice.persist.orient.benchmark.model.BenchModel;
+import ru.vyarus.guice.persist.orient.support.PackageSchemeModule;
+
+/**
+ * Benchmarks context: in-memory database, model package scheme mapping and repositories support.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class BenchmarkModule extends AbstractModule {
+
+    private final String uri;
+
+    public BenchmarkModule(final String uri) {
+        this.uri = uri;
+    }
+
+    @Override
+    protected void configure() {
+        install(new OrientModule(uri, "admin", "admin"));
+        install(new PackageSchemeModule(BenchModel.class.getPackage().getName()));
+        install(new RepositoryModule());
+    }
+}
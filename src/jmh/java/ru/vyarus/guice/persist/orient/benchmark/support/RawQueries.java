@@ -0,0 +1,62 @@
+package ru.vyarus.guice.persist.orient.benchmark.support;
+
+import com.google.inject.persist.Transactional;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.OCommandSQL;
+import com.orientechnologies.orient.core.sql.query.OSQLSynchQuery;
+import com.orientechnologies.orient.object.db.OObjectDatabaseTx;
+import com.tinkerpop.blueprints.Vertex;
+import com.tinkerpop.blueprints.impls.orient.OrientBaseGraph;
+import ru.vyarus.guice.persist.orient.benchmark.model.BenchModel;
+
+import javax.inject.Inject;
+import javax.inject.Provider;
+import javax.inject.Singleton;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Baseline: the same queries as in {@link BenchRepository}, but executed directly on connection
+ * (the same unit of work and pools). Difference with repository call is the library's own overhead.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@Singleton
+@Transactional
+public class RawQueries {
+
+    private final Provider<ODatabaseDocumentTx> documentDb;
+    private final Provider<OObjectDatabaseTx> objectDb;
+    private final Provider<OrientBaseGraph> graphDb;
+
+    @Inject
+    public RawQueries(final Provider<ODatabaseDocumentTx> documentDb,
+                      final Provider<OObjectDatabaseTx> objectDb,
+                      final Provider<OrientBaseGraph> graphDb) {
+        this.documentDb = documentDb;
+        this.objectDb = objectDb;
+        this.graphDb = graphDb;
+    }
+
+    public List<ODocument> documentSelect(final String name) {
+        return documentDb.get().query(
+                new OSQLSynchQuery<ODocument>("select from BenchModel where name = ?"), name);
+    }
+
+    public List<BenchModel> objectSelect(final String name) {
+        return objectDb.get().query(
+                new OSQLSynchQuery<BenchModel>("select from BenchModel where name = ?"), name);
+    }
+
+    public List<Vertex> graphSelect(final String name) {
+        final Iterable<Vertex> res = graphDb.get()
+                .command(new OCommandSQL("select from BenchVertex where name = ?")).execute(name);
+        final List<Vertex> list = new ArrayList<Vertex>();
+        for (Vertex vertex : res) {
+            list.add(vertex);
+        }
+        return list;
+    }
+}
@@ -10,16 +10,21 @@ import com.google.inject.persist.PersistModule;
 import com.google.inject.persist.PersistService;
 import com.google.inject.persist.UnitOfWork;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.hook.ORecordHook;
 import org.aopalliance.intercept.MethodInterceptor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ru.vyarus.guice.persist.orient.db.DatabaseManager;
+import ru.vyarus.guice.persist.orient.db.PersistListener;
 import ru.vyarus.guice.persist.orient.db.pool.DocumentPool;
 import ru.vyarus.guice.persist.orient.db.pool.PoolManager;
+import ru.vyarus.guice.persist.orient.db.pool.metrics.JmxPoolMetrics;
+import ru.vyarus.guice.persist.orient.db.pool.metrics.PoolMetrics;
 import ru.vyarus.guice.persist.orient.db.retry.Retry;
 import ru.vyarus.guice.persist.orient.db.retry.RetryMethodInterceptor;
 import ru.vyarus.guice.persist.orient.db.transaction.TransactionManager;
 import ru.vyarus.guice.persist.orient.db.transaction.TxConfig;
+import ru.vyarus.guice.persist.orient.db.transaction.cache.TxRecordCache;
 import ru.vyarus.guice.persist.orient.db.transaction.internal.TransactionInterceptor;
 
 import javax.inject.Singleton;
@@ -84,6 +89,10 @@ import java.lang.reflect.Method;
  * appropriate. This will start/stop all registered pools. Without initialization any try
  * to obtain connection will fail.</p>
  * <p>Local database auto creation is enabled by default. Disable it if required.</p>
+ * <p>Pool metrics are disabled by default. Enable jmx metrics with {@link #poolMetrics(boolean)}.</p>
+ * <p>Record hooks could be registered with multibinder (in any module):
+ * {@code Multibinder.newSetBinder(binder(), ORecordHook.class).addBinding().to(MyHook.class)}. Hooks are
+ * registered on all pool connections.</p>
  *
  * @see ru.vyarus.guice.persist.orient.db.transaction.TransactionManager for details about transactions
  */
@@ -95,6 +104,10 @@ public class OrientModule extends PersistModule {
     private final String password;
     private TxConfig txConfig;
     private boolean autoCreateDb = true;
+    private boolean poolMetrics;
+    private long poolAcquireTimeout;
+    private int poolAcquireQueueLimit;
+    private boolean txRecordCache;
 
     private Multibinder<PoolManager> poolsMultibinder;
     private MethodInterceptor interceptor;
@@ -138,14 +151,75 @@ public class OrientModule extends PersistModule {
         return this;
     }
 
+    /**
+     * Enables pool statistics collection (connection acquire time, connections in use, commit and rollback
+     * times etc.), published as jmx mbean (see {@link JmxPoolMetrics}). Custom metrics implementation could be
+     * registered instead (see {@link PoolMetrics}). By default, metrics are disabled.
+     *
+     * @param enable true to enable pool metrics
+     * @return module itself for chained calls
+     */
+    public OrientModule poolMetrics(final boolean enable) {
+        this.poolMetrics = enable;
+        return this;
+    }
+
+    /**
+     * By default, thread waits for pool connection as long as required (when all pool connections are used).
+     * Under overload this leads to threads pile up. Timeout limits connection waiting time: after timeout
+     * {@link ru.vyarus.guice.persist.orient.db.pool.PoolExhaustedException} is thrown.
+     *
+     * @param millis connection acquire timeout in milliseconds (0 to wait without limit)
+     * @return module itself for chained calls
+     * @see #poolAcquireQueueLimit(int)
+     */
+    public OrientModule poolAcquireTimeout(final long millis) {
+        this.poolAcquireTimeout = millis;
+        return this;
+    }
+
+    /**
+     * Limits count of threads, waiting for pool connection (when all pool connections are used). When limit is
+     * reached, new connection requests fail immediately with
+     * {@link ru.vyarus.guice.persist.orient.db.pool.PoolExhaustedException} (to shed load instead of making
+     * latency worse). By default, not limited.
+     *
+     * @param threads maximum count of waiting threads (0 for no limit)
+     * @return module itself for chained calls
+     * @see #poolAcquireTimeout(long)
+     */
+    public OrientModule poolAcquireQueueLimit(final int threads) {
+        this.poolAcquireQueueLimit = threads;
+        return this;
+    }
+
+    /**
+     * Enables transaction scoped record cache: repeated loads of the same record by id within unit of work
+     * (through crud and edges mixins) return the same instance. Disabled by default.
+     *
+     * @param enable true to enable transaction record cache
+     * @return module itself for chained calls
+     * @see TxRecordCache
+     */
+    public OrientModule transactionRecordCache(final boolean enable) {
+        this.txRecordCache = enable;
+        return this;
+    }
+
     @Override
     protected void configurePersistence() {
         poolsMultibinder = Multibinder.newSetBinder(binder(), PoolManager.class);
+        // declared to allow empty listeners set
+        Multibinder.newSetBinder(binder(), PersistListener.class);
+        Multibinder.newSetBinder(binder(), ORecordHook.class);
 
         bindConstant().annotatedWith(Names.named("orient.uri")).to(uri);
         bindConstant().annotatedWith(Names.named("orient.user")).to(user);
         bindConstant().annotatedWith(Names.named("orient.password")).to(password);
         bindConstant().annotatedWith(Names.named("orient.db.autocreate")).to(autoCreateDb);
+        bindConstant().annotatedWith(Names.named("orient.pool.acquire.timeout")).to(poolAcquireTimeout);
+        bindConstant().annotatedWith(Names.named("orient.pool.acquire.queue")).to(poolAcquireQueueLimit);
+        bindConstant().annotatedWith(Names.named("orient.txcache")).to(txRecordCache);
 
         bind(TxConfig.class).annotatedWith(Names.named("orient.txconfig"))
                 .toInstance(txConfig == null ? new TxConfig() : txConfig);
@@ -157,6 +231,9 @@ public class OrientModule extends PersistModule {
 
         bind(PersistService.class).to(DatabaseManager.class);
         bind(UnitOfWork.class).to(TransactionManager.class);
+        if (poolMetrics) {
+            bind(PoolMetrics.class).to(JmxPoolMetrics.class);
+        }
 
         configurePools();
         configureInterceptor();
@@ -6,12 +6,17 @@ import com.google.inject.matcher.AbstractMatcher;
 import com.google.inject.matcher.Matchers;
 import com.google.inject.multibindings.Multibinder;
 import com.google.inject.name.Names;
+import com.orientechnologies.orient.core.hook.ORecordHook;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ru.vyarus.guice.ext.core.generator.anchor.GeneratorAnchorModule;
 import ru.vyarus.guice.persist.orient.db.DbType;
+import ru.vyarus.guice.persist.orient.db.PersistListener;
 import ru.vyarus.guice.persist.orient.repository.RepositoryMethodInterceptor;
+import ru.vyarus.guice.persist.orient.repository.command.core.cache.CommandCache;
 import ru.vyarus.guice.persist.orient.repository.core.MethodDefinitionException;
+import ru.vyarus.guice.persist.orient.repository.core.MethodDescriptorPrecompiler;
+import ru.vyarus.guice.persist.orient.repository.core.RepositoryBackgroundExecutor;
 import ru.vyarus.guice.persist.orient.repository.core.executor.RepositoryExecutor;
 import ru.vyarus.guice.persist.orient.repository.core.executor.impl.DocumentRepositoryExecutor;
 import ru.vyarus.guice.persist.orient.repository.core.ext.SpiService;
@@ -19,6 +24,9 @@ import ru.vyarus.guice.persist.orient.repository.core.ext.service.AmendExtension
 import ru.vyarus.guice.persist.orient.repository.core.ext.service.ParamsService;
 import ru.vyarus.guice.persist.orient.repository.core.ext.service.result.ResultService;
 import ru.vyarus.guice.persist.orient.repository.core.ext.service.result.converter.ResultConverter;
+import ru.vyarus.guice.persist.orient.repository.core.ext.service.result.ext.cache.CacheResult;
+import ru.vyarus.guice.persist.orient.repository.core.ext.service.result.ext.cache.ResultCache;
+import ru.vyarus.guice.persist.orient.repository.core.ext.service.result.ext.cache.ResultCacheHook;
 import ru.vyarus.guice.persist.orient.repository.core.ext.util.ExtUtils;
 import ru.vyarus.guice.persist.orient.repository.core.util.RepositoryUtils;
 import ru.vyarus.guice.persist.orient.repository.delegate.DelegateMethodExtension;
@@ -59,6 +67,11 @@ public class RepositoryModule extends AbstractModule {
     private final Logger logger = LoggerFactory.getLogger(RepositoryModule.class);
 
     private DbType defaultConnectionToUse = DbType.DOCUMENT;
+    private boolean precompileDescriptors;
+    private long pageCountCacheTtl = 10000;
+    private int resultCacheSize = 1000;
+    private int crudBatchSize = 1000;
+    private int commandCacheSize = 1000;
     private Multibinder<RepositoryExecutor> executorsMultibinder;
 
     /**
@@ -72,11 +85,85 @@ public class RepositoryModule extends AbstractModule {
         return this;
     }
 
+    /**
+     * By default, repository method descriptor is created on first method call. Precompilation builds descriptors
+     * of all found repositories (bound directly or injected into bound beans) in parallel on persistence start
+     * (just after scheme initialization), so first calls will not be slower and method definition errors
+     * will fail startup. Disabled by default.
+     *
+     * @param precompile true to build repository method descriptors on persistence start
+     * @return module itself for chained calls
+     * @see MethodDescriptorPrecompiler
+     */
+    public RepositoryModule precompileDescriptors(final boolean precompile) {
+        this.precompileDescriptors = precompile;
+        return this;
+    }
+
+    /**
+     * Pagination mixin could cache records count (to avoid count query for each page, see
+     * {@link ru.vyarus.guice.persist.orient.support.repository.mixin.pagination.PageTotal#CACHED}).
+     * Count is invalidated by crud mixins writes or after specified time. By default, 10 seconds.
+     *
+     * @param ttl cached count expiration time in milliseconds (0 to disable caching)
+     * @return module itself for chained calls
+     * @see ru.vyarus.guice.persist.orient.support.repository.mixin.pagination.PageCountCache
+     */
+    public RepositoryModule pageCountCacheTtl(final long ttl) {
+        this.pageCountCacheTtl = ttl;
+        return this;
+    }
+
+    /**
+     * Crud mixins {@code saveAll} and {@code deleteAll} methods write records in chunks (one delete command per
+     * chunk). By default, 1000 records.
+     *
+     * @param size records count in chunk
+     * @return module itself for chained calls
+     * @see ru.vyarus.guice.persist.orient.support.repository.mixin.crud.CrudBatch
+     */
+    public RepositoryModule crudBatchSize(final int size) {
+        this.crudBatchSize = size;
+        return this;
+    }
+
+    /**
+     * Limits count of cached {@link CacheResult} method results (least recently used results are evicted).
+     * By default, 1000 results.
+     *
+     * @param size maximum count of cached results (0 to disable caching)
+     * @return module itself for chained calls
+     * @see ResultCache
+     */
+    public RepositoryModule resultCacheSize(final int size) {
+        this.resultCacheSize = size;
+        return this;
+    }
+
+    /**
+     * Orient parses sql commands with storage level statements cache (only for strict sql databases), sized
+     * globally to 100 statements. Repository commands with el variables may produce much more distinct commands,
+     * so cache is replaced on startup with cache of configured size (least recently used statements are evicted).
+     * Cache hit rate is available from {@link CommandCache}. By default, 1000 statements.
+     *
+     * @param size maximum count of cached parsed statements (0 to disable caching)
+     * @return module itself for chained calls
+     * @see CommandCache
+     */
+    public RepositoryModule commandCacheSize(final int size) {
+        this.commandCacheSize = size;
+        return this;
+    }
+
     @Override
     protected void configure() {
         install(new GeneratorAnchorModule());
         bind(DbType.class).annotatedWith(Names.named("orient.repository.default.connection"))
                 .toInstance(defaultConnectionToUse);
+        bindConstant().annotatedWith(Names.named("orient.repository.page.count.ttl")).to(pageCountCacheTtl);
+        bindConstant().annotatedWith(Names.named("orient.repository.result.cache.size")).to(resultCacheSize);
+        bindConstant().annotatedWith(Names.named("orient.repository.crud.batch.size")).to(crudBatchSize);
+        bindConstant().annotatedWith(Names.named("orient.repository.command.cache.size")).to(commandCacheSize);
 
         // extension points
         bind(ResultConverter.class);
@@ -90,9 +177,22 @@ public class RepositoryModule extends AbstractModule {
 
         configureAop();
 
+        if (resultCacheSize > 0) {
+            Multibinder.newSetBinder(binder(), ORecordHook.class).addBinding().to(ResultCacheHook.class);
+        }
+
         executorsMultibinder = Multibinder.newSetBinder(binder(), RepositoryExecutor.class);
 
         configureExecutors();
+
+        Multibinder.newSetBinder(binder(), PersistListener.class)
+                .addBinding().to(RepositoryBackgroundExecutor.class);
+        Multibinder.newSetBinder(binder(), PersistListener.class)
+                .addBinding().to(CommandCache.class);
+        if (precompileDescriptors) {
+            Multibinder.newSetBinder(binder(), PersistListener.class)
+                    .addBinding().to(MethodDescriptorPrecompiler.class);
+        }
     }
 
     /**
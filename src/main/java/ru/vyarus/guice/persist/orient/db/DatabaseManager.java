@@ -27,7 +27,7 @@ import java.util.Set;
 
 /**
  * Responsible for database lifecycle. Creates db if necessary and call schema and data initializers
- * for just opened database. Also, responsible for pools lifecycle.
+ * for just opened database. Also, responsible for pools lifecycle and {@link PersistListener} notification.
  *
  * @author Vyacheslav Rusakov
  * @see ru.vyarus.guice.persist.orient.db.scheme.SchemeInitializer
@@ -45,6 +45,7 @@ public class DatabaseManager implements PersistService {
     private final SchemeInitializer modelInitializer;
     private final DataInitializer dataInitializer;
     private final TxTemplate txTemplate;
+    private final Set<PersistListener> listeners;
 
     // used to allow multiple start/stop calls (could be if service managed directly and PersistFilter registered)
     private boolean initialized;
@@ -57,7 +58,8 @@ public class DatabaseManager implements PersistService {
             final Set<PoolManager> pools,
             final SchemeInitializer modelInitializer,
             final DataInitializer dataInitializer,
-            final TxTemplate txTemplate) {
+            final TxTemplate txTemplate,
+            final Set<PersistListener> listeners) {
 
         this.uri = Preconditions.checkNotNull(uri, "Database name required");
         this.autoCreate = autoCreate;
@@ -65,6 +67,7 @@ public class DatabaseManager implements PersistService {
         this.modelInitializer = modelInitializer;
         this.dataInitializer = dataInitializer;
         this.txTemplate = txTemplate;
+        this.listeners = listeners;
         // sort pools to correct startup order
         Collections.sort(this.pools, new Comparator<PoolManager>() {
             @Override
@@ -101,6 +104,9 @@ public class DatabaseManager implements PersistService {
 
         // db ready to work
         initialized = true;
+        for (PersistListener listener : listeners) {
+            listener.afterStart();
+        }
         // tx may be enabled (it's up to implementer)
         dataInitializer.initializeData();
     }
@@ -112,6 +118,14 @@ public class DatabaseManager implements PersistService {
             return;
         }
         initialized = false;
+        for (PersistListener listener : listeners) {
+            try {
+                listener.beforeStop();
+            } catch (Throwable ex) {
+                // continue to properly shutdown pools
+                logger.error("Persist listener shutdown failed (" + listener.getClass() + ")", ex);
+            }
+        }
         stopPools();
     }
 
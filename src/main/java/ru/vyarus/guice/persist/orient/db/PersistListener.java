@@ -0,0 +1,27 @@
+package ru.vyarus.guice.persist.orient.db;
+
+/**
+ * Database lifecycle listener. Register implementations with guice multibinder:
+ * {@code Multibinder.newSetBinder(binder(), PersistListener.class).addBinding().to(MyListener.class)}
+ * (binding may be registered in any module, installed in the same injector as
+ * {@link ru.vyarus.guice.persist.orient.OrientModule}).
+ * <p>Listeners are called in registration order.</p>
+ *
+ * @author Vyacheslav Rusakov
+ * @see DatabaseManager
+ * @since 18.10.2026
+ */
+public interface PersistListener {
+
+    /**
+     * Called after pools start and scheme initialization, but before data initialization
+     * (so {@link ru.vyarus.guice.persist.orient.db.data.DataInitializer} could rely on listener actions).
+     * Called without transaction. Exception fails persistence startup.
+     */
+    void afterStart();
+
+    /**
+     * Called before pools shutdown. Exception is logged, but not propagated (to properly shutdown pools).
+     */
+    void beforeStop();
+}
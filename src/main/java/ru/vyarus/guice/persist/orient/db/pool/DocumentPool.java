@@ -1,27 +1,57 @@
 package ru.vyarus.guice.persist.orient.db.pool;
 
 import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.common.util.concurrent.Uninterruptibles;
 import com.google.inject.Inject;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseListener;
 import com.orientechnologies.orient.core.db.OPartitionedDatabasePoolFactory;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.hook.ORecordHook;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ru.vyarus.guice.persist.orient.db.DbType;
+import ru.vyarus.guice.persist.orient.db.pool.metrics.PoolMetrics;
 import ru.vyarus.guice.persist.orient.db.transaction.TransactionManager;
 import ru.vyarus.guice.persist.orient.db.user.UserManager;
 
+import javax.inject.Named;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Document pool implementations.
  * Connection may be obtained (using provider) only inside unit of work (defined transaction).
+ * Pool transaction starts lazily, on first connection request, and pool joins current unit of work with
+ * {@link TransactionManager#registerPool(PoolManager)}: transaction manager commits and rolls back only pools
+ * registered in current transaction (pools not used in transaction are not called at all).
  * Because of possible multi-transaction paradigm (default pools now use single transaction, but as before
- * pools implementation may be overridden to mimic legacy behaviour) inside single unit of work,
- * transaction manager always calls commit and rollback on all pools (no matter which one is really need it).
- * Implementation handle it by ignoring redundant calls: first commit or rollback finish pool transaction
- * and all other calls to commit or rollback simply ignored.
+ * pools implementation may be overridden to mimic legacy behaviour) redundant calls are still possible:
+ * first commit or rollback finish pool transaction and all other calls to commit or rollback simply ignored.
+ * <p>On start, {@code OGlobalConfiguration.DB_POOL_MIN} connections are opened in advance (warm up), so first
+ * transactions (including transactions after pool restart) will not wait for connection opening.</p>
+ * <p>Connection acquire could be limited with timeout and waiting threads limit (see
+ * {@link ru.vyarus.guice.persist.orient.OrientModule#poolAcquireTimeout(long)}), otherwise thread will wait
+ * for connection as long as required.</p>
+ * <p>Pool usage is reported to {@link PoolMetrics} (no-op by default).</p>
+ * <p>Record hooks, registered in guice ({@code Multibinder.newSetBinder(binder(), ORecordHook.class)}), are
+ * registered on each acquired connection (once per connection instance). Hooks, implementing
+ * {@link ODatabaseListener}, are also registered as connection listeners (e.g. to react on commit).</p>
  *
  * @author Vyacheslav Rusakov
  * @since 24.07.2014
@@ -32,34 +62,47 @@ public class DocumentPool implements PoolManager<ODatabaseDocumentTx> {
 
     private final TransactionManager transactionManager;
     private final UserManager userManager;
+    private final PoolMetrics metrics;
+    private final long acquireTimeout;
+    private final int acquireQueueLimit;
+    private final List<ORecordHook> hooks;
+    private final AtomicInteger waiting = new AtomicInteger();
     private final ThreadLocal<ODatabaseDocumentTx> transaction = new ThreadLocal<ODatabaseDocumentTx>();
     private OPartitionedDatabasePoolFactory poolFactory;
     private String uri;
+    private int warmUpSize;
+    // used only when acquire limits configured
+    private Semaphore permits;
 
     @Inject
-    public DocumentPool(final TransactionManager transactionManager, final UserManager userManager) {
+    public DocumentPool(final TransactionManager transactionManager, final UserManager userManager,
+                        final PoolMetrics metrics,
+                        @Named("orient.pool.acquire.timeout") final long acquireTimeout,
+                        @Named("orient.pool.acquire.queue") final int acquireQueueLimit,
+                        final Set<ORecordHook> hooks) {
         this.transactionManager = transactionManager;
         this.userManager = userManager;
+        this.metrics = metrics;
+        this.acquireTimeout = acquireTimeout;
+        this.acquireQueueLimit = acquireQueueLimit;
+        this.hooks = Lists.newArrayList(hooks);
     }
 
     @Override
     public void start(final String uri) {
-        this.uri = uri;
-        poolFactory = new OPartitionedDatabasePoolFactory();
-        poolFactory.setMaxPoolSize(OGlobalConfiguration.DB_POOL_MAX.getValueAsInteger());
-        // check database connection
-        new ODatabaseDocumentTx(uri).open(userManager.getUser(), userManager.getPassword()).close();
-        logger.debug("Pool {} started for '{}'", getType(), uri);
+        final int maxSize = OGlobalConfiguration.DB_POOL_MAX.getValueAsInteger();
+        warmUpSize = Math.max(1, Math.min(OGlobalConfiguration.DB_POOL_MIN.getValueAsInteger(), maxSize));
+        startPool(uri, maxSize);
+        // semaphore is not re-created on pool restart (restart performed under acquired permit)
+        permits = acquireTimeout > 0 || acquireQueueLimit > 0 ? new Semaphore(maxSize) : null;
+        metrics.poolStarted(getType(), uri, maxSize);
     }
 
     @Override
-    @SuppressWarnings("PMD.NullAssignment")
     public void stop() {
         if (poolFactory != null) {
-            poolFactory.close();
-            poolFactory = null;
-            logger.debug("Pool {} closed for '{}'", getType(), uri);
-            uri = null;
+            stopPool();
+            metrics.poolStopped(getType());
         }
     }
 
@@ -73,14 +116,18 @@ public class DocumentPool implements PoolManager<ODatabaseDocumentTx> {
         // connection was closed manually, no need for rollback
         if (db.isClosed()) {
             transaction.remove();
+            releaseConnection();
             checkOpened(db);
         }
         // may not cause actual commit/close because force parameter not used
         // in case of commit exception, transaction manager must perform rollback
         // (and close will take effect in rollback)
+        final long start = System.nanoTime();
         db.commit();
+        metrics.transactionCommitted(getType(), System.nanoTime() - start);
         db.close();
         transaction.remove();
+        releaseConnection();
         logger.trace("Pool {} commit successful", getType());
     }
 
@@ -95,18 +142,17 @@ public class DocumentPool implements PoolManager<ODatabaseDocumentTx> {
         }
         try {
             // may not cause actual rollback immediately because force not used
+            final long start = System.nanoTime();
             checkOpened(db).rollback();
+            metrics.transactionRolledBack(getType(), System.nanoTime() - start);
             logger.trace("Pool {} rollback successful", getType());
         } finally {
             if (!db.isClosed()) {
-                try {
-                    // release connection back to pool in any case
-                    db.close();
-                } catch (Throwable ignored) {
-                    logger.trace(String.format("Pool %s failed to close database", getType()), ignored);
-                }
+                // release connection back to pool in any case
+                closeConnection(db);
             }
             transaction.remove();
+            releaseConnection();
         }
     }
 
@@ -119,15 +165,48 @@ public class DocumentPool implements PoolManager<ODatabaseDocumentTx> {
             Preconditions.checkState(transactionManager.isTransactionActive(), String.format(
                     "Can't obtain connection from pool %s: no transaction defined.", getType()));
 
-            final ODatabaseDocumentTx db = checkAndAcquireConnection();
-
-            db.begin(transactionManager.getActiveTransactionType());
+            final long start = System.nanoTime();
+            reserveConnection();
+            final ODatabaseDocumentTx db;
+            try {
+                db = checkAndAcquireConnection();
+            } catch (RuntimeException ex) {
+                // connection was not acquired: only reservation must be released
+                releasePermit();
+                throw ex;
+            }
+            metrics.connectionAcquired(getType(), System.nanoTime() - start);
+            try {
+                registerHooks(db);
+                db.begin(transactionManager.getActiveTransactionType());
+            } catch (RuntimeException ex) {
+                closeConnection(db);
+                releaseConnection();
+                throw ex;
+            }
             transaction.set(db);
+            transactionManager.registerPool(this);
             logger.trace("Pool {} transaction started", getType());
         }
         return checkOpened(transaction.get()).activateOnCurrentThread();
     }
 
+    private void registerHooks(final ODatabaseDocumentTx db) {
+        if (!hooks.isEmpty()) {
+            // pooled connection instances are reused
+            final Map<ORecordHook, ORecordHook.HOOK_POSITION> registered = db.getHooks();
+            for (ORecordHook hook : hooks) {
+                if (!registered.containsKey(hook)) {
+                    db.registerHook(hook);
+                }
+                // hook could also listen for transaction events (listeners set ignores duplicates)
+                if (hook instanceof ODatabaseListener) {
+                    db.registerListener((ODatabaseListener) hook);
+                }
+            }
+        }
+    }
+
     /**
      * To early catch inconsistency errors it's better to check here (should reduce scope to search for problem).
      * It's so easy to call close directly on connection, but it shouldn't be done manually: either use unit of work
@@ -177,6 +256,62 @@ public class DocumentPool implements PoolManager<ODatabaseDocumentTx> {
         return res;
     }
 
+    /**
+     * When acquire limits configured, connections count is limited by pool size before actual pool access,
+     * so thread could wait limited time (or fail immediately if too many threads already waiting)
+     * (orient pool waits for connection forever).
+     * Without configured limits does nothing.
+     *
+     * @throws PoolExhaustedException if connection could not be reserved
+     */
+    private void reserveConnection() {
+        if (permits == null || permits.tryAcquire()) {
+            return;
+        }
+        if (acquireQueueLimit > 0 && waiting.get() >= acquireQueueLimit) {
+            metrics.connectionRejected(getType());
+            throw new PoolExhaustedException(String.format(
+                    "Pool %s exhausted: %s threads already waiting for connection", getType(), acquireQueueLimit));
+        }
+        waiting.incrementAndGet();
+        try {
+            if (acquireTimeout > 0) {
+                if (!permits.tryAcquire(acquireTimeout, TimeUnit.MILLISECONDS)) {
+                    metrics.connectionRejected(getType());
+                    throw new PoolExhaustedException(String.format(
+                            "Pool %s exhausted: failed to obtain connection in %s ms", getType(), acquireTimeout));
+                }
+            } else {
+                permits.acquireUninterruptibly();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new PoolExhaustedException(String.format(
+                    "Pool %s connection waiting interrupted", getType()), ex);
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    private void releaseConnection() {
+        releasePermit();
+        metrics.connectionReleased(getType());
+    }
+
+    private void releasePermit() {
+        if (permits != null) {
+            permits.release();
+        }
+    }
+
+    private void closeConnection(final ODatabaseDocumentTx db) {
+        try {
+            db.close();
+        } catch (Throwable ignored) {
+            logger.trace(String.format("Pool %s failed to close database", getType()), ignored);
+        }
+    }
+
     @Override
     public DbType getType() {
         return DbType.DOCUMENT;
@@ -196,7 +331,86 @@ public class DocumentPool implements PoolManager<ODatabaseDocumentTx> {
                 + "begin/commit/rollback/close (construct your own connection if you need "
                 + "full control, otherwise trust to transaction manager).", getType());
         final String localUri = uri;
-        stop();
-        start(localUri);
+        final int maxSize = poolFactory.getMaxPoolSize();
+        stopPool();
+        startPool(localUri, maxSize);
+        metrics.poolRestarted(getType());
+    }
+
+    private void startPool(final String uri, final int maxSize) {
+        this.uri = uri;
+        poolFactory = new OPartitionedDatabasePoolFactory();
+        poolFactory.setMaxPoolSize(maxSize);
+        // also checks database connection
+        warmUp(warmUpSize);
+        logger.debug("Pool {} started for '{}' ({} connections opened)", getType(), uri, warmUpSize);
+    }
+
+    /**
+     * Opens required amount of pool connections in advance (in parallel), so first transactions will not
+     * wait for connection opening (especially important for remote connections).
+     *
+     * @param count connections count
+     */
+    private void warmUp(final int count) {
+        if (count == 1) {
+            acquireConnection().close();
+            return;
+        }
+        // thread per connection, because pool returns the same connection for repeated acquire in one thread
+        // (and connection must be released in the same thread)
+        final ExecutorService executor = Executors.newFixedThreadPool(count,
+                new ThreadFactoryBuilder().setNameFormat("pool-warmup-%d").setDaemon(true).build());
+        try {
+            final CountDownLatch acquired = new CountDownLatch(count);
+            final List<Future<?>> futures = Lists.newArrayListWithCapacity(count);
+            for (int i = 0; i < count; i++) {
+                futures.add(executor.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() throws Exception {
+                        final ODatabaseDocumentTx db;
+                        try {
+                            db = acquireConnection();
+                        } finally {
+                            acquired.countDown();
+                        }
+                        try {
+                            // hold connection until all connections opened
+                            acquired.await();
+                        } finally {
+                            db.close();
+                        }
+                        return null;
+                    }
+                }));
+            }
+            awaitWarmUp(futures);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void awaitWarmUp(final List<Future<?>> futures) {
+        Throwable error = null;
+        for (Future<?> future : futures) {
+            try {
+                Uninterruptibles.getUninterruptibly(future);
+            } catch (ExecutionException ex) {
+                if (error == null) {
+                    error = ex.getCause();
+                }
+            }
+        }
+        if (error != null) {
+            throw Throwables.propagate(error);
+        }
+    }
+
+    @SuppressWarnings("PMD.NullAssignment")
+    private void stopPool() {
+        poolFactory.close();
+        poolFactory = null;
+        logger.debug("Pool {} closed for '{}'", getType(), uri);
+        uri = null;
     }
 }
@@ -5,6 +5,7 @@ import com.orientechnologies.orient.object.db.OObjectDatabaseTx;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ru.vyarus.guice.persist.orient.db.DbType;
+import ru.vyarus.guice.persist.orient.db.transaction.TransactionManager;
 import ru.vyarus.guice.persist.orient.db.user.UserManager;
 
 import javax.inject.Inject;
@@ -19,11 +20,14 @@ public class ObjectPool implements PoolManager<OObjectDatabaseTx> {
     private final Logger logger = LoggerFactory.getLogger(ObjectPool.class);
 
     private final ThreadLocal<OObjectDatabaseTx> transaction = new ThreadLocal<OObjectDatabaseTx>();
+    private final TransactionManager transactionManager;
     private final DocumentPool documentPool;
     private final UserManager userManager;
 
     @Inject
-    public ObjectPool(final DocumentPool documentPool, final UserManager userManager) {
+    public ObjectPool(final TransactionManager transactionManager, final DocumentPool documentPool,
+                      final UserManager userManager) {
+        this.transactionManager = transactionManager;
         this.documentPool = documentPool;
         this.userManager = userManager;
     }
@@ -56,6 +60,7 @@ public class ObjectPool implements PoolManager<OObjectDatabaseTx> {
             final ODatabaseDocumentTx documentDb = documentPool.get();
             final OObjectDatabaseTx value = new OObjectDatabaseTx(documentDb);
             transaction.set(value);
+            transactionManager.registerPool(this);
         }
         final OObjectDatabaseTx db = transaction.get();
         db.activateOnCurrentThread();
@@ -0,0 +1,27 @@
+package ru.vyarus.guice.persist.orient.db.pool;
+
+import ru.vyarus.guice.persist.orient.db.PersistException;
+
+/**
+ * Thrown when connection could not be obtained from pool: acquire timeout exceeded or too many threads
+ * already waiting for connection (see {@link ru.vyarus.guice.persist.orient.OrientModule#poolAcquireTimeout(long)}
+ * and {@link ru.vyarus.guice.persist.orient.OrientModule#poolAcquireQueueLimit(int)}).
+ * Unit of work is rolled back (nothing was done with connection).
+ * <p>Note that when connection is obtained with guice provider, exception will be wrapped with guice
+ * {@code ProvisionException}.</p>
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class PoolExhaustedException extends PersistException {
+
+    private static final long serialVersionUID = 1L;
+
+    public PoolExhaustedException(final String message) {
+        super(message);
+    }
+
+    public PoolExhaustedException(final String message, final Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -11,8 +11,13 @@ import ru.vyarus.guice.persist.orient.db.DbType;
  * its own thread local transaction.
  * In default pool implementations single document connection is shared between pools.</p>
  * <p>To change pool size use {@code OGlobalConfiguration.DB_POOL_MAX.setValue()}. By default pools it's 100.</p>
+ * <p>Default document pool opens {@code OGlobalConfiguration.DB_POOL_MIN} connections on start (1 by default).</p>
  * <p>Do not use global pools in implementations - always create new one to avoid possible
  * collisions with other pools</p>
+ * <p>Pool must register itself in transaction manager
+ * ({@link ru.vyarus.guice.persist.orient.db.transaction.TransactionManager#registerPool(PoolManager)})
+ * when connection is obtained for the first time in transaction: only registered pools are committed or
+ * rolled back.</p>
  * <p>Implementation must rely on {@link ru.vyarus.guice.persist.orient.db.user.UserManager} for actual
  * user credentials.</p>
  *
@@ -37,13 +42,13 @@ public interface PoolManager<T> extends Provider<T> {
     void stop();
 
     /**
-     * Called by transaction manager to commit transaction at the end of unit of work.
-     * Must do nothing if no connection where opened by pool (pool wasn't used).
+     * Called by transaction manager to commit transaction at the end of unit of work (only if pool registered
+     * itself in transaction). Must do nothing if no connection where opened by pool (pool wasn't used).
      */
     void commit();
 
     /**
-     * Called by transaction manager to rollback current connection.
+     * Called by transaction manager to rollback current connection (only if pool registered itself in transaction).
      * Must do nothing if no connection where opened by pool (pool wasn't used)
      */
     void rollback();
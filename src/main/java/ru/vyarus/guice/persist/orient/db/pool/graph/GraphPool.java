@@ -58,6 +58,7 @@ public class GraphPool implements PoolManager<OrientBaseGraph> {
             final OrientBaseGraph graph = transactionManager.getActiveTransactionType() == OTransaction.TXTYPE.NOTX
                     ? new OrientGraphNoTx(documentDb) : new OrientGraph(documentDb);
             transaction.set(graph);
+            transactionManager.registerPool(this);
         }
         final OrientBaseGraph db = transaction.get();
         db.getRawGraph().activateOnCurrentThread();
@@ -0,0 +1,106 @@
+package ru.vyarus.guice.persist.orient.db.pool.metrics;
+
+import com.google.common.collect.Maps;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.vyarus.guice.persist.orient.db.DbType;
+
+import javax.inject.Singleton;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+/**
+ * Pool metrics implementation, collecting {@link PoolStats} for each pool. Statistics of started pool
+ * are published as {@link PoolStatsMXBean} with object name
+ * "ru.vyarus.guice.persist.orient:type=PoolStats,pool=DOCUMENT,uri="memory:db"" (mbean removed on pool stop).
+ * Enabled with {@link ru.vyarus.guice.persist.orient.OrientModule#poolMetrics(boolean)}.
+ * <p>Statistics are preserved between pool restarts (and persistence service restarts).</p>
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@Singleton
+public class JmxPoolMetrics implements PoolMetrics {
+    public static final String DOMAIN = "ru.vyarus.guice.persist.orient";
+
+    private final Logger logger = LoggerFactory.getLogger(JmxPoolMetrics.class);
+
+    // all stats created at once to avoid synchronization on access
+    private final Map<DbType, PoolStats> stats = Maps.newEnumMap(DbType.class);
+    private final Map<DbType, ObjectName> registered = Maps.newEnumMap(DbType.class);
+
+    public JmxPoolMetrics() {
+        for (DbType type : DbType.values()) {
+            stats.put(type, new PoolStats());
+        }
+    }
+
+    /**
+     * @param type pool type
+     * @return pool statistics
+     */
+    public PoolStats getStats(final DbType type) {
+        return stats.get(type);
+    }
+
+    @Override
+    public synchronized void poolStarted(final DbType type, final String uri, final int maxSize) {
+        final PoolStats poolStats = stats.get(type);
+        poolStats.started(uri, maxSize);
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            final ObjectName name = new ObjectName(String.format("%s:type=PoolStats,pool=%s,uri=%s",
+                    DOMAIN, type, ObjectName.quote(uri)));
+            server.registerMBean(poolStats, name);
+            registered.put(type, name);
+        } catch (JMException ex) {
+            // most likely the same database used in different injectors
+            logger.warn(String.format("Failed to register %s pool statistics mbean", type), ex);
+        }
+    }
+
+    @Override
+    public synchronized void poolStopped(final DbType type) {
+        final ObjectName name = registered.remove(type);
+        if (name != null) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+            } catch (JMException ex) {
+                logger.warn(String.format("Failed to unregister %s pool statistics mbean", type), ex);
+            }
+        }
+    }
+
+    @Override
+    public void poolRestarted(final DbType type) {
+        stats.get(type).restarted();
+    }
+
+    @Override
+    public void connectionAcquired(final DbType type, final long nanos) {
+        stats.get(type).acquired(nanos);
+    }
+
+    @Override
+    public void connectionRejected(final DbType type) {
+        stats.get(type).rejected();
+    }
+
+    @Override
+    public void connectionReleased(final DbType type) {
+        stats.get(type).released();
+    }
+
+    @Override
+    public void transactionCommitted(final DbType type, final long nanos) {
+        stats.get(type).committed(nanos);
+    }
+
+    @Override
+    public void transactionRolledBack(final DbType type, final long nanos) {
+        stats.get(type).rolledBack(nanos);
+    }
+}
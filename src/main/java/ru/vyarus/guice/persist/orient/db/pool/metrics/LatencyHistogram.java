@@ -0,0 +1,86 @@
+package ru.vyarus.guice.persist.orient.db.pool.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock free latency histogram with power of two microsecond buckets (bucket N counts values up to 2^N
+ * microseconds). Percentiles are approximate (bucket upper bound), which is enough to see latency trends.
+ * Values are not snapshotted: concurrent recording may cause slightly inconsistent reads.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class LatencyHistogram {
+    // last bucket holds everything above ~36 minutes
+    private static final int BUCKETS = 32;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * @param nanos recorded duration in nanoseconds
+     */
+    public void record(final long nanos) {
+        final long micros = TimeUnit.NANOSECONDS.toMicros(Math.max(nanos, 0));
+        buckets.incrementAndGet(bucket(micros));
+        count.incrementAndGet();
+        total.addAndGet(micros);
+        long current = max.get();
+        while (micros > current && !max.compareAndSet(current, micros)) {
+            current = max.get();
+        }
+    }
+
+    /**
+     * @return recorded values count
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * @return mean value in microseconds
+     */
+    public long getMeanMicros() {
+        final long cnt = count.get();
+        return cnt == 0 ? 0 : total.get() / cnt;
+    }
+
+    /**
+     * @return maximum value in microseconds
+     */
+    public long getMaxMicros() {
+        return max.get();
+    }
+
+    /**
+     * @param percentile percentile (0 - 1)
+     * @return approximate percentile value in microseconds (upper bound of bucket, containing percentile)
+     */
+    public long getPercentileMicros(final double percentile) {
+        final long cnt = count.get();
+        long res = 0;
+        if (cnt > 0) {
+            final long target = (long) Math.ceil(cnt * percentile);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += buckets.get(i);
+                if (seen >= target) {
+                    res = 1L << i;
+                    break;
+                }
+            }
+            res = Math.min(res, max.get());
+        }
+        return res;
+    }
+
+    private int bucket(final long micros) {
+        final int res = micros <= 1 ? 0 : Long.SIZE - Long.numberOfLeadingZeros(micros - 1);
+        return Math.min(res, BUCKETS - 1);
+    }
+}
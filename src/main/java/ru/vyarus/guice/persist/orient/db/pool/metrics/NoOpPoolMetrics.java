@@ -0,0 +1,52 @@
+package ru.vyarus.guice.persist.orient.db.pool.metrics;
+
+import ru.vyarus.guice.persist.orient.db.DbType;
+
+/**
+ * Default no-op pool metrics implementation, used if metrics are not enabled.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class NoOpPoolMetrics implements PoolMetrics {
+
+    @Override
+    public void poolStarted(final DbType type, final String uri, final int maxSize) {
+        // no-op impl
+    }
+
+    @Override
+    public void poolStopped(final DbType type) {
+        // no-op impl
+    }
+
+    @Override
+    public void poolRestarted(final DbType type) {
+        // no-op impl
+    }
+
+    @Override
+    public void connectionAcquired(final DbType type, final long nanos) {
+        // no-op impl
+    }
+
+    @Override
+    public void connectionRejected(final DbType type) {
+        // no-op impl
+    }
+
+    @Override
+    public void connectionReleased(final DbType type) {
+        // no-op impl
+    }
+
+    @Override
+    public void transactionCommitted(final DbType type, final long nanos) {
+        // no-op impl
+    }
+
+    @Override
+    public void transactionRolledBack(final DbType type, final long nanos) {
+        // no-op impl
+    }
+}
@@ -0,0 +1,86 @@
+package ru.vyarus.guice.persist.orient.db.pool.metrics;
+
+import com.google.inject.ImplementedBy;
+import ru.vyarus.guice.persist.orient.db.DbType;
+
+/**
+ * Pool metrics SPI. Pool implementations report connection and transaction events, so pool usage
+ * (and possible pool exhaustion) could be monitored.
+ * <p>By default, no-op implementation used. Enable bundled jmx implementation with
+ * {@link ru.vyarus.guice.persist.orient.OrientModule#poolMetrics(boolean)} or register custom
+ * implementation in guice context: {@code bind(PoolMetrics.class).to(MyMetrics.class)}
+ * (e.g. to report to metrics library).</p>
+ * <p>Implementation must be thread safe and as fast as possible, because it's called on each connection
+ * acquire and release. Implementation must not throw exceptions.</p>
+ * <p>Default pools share single document connection (object and graph pools use connection
+ * from document pool), so all events are reported by document pool only.</p>
+ *
+ * @author Vyacheslav Rusakov
+ * @see JmxPoolMetrics
+ * @since 18.10.2026
+ */
+@ImplementedBy(NoOpPoolMetrics.class)
+public interface PoolMetrics {
+
+    /**
+     * Called after pool start (not called on pool restart).
+     *
+     * @param type    pool type
+     * @param uri     database uri
+     * @param maxSize maximum pool size
+     */
+    void poolStarted(DbType type, String uri, int maxSize);
+
+    /**
+     * Called after pool shutdown (not called on pool restart).
+     *
+     * @param type pool type
+     */
+    void poolStopped(DbType type);
+
+    /**
+     * Called when pool was restarted because of closed connection (see {@code DocumentPool}).
+     *
+     * @param type pool type
+     */
+    void poolRestarted(DbType type);
+
+    /**
+     * Called when connection obtained from pool for unit of work.
+     *
+     * @param type  pool type
+     * @param nanos time spent on connection acquire
+     */
+    void connectionAcquired(DbType type, long nanos);
+
+    /**
+     * Called when connection could not be obtained because of configured acquire limits
+     * (see {@link ru.vyarus.guice.persist.orient.db.pool.PoolExhaustedException}).
+     *
+     * @param type pool type
+     */
+    void connectionRejected(DbType type);
+
+    /**
+     * Called when connection returned back to pool (unit of work finished).
+     *
+     * @param type pool type
+     */
+    void connectionReleased(DbType type);
+
+    /**
+     * Called after successful transaction commit.
+     *
+     * @param type  pool type
+     * @param nanos commit duration
+     */
+    void transactionCommitted(DbType type, long nanos);
+
+    /**
+     * Called after transaction rollback.
+     *
+     * @param type  pool type
+     * @param nanos rollback duration
+     */
+    void transactionRolledBack(DbType type, long nanos);
+}
@@ -0,0 +1,142 @@
+package ru.vyarus.guice.persist.orient.db.pool.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Statistics of single pool.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class PoolStats implements PoolStatsMXBean {
+    private static final double P99 = 0.99;
+
+    private final LatencyHistogram acquire = new LatencyHistogram();
+    private final LatencyHistogram commit = new LatencyHistogram();
+    private final LatencyHistogram rollback = new LatencyHistogram();
+    private final AtomicLong inUse = new AtomicLong();
+    private final AtomicLong peak = new AtomicLong();
+    private final AtomicLong restarts = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private volatile String uri;
+    private volatile int maxPoolSize;
+
+    public void started(final String uri, final int maxPoolSize) {
+        this.uri = uri;
+        this.maxPoolSize = maxPoolSize;
+    }
+
+    public void restarted() {
+        restarts.incrementAndGet();
+    }
+
+    public void acquired(final long nanos) {
+        acquire.record(nanos);
+        final long used = inUse.incrementAndGet();
+        long current = peak.get();
+        while (used > current && !peak.compareAndSet(current, used)) {
+            current = peak.get();
+        }
+    }
+
+    public void rejected() {
+        rejected.incrementAndGet();
+    }
+
+    public void released() {
+        inUse.decrementAndGet();
+    }
+
+    public void committed(final long nanos) {
+        commit.record(nanos);
+    }
+
+    public void rolledBack(final long nanos) {
+        rollback.record(nanos);
+    }
+
+    @Override
+    public String getUri() {
+        return uri;
+    }
+
+    @Override
+    public int getMaxPoolSize() {
+        return maxPoolSize;
+    }
+
+    @Override
+    public long getConnectionsInUse() {
+        return inUse.get();
+    }
+
+    @Override
+    public long getPeakConnectionsInUse() {
+        return peak.get();
+    }
+
+    @Override
+    public long getRestarts() {
+        return restarts.get();
+    }
+
+    @Override
+    public long getAcquireCount() {
+        return acquire.getCount();
+    }
+
+    @Override
+    public long getAcquireMeanMicros() {
+        return acquire.getMeanMicros();
+    }
+
+    @Override
+    public long getAcquire99thPercentileMicros() {
+        return acquire.getPercentileMicros(P99);
+    }
+
+    @Override
+    public long getAcquireMaxMicros() {
+        return acquire.getMaxMicros();
+    }
+
+    @Override
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    @Override
+    public long getCommitCount() {
+        return commit.getCount();
+    }
+
+    @Override
+    public long getCommitMeanMicros() {
+        return commit.getMeanMicros();
+    }
+
+    @Override
+    public long getCommit99thPercentileMicros() {
+        return commit.getPercentileMicros(P99);
+    }
+
+    @Override
+    public long getCommitMaxMicros() {
+        return commit.getMaxMicros();
+    }
+
+    @Override
+    public long getRollbackCount() {
+        return rollback.getCount();
+    }
+
+    @Override
+    public long getRollbackMeanMicros() {
+        return rollback.getMeanMicros();
+    }
+
+    @Override
+    public long getRollbackMaxMicros() {
+        return rollback.getMaxMicros();
+    }
+}
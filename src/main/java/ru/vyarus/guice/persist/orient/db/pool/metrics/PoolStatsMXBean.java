@@ -0,0 +1,96 @@
+package ru.vyarus.guice.persist.orient.db.pool.metrics;
+
+/**
+ * Pool statistics jmx view. All times are in microseconds, percentiles are approximate.
+ *
+ * @author Vyacheslav Rusakov
+ * @see JmxPoolMetrics
+ * @since 18.10.2026
+ */
+public interface PoolStatsMXBean {
+
+    /**
+     * @return database uri
+     */
+    String getUri();
+
+    /**
+     * @return maximum pool size
+     */
+    int getMaxPoolSize();
+
+    /**
+     * @return connections currently used by units of work
+     */
+    long getConnectionsInUse();
+
+    /**
+     * @return maximum connections used simultaneously
+     */
+    long getPeakConnectionsInUse();
+
+    /**
+     * @return pool restarts count (caused by closed connections)
+     */
+    long getRestarts();
+
+    /**
+     * @return acquired connections count
+     */
+    long getAcquireCount();
+
+    /**
+     * @return mean connection acquire time
+     */
+    long getAcquireMeanMicros();
+
+    /**
+     * @return 99th percentile of connection acquire time
+     */
+    long getAcquire99thPercentileMicros();
+
+    /**
+     * @return maximum connection acquire time
+     */
+    long getAcquireMaxMicros();
+
+    /**
+     * @return connection requests rejected because of acquire limits (timeout or waiting queue)
+     */
+    long getRejectedCount();
+
+    /**
+     * @return committed transactions count
+     */
+    long getCommitCount();
+
+    /**
+     * @return mean commit time
+     */
+    long getCommitMeanMicros();
+
+    /**
+     * @return 99th percentile of commit time
+     */
+    long getCommit99thPercentileMicros();
+
+    /**
+     * @return maximum commit time
+     */
+    long getCommitMaxMicros();
+
+    /**
+     * @return rolled back transactions count
+     */
+    long getRollbackCount();
+
+    /**
+     * @return mean rollback time
+     */
+    long getRollbackMeanMicros();
+
+    /**
+     * @return maximum rollback time
+     */
+    long getRollbackMaxMicros();
+}
@@ -0,0 +1,98 @@
+package ru.vyarus.guice.persist.orient.db.retry;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Retry statistics of single method, annotated with {@link Retry}. Also holds method retry budget state.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class MethodRetryStats {
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong retries = new AtomicLong();
+    private final AtomicLong recovered = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong budgetExhausted = new AtomicLong();
+
+    // budget window state (accessed only when retry required)
+    private long windowStart;
+    private int windowRetries;
+
+    /**
+     * @return method calls count
+     */
+    public long getCalls() {
+        return calls.get();
+    }
+
+    /**
+     * @return total retries count
+     */
+    public long getRetries() {
+        return retries.get();
+    }
+
+    /**
+     * @return count of calls succeeded after one or more retries
+     */
+    public long getRecovered() {
+        return recovered.get();
+    }
+
+    /**
+     * @return count of calls failed with retry exception (retries count or budget exceeded)
+     */
+    public long getFailed() {
+        return failed.get();
+    }
+
+    /**
+     * @return count of retries declined because of exhausted retry budget
+     */
+    public long getBudgetExhausted() {
+        return budgetExhausted.get();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("calls=%s, retries=%s, recovered=%s, failed=%s, budget exhausted=%s",
+                getCalls(), getRetries(), getRecovered(), getFailed(), getBudgetExhausted());
+    }
+
+    void called() {
+        calls.incrementAndGet();
+    }
+
+    void retried() {
+        retries.incrementAndGet();
+    }
+
+    void recovered() {
+        recovered.incrementAndGet();
+    }
+
+    void failed() {
+        failed.incrementAndGet();
+    }
+
+    /**
+     * @param budget       allowed retries within window
+     * @param windowMillis window size
+     * @return true if retry allowed, false if budget exhausted
+     */
+    synchronized boolean acquireBudget(final int budget, final long windowMillis) {
+        final long now = System.currentTimeMillis();
+        if (now - windowStart >= windowMillis) {
+            windowStart = now;
+            windowRetries = 0;
+        }
+        final boolean res = windowRetries < budget;
+        if (res) {
+            windowRetries++;
+        } else {
+            budgetExhausted.incrementAndGet();
+        }
+        return res;
+    }
+}
@@ -21,6 +21,14 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
  * and it will fail because of transaction check. For simple update cases
  * {@link ru.vyarus.guice.persist.orient.repository.command.script.Script} may be used to fix
  * concurrent exceptions: {@code @Script("begin update ... commit)} (even without retry it could fix problem).</p>
+ * <p>By default, retries are performed immediately. Under high contention on hot records, competing threads
+ * retry at the same time and collide again. Use {@link #delay()} to wait between retries (exponential backoff
+ * with {@link #multiplier()}, {@link #maxDelay()} and {@link #jitter()} to spread competing threads):
+ * {@code @Retry(value = 5, delay = 10, multiplier = 2, maxDelay = 200, jitter = 0.5)}.</p>
+ * <p>Retry storms could be prevented with retry budget: {@code @Retry(value = 5, budget = 100)} allows only 100
+ * retries of method per second (for all threads); when budget is exhausted, retry exception is propagated
+ * immediately.</p>
+ * <p>Retry counts and outcomes are collected per method (see {@link RetryStatistics}).</p>
  *
  * @author Vyacheslav Rusakov
  * @since 03.03.2015
@@ -33,4 +41,37 @@ public @interface Retry {
      * @return count of retries
      */
     int value();
+
+    /**
+     * @return initial delay before retry in milliseconds (0 to retry immediately)
+     */
+    long delay() default 0;
+
+    /**
+     * @return delay multiplier applied for each next retry (1 for fixed delay)
+     */
+    double multiplier() default 2;
+
+    /**
+     * @return maximum delay between retries in milliseconds (0 for no limit)
+     */
+    long maxDelay() default 0;
+
+    /**
+     * Random delay deviation: 0.5 means that actual delay will be randomly selected between 50% and 150% of
+     * computed delay.
+     *
+     * @return delay randomization factor (0 - 1)
+     */
+    double jitter() default 0;
+
+    /**
+     * @return maximum count of method retries (for all threads) within {@link #budgetWindow()} (0 for no limit)
+     */
+    int budget() default 0;
+
+    /**
+     * @return retry budget window in milliseconds
+     */
+    long budgetWindow() default 1000;
 }
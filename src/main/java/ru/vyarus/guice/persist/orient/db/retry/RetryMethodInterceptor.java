@@ -5,10 +5,14 @@ import com.google.inject.Inject;
 import com.orientechnologies.common.concur.ONeedRetryException;
 import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import ru.vyarus.guice.persist.orient.db.transaction.TransactionManager;
 import ru.vyarus.guice.persist.orient.repository.core.util.RepositoryUtils;
 
 import javax.inject.Singleton;
+import java.lang.reflect.Method;
+import java.util.Random;
 
 /**
  * {@link Retry} annotation aop interceptor. Must be registered before {@link com.google.inject.persist.Transactional}.
@@ -18,21 +22,27 @@ import javax.inject.Singleton;
  */
 @Singleton
 public class RetryMethodInterceptor implements MethodInterceptor {
+    private static final Random RANDOM = new Random();
+    private final Logger logger = LoggerFactory.getLogger(RetryMethodInterceptor.class);
 
     @Inject
     private TransactionManager transactionManager;
+    @Inject
+    private RetryStatistics statistics;
 
     @Override
     public Object invoke(final MethodInvocation invocation) throws Throwable {
+        final Method method = invocation.getMethod();
         Preconditions.checkState(!transactionManager.isTransactionActive(),
                 "@Retry annotation makes no sense on method %s: because retry errors appear on commit and "
                         + "its impossible to catch them inside transaction.",
-                RepositoryUtils.methodToString(invocation.getMethod()));
-        final int retryCount = invocation.getMethod().getAnnotation(Retry.class).value();
-        Preconditions.checkArgument(retryCount >= 1,
-                "Bad @Retry annotation on method %s: retry count must be >= 1",
-                RepositoryUtils.methodToString(invocation.getMethod()));
+                RepositoryUtils.methodToString(method));
+        final Retry retry = method.getAnnotation(Retry.class);
+        validate(retry, method);
+        final MethodRetryStats stats = statistics.getStats(method);
+        stats.called();
         int count = 0;
+        double delay = retry.delay();
         Object res;
         while (true) {
             try {
@@ -40,14 +50,61 @@ public class RetryMethodInterceptor implements MethodInterceptor {
                 break;
             } catch (Throwable th) {
                 count++;
-                if (!isRetryException(th) || retryCount < count) {
+                if (!isRetryException(th)) {
+                    throw th;
+                }
+                if (retry.value() < count || (retry.budget() > 0
+                        && !stats.acquireBudget(retry.budget(), retry.budgetWindow()))) {
+                    stats.failed();
                     throw th;
                 }
+                stats.retried();
+                logger.debug("Retry {} of method {}", count, RepositoryUtils.methodToString(method));
+                delay = backoff(retry, delay, th);
             }
         }
+        if (count > 0) {
+            stats.recovered();
+        }
         return res;
     }
 
+    private void validate(final Retry retry, final Method method) {
+        Preconditions.checkArgument(retry.value() >= 1,
+                "Bad @Retry annotation on method %s: retry count must be >= 1",
+                RepositoryUtils.methodToString(method));
+        Preconditions.checkArgument(retry.delay() >= 0 && retry.multiplier() >= 1
+                        && retry.jitter() >= 0 && retry.jitter() <= 1,
+                "Bad @Retry annotation on method %s: delay must be >= 0, multiplier >= 1 and jitter in 0 - 1",
+                RepositoryUtils.methodToString(method));
+    }
+
+    /**
+     * Waits before next retry (if delay configured).
+     *
+     * @param retry annotation
+     * @param delay current delay
+     * @param th    retry exception (thrown if waiting interrupted)
+     * @return next delay
+     * @throws Throwable original exception if thread interrupted
+     */
+    private double backoff(final Retry retry, final double delay, final Throwable th) throws Throwable {
+        if (delay <= 0) {
+            return delay;
+        }
+        double sleep = retry.maxDelay() > 0 ? Math.min(delay, retry.maxDelay()) : delay;
+        if (retry.jitter() > 0) {
+            sleep = sleep * (1 + retry.jitter() * (2 * RANDOM.nextDouble() - 1));
+        }
+        try {
+            Thread.sleep(Math.round(sleep));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw th;
+        }
+        return delay * retry.multiplier();
+    }
+
     /**
      * Searching for {@link com.orientechnologies.common.concur.ONeedRetryException} in exception hierarchy.
      *
@@ -0,0 +1,49 @@
+package ru.vyarus.guice.persist.orient.db.retry;
+
+import com.google.common.collect.Maps;
+import ru.vyarus.guice.persist.orient.repository.core.util.RepositoryUtils;
+
+import javax.inject.Singleton;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Retry statistics of all {@link Retry} annotated methods (collected since application start).
+ * Inject to see which methods are contended: {@code @Inject RetryStatistics stats}.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@Singleton
+public class RetryStatistics {
+    private final ConcurrentMap<Method, MethodRetryStats> stats = new ConcurrentHashMap<Method, MethodRetryStats>();
+
+    /**
+     * @param method annotated method
+     * @return method statistics (never null)
+     */
+    public MethodRetryStats getStats(final Method method) {
+        MethodRetryStats res = stats.get(method);
+        if (res == null) {
+            final MethodRetryStats created = new MethodRetryStats();
+            res = stats.putIfAbsent(method, created);
+            if (res == null) {
+                res = created;
+            }
+        }
+        return res;
+    }
+
+    /**
+     * @return statistics of all called methods (method string as key)
+     */
+    public Map<String, MethodRetryStats> getAll() {
+        final Map<String, MethodRetryStats> res = Maps.newTreeMap();
+        for (Map.Entry<Method, MethodRetryStats> entry : stats.entrySet()) {
+            res.put(RepositoryUtils.methodToString(entry.getKey()), entry.getValue());
+        }
+        return res;
+    }
+}
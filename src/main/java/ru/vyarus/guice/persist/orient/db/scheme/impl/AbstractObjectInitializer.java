@@ -49,7 +49,7 @@ public abstract class AbstractObjectInitializer implements SchemeInitializer {
     @Override
     public void initialize() {
         final OObjectDatabaseTx db = dbProvider.get();
-        registerClasses(scan());
+        schemeInitializer.register(scan());
         // important to guarantee correct state in dynamic environments (like tests or using different databases)
         db.getMetadata().getSchema().synchronizeSchema();
         db.getMetadata().reload();
@@ -82,10 +82,4 @@ public abstract class AbstractObjectInitializer implements SchemeInitializer {
                 "No model classes found in packages: %s", Joiner.on(", ").join(packages));
         return modelClasses;
     }
-
-    private void registerClasses(final Iterable<Class<?>> classes) {
-        for (Class<?> cls : classes) {
-            schemeInitializer.register(cls);
-        }
-    }
 }
@@ -1,14 +1,18 @@
 package ru.vyarus.guice.persist.orient.db.scheme.initializer;
 
+import com.google.common.base.Stopwatch;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import com.orientechnologies.orient.object.db.OObjectDatabaseTx;
 import com.orientechnologies.orient.object.metadata.schema.OSchemaProxyObject;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import ru.vyarus.guice.persist.orient.db.scheme.SchemeInitializationException;
 import ru.vyarus.guice.persist.orient.db.scheme.initializer.core.ext.ExtensionsDescriptor;
 import ru.vyarus.guice.persist.orient.db.scheme.initializer.core.ext.ExtensionsDescriptorFactory;
 import ru.vyarus.guice.persist.orient.db.scheme.initializer.core.spi.SchemeDescriptor;
+import ru.vyarus.guice.persist.orient.db.scheme.initializer.core.spi.SchemeReloadRequired;
 import ru.vyarus.guice.persist.orient.db.scheme.initializer.core.spi.field.FieldExtension;
 import ru.vyarus.guice.persist.orient.db.scheme.initializer.core.spi.type.TypeExtension;
 import ru.vyarus.guice.persist.orient.db.scheme.initializer.core.util.SchemeUtils;
@@ -17,8 +21,10 @@ import javax.inject.Inject;
 import javax.inject.Provider;
 import javax.inject.Singleton;
 import java.lang.reflect.Field;
+import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Extends default orient scheme initialization with plugins. Very useful for development to quickly update
@@ -34,7 +40,12 @@ import java.util.Set;
  * new extension instance will be used for each class registration.</p>
  * <p>To avoid processing same types many times (e.g. some base class, extended by may model classes),
  * all classes are processed just once (cached). To clear case use {@link #clearModelCache()}.</p>
- * <p>Class is not intended to be used in concurrent environment (usually model update is synchronous).</p>
+ * <p>Schema is synchronized (all registered classes) and reloaded once per registration call (not for each
+ * type). Local schema is updated by orient api calls, so it is reloaded again only after extensions,
+ * implementing {@link SchemeReloadRequired} (modifying scheme with sql commands).</p>
+ * <p>Scheme modifications (extensions, orient registration, schema reload) are performed sequentially
+ * under single lock: orient schema and index manager locks could deadlock when scheme is modified concurrently.
+ * Time spent in each registration phase is logged.</p>
  *
  * @author Vyacheslav Rusakov
  * @since 04.03.2015
@@ -42,7 +53,9 @@ import java.util.Set;
 @Singleton
 @SuppressFBWarnings("URF_UNREAD_PUBLIC_OR_PROTECTED_FIELD")
 public class ObjectSchemeInitializer {
-    private final Set<Class<?>> processingCache = Sets.newHashSet();
+    private final Logger logger = LoggerFactory.getLogger(ObjectSchemeInitializer.class);
+    private final Set<Class<?>> processingCache = Sets.newConcurrentHashSet();
+    private final Object schemeLock = new Object();
 
     private final Provider<OObjectDatabaseTx> dbProvider;
     private final ExtensionsDescriptorFactory extFactory;
@@ -62,17 +75,32 @@ public class ObjectSchemeInitializer {
      * @param model model class
      */
     public void register(final Class<?> model) {
+        final PhaseStats stats = new PhaseStats();
         final OObjectDatabaseTx db = dbProvider.get();
-        // auto create schema for new classes
-        db.setAutomaticSchemaGeneration(true);
-        // processing lower hierarchy types first
-        try {
-            for (Class<?> type : Lists.reverse(SchemeUtils.resolveHierarchy(model))) {
-                processType(db, type);
+        synchronized (schemeLock) {
+            synchronizeSchema(db, stats);
+            registerHierarchy(db, model, stats);
+        }
+        logger.debug("Model class {} registered: {}", model.getName(), stats);
+    }
+
+    /**
+     * Register multiple model classes. Schema is synchronized just once for all classes. Then each class is
+     * registered as {@link #register(Class)} (preserving classes order).
+     *
+     * @param models model classes
+     */
+    public void register(final Collection<Class<?>> models) {
+        final Stopwatch timer = Stopwatch.createStarted();
+        final PhaseStats stats = new PhaseStats();
+        final OObjectDatabaseTx db = dbProvider.get();
+        synchronized (schemeLock) {
+            synchronizeSchema(db, stats);
+            for (Class<?> model : models) {
+                registerHierarchy(db, model, stats);
             }
-        } catch (Throwable th) {
-            throw new SchemeInitializationException("Failed to register model class " + model.getName(), th);
         }
+        logger.info("{} model classes registered in {}: {}", models.size(), timer.stop(), stats);
     }
 
     /**
@@ -82,29 +110,78 @@ public class ObjectSchemeInitializer {
         processingCache.clear();
     }
 
-    private void processType(final OObjectDatabaseTx db, final Class<?> model) {
-        // avoid processing same types
-        if (processingCache.contains(model)) {
-            return;
-        }
-        final ExtensionsDescriptor extDesc = extFactory.resolveExtensions(model);
-
+    private void synchronizeSchema(final OObjectDatabaseTx db, final PhaseStats stats) {
+        final long start = System.nanoTime();
         // synchronize before registration to make sure actual scheme will be used (some classes may be registered
         // manually and not visible in schema yet)
         final OSchemaProxyObject schema = db.getMetadata().getSchema();
         schema.synchronizeSchema();
         schema.reload();
-        final SchemeDescriptor desc = buildDescriptor(db, model);
+        stats.schema += System.nanoTime() - start;
+    }
 
-        // synchronization is performed after each extension to make sure local schema model is actual
-        // (especially important for remote connection)
-        executeBefore(extDesc, desc, db);
-        db.getEntityManager().registerEntityClass(model);
-        desc.registered = true;
-        schema.synchronizeSchema();
-        schema.reload();
-        executeAfter(extDesc, desc, db);
-        processingCache.add(model);
+    private void registerHierarchy(final OObjectDatabaseTx db, final Class<?> model, final PhaseStats stats) {
+        // auto create schema for new classes
+        db.setAutomaticSchemaGeneration(true);
+        // processing lower hierarchy types first
+        try {
+            for (Class<?> type : Lists.reverse(SchemeUtils.resolveHierarchy(model))) {
+                processType(db, type, stats);
+            }
+        } catch (Throwable th) {
+            throw new SchemeInitializationException("Failed to register model class " + model.getName(), th);
+        }
+    }
+
+    private void processType(final OObjectDatabaseTx db, final Class<?> model, final PhaseStats stats) {
+        // avoid processing same types
+        if (!processingCache.add(model)) {
+            return;
+        }
+        try {
+            long start = System.nanoTime();
+            final ExtensionsDescriptor extDesc = extFactory.resolveExtensions(model);
+            stats.resolution += System.nanoTime() - start;
+            final SchemeDescriptor desc = buildDescriptor(db, model);
+
+            start = System.nanoTime();
+            executeBefore(extDesc, desc, db);
+            stats.before += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            db.getEntityManager().registerEntityClass(model);
+            desc.registered = true;
+            generateSchema(db, model);
+            stats.registration += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            executeAfter(extDesc, desc, db);
+            stats.after += System.nanoTime() - start;
+        } catch (RuntimeException ex) {
+            // allow processing type again
+            processingCache.remove(model);
+            throw ex;
+        }
+    }
+
+    /**
+     * Orient generates schema on first class registration only, so generation is required for already
+     * registered class (e.g. new fields or scheme class was removed by extension). Only registered type
+     * is synchronized (instead of all registered classes).
+     *
+     * @param db    database object
+     * @param model registered model class
+     */
+    private void generateSchema(final OObjectDatabaseTx db, final Class<?> model) {
+        if (model.equals(db.getEntityManager().getEntityClass(model.getSimpleName()))) {
+            final OSchemaProxyObject schema = db.getMetadata().getSchema();
+            if (schema.existsClass(model.getSimpleName())) {
+                schema.generateSchema(model);
+            } else {
+                // scheme class removed: full synchronization will also restore class hierarchy
+                schema.synchronizeSchema();
+            }
+        }
     }
 
     private SchemeDescriptor buildDescriptor(final OObjectDatabaseTx db, final Class<?> model) {
@@ -121,32 +198,60 @@ public class ObjectSchemeInitializer {
     @SuppressWarnings("unchecked")
     private void executeBefore(final ExtensionsDescriptor extDesc, final SchemeDescriptor desc,
                                final OObjectDatabaseTx db) {
-        final OSchemaProxyObject schema = db.getMetadata().getSchema();
         for (ExtensionsDescriptor.Ext<TypeExtension, Class> ext : extDesc.type) {
             ext.extension.beforeRegistration(db, desc, ext.annotation);
-            schema.reload();
+            reloadIfRequired(db, ext.extension);
         }
         for (Map.Entry<String, ExtensionsDescriptor.Ext<FieldExtension, Field>> entry
                 : extDesc.fields.entries()) {
             final ExtensionsDescriptor.Ext<FieldExtension, Field> ext = entry.getValue();
             ext.extension.beforeRegistration(db, desc, ext.source, ext.annotation);
-            schema.reload();
+            reloadIfRequired(db, ext.extension);
         }
     }
 
     @SuppressWarnings("unchecked")
     private void executeAfter(final ExtensionsDescriptor extDesc, final SchemeDescriptor desc,
                               final OObjectDatabaseTx db) {
-        final OSchemaProxyObject schema = db.getMetadata().getSchema();
         for (ExtensionsDescriptor.Ext<TypeExtension, Class> ext : extDesc.type) {
             ext.extension.afterRegistration(db, desc, ext.annotation);
-            schema.reload();
+            reloadIfRequired(db, ext.extension);
         }
         for (Map.Entry<String, ExtensionsDescriptor.Ext<FieldExtension, Field>> entry
                 : extDesc.fields.entries()) {
             final ExtensionsDescriptor.Ext<FieldExtension, Field> ext = entry.getValue();
             ext.extension.afterRegistration(db, desc, ext.source, ext.annotation);
-            schema.reload();
+            reloadIfRequired(db, ext.extension);
+        }
+    }
+
+    private void reloadIfRequired(final OObjectDatabaseTx db, final Object extension) {
+        // extension modified scheme with sql: local schema must be reloaded (especially important for remote
+        // connection)
+        if (extension instanceof SchemeReloadRequired) {
+            db.getMetadata().getSchema().reload();
+        }
+    }
+
+    /**
+     * Time spent in registration phases (nanoseconds).
+     */
+    private static class PhaseStats {
+        private long resolution;
+        private long schema;
+        private long before;
+        private long registration;
+        private long after;
+
+        @Override
+        public String toString() {
+            return String.format("extensions resolution %s ms, schema sync %s ms, before extensions %s ms, "
+                    + "registration %s ms, after extensions %s ms", millis(resolution), millis(schema),
+                    millis(before), millis(registration), millis(after));
+        }
+
+        private static long millis(final long nanos) {
+            return TimeUnit.NANOSECONDS.toMillis(nanos);
         }
     }
 }
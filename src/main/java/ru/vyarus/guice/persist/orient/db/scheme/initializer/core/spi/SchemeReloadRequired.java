@@ -0,0 +1,16 @@
+package ru.vyarus.guice.persist.orient.db.scheme.initializer.core.spi;
+
+/**
+ * Marker interface for type and field extensions, which modify scheme with sql commands (or any other way,
+ * bypassing connection schema api). Local schema snapshot is reloaded after each call of such extension
+ * (before and after registration), so the next extension will see actual scheme.
+ * <p>Extensions, using only schema api ({@code db.getMetadata().getSchema()}), does not need to implement it:
+ * local schema is updated directly in this case and reload would be just a waste of time (especially for remote
+ * connection).</p>
+ *
+ * @author Vyacheslav Rusakov
+ * @see ru.vyarus.guice.persist.orient.db.scheme.initializer.ObjectSchemeInitializer
+ * @since 18.10.2026
+ */
+public interface SchemeReloadRequired {
+}
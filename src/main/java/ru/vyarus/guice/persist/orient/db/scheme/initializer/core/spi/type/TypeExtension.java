@@ -11,6 +11,10 @@ import java.lang.annotation.Annotation;
  * <p>Use {@link ru.vyarus.guice.persist.orient.db.util.Order} to order extensions.</p>
  * <p>Extension is obtained from guice context. If prototype scope used, different instances will be used for each
  * model (but same instance will be used for before/after calls for processing class).</p>
+ * <p>Local schema is not reloaded between extensions. Extension, modifying scheme with sql commands (or any other
+ * way bypassing {@code db.getMetadata().getSchema()} api), must implement
+ * {@link ru.vyarus.guice.persist.orient.db.scheme.initializer.core.spi.SchemeReloadRequired}, otherwise
+ * following extensions and orient registration will see outdated schema.</p>
  *
  * @param <A> annotation type
  * @author Vyacheslav Rusakov
@@ -11,6 +11,7 @@ import org.apache.lucene.analysis.standard.StandardAnalyzer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ru.vyarus.guice.persist.orient.db.scheme.initializer.core.spi.SchemeDescriptor;
+import ru.vyarus.guice.persist.orient.db.scheme.initializer.core.spi.SchemeReloadRequired;
 import ru.vyarus.guice.persist.orient.db.scheme.initializer.core.spi.field.FieldExtension;
 import ru.vyarus.guice.persist.orient.db.scheme.initializer.core.util.SchemeUtils;
 import ru.vyarus.guice.persist.orient.db.scheme.initializer.ext.field.index.IndexValidationSupport;
@@ -27,7 +28,7 @@ import java.lang.reflect.Field;
  * @since 14.06.2015
  */
 @Singleton
-public class LuceneIndexFieldExtension implements FieldExtension<LuceneIndex> {
+public class LuceneIndexFieldExtension implements FieldExtension<LuceneIndex>, SchemeReloadRequired {
     public static final String ANALYZER = "analyzer";
     private final Logger logger = LoggerFactory.getLogger(LuceneIndexFieldExtension.class);
 
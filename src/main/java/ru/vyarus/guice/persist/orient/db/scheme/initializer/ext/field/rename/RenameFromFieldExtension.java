@@ -6,6 +6,7 @@ import com.orientechnologies.orient.object.db.OObjectDatabaseTx;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ru.vyarus.guice.persist.orient.db.scheme.initializer.core.spi.SchemeDescriptor;
+import ru.vyarus.guice.persist.orient.db.scheme.initializer.core.spi.SchemeReloadRequired;
 import ru.vyarus.guice.persist.orient.db.scheme.initializer.core.spi.field.FieldExtension;
 import ru.vyarus.guice.persist.orient.db.scheme.initializer.core.util.SchemeUtils;
 import ru.vyarus.guice.persist.orient.db.util.Order;
@@ -24,7 +25,7 @@ import static ru.vyarus.guice.persist.orient.db.scheme.SchemeInitializationExcep
 @Singleton
 // property rename should be performed before other extensions
 @Order(-10)
-public class RenameFromFieldExtension implements FieldExtension<RenamePropertyFrom> {
+public class RenameFromFieldExtension implements FieldExtension<RenamePropertyFrom>, SchemeReloadRequired {
     private final Logger logger = LoggerFactory.getLogger(RenameFromFieldExtension.class);
 
     @Override
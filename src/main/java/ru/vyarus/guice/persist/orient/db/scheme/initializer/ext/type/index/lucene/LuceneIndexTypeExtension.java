@@ -13,6 +13,7 @@ import org.apache.lucene.analysis.standard.StandardAnalyzer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ru.vyarus.guice.persist.orient.db.scheme.initializer.core.spi.SchemeDescriptor;
+import ru.vyarus.guice.persist.orient.db.scheme.initializer.core.spi.SchemeReloadRequired;
 import ru.vyarus.guice.persist.orient.db.scheme.initializer.core.spi.type.TypeExtension;
 import ru.vyarus.guice.persist.orient.db.scheme.initializer.core.util.SchemeUtils;
 import ru.vyarus.guice.persist.orient.db.scheme.initializer.ext.field.index.IndexValidationSupport;
@@ -29,7 +30,7 @@ import javax.inject.Singleton;
  * @since 20.06.2015
  */
 @Singleton
-public class LuceneIndexTypeExtension implements TypeExtension<CompositeLuceneIndex> {
+public class LuceneIndexTypeExtension implements TypeExtension<CompositeLuceneIndex>, SchemeReloadRequired {
     private final Logger logger = LoggerFactory.getLogger(LuceneIndexTypeExtension.class);
 
     @Override
@@ -5,6 +5,7 @@ import com.orientechnologies.orient.object.db.OObjectDatabaseTx;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ru.vyarus.guice.persist.orient.db.scheme.initializer.core.spi.SchemeDescriptor;
+import ru.vyarus.guice.persist.orient.db.scheme.initializer.core.spi.SchemeReloadRequired;
 import ru.vyarus.guice.persist.orient.db.scheme.initializer.core.spi.type.TypeExtension;
 import ru.vyarus.guice.persist.orient.db.scheme.initializer.core.util.SchemeUtils;
 import ru.vyarus.guice.persist.orient.db.util.Order;
@@ -22,7 +23,7 @@ import static ru.vyarus.guice.persist.orient.db.scheme.SchemeInitializationExcep
 @Singleton
 // class rename should be performed before other extensions
 @Order(-10)
-public class RenameFromTypeExtension implements TypeExtension<RenameFrom> {
+public class RenameFromTypeExtension implements TypeExtension<RenameFrom>, SchemeReloadRequired {
     private final Logger logger = LoggerFactory.getLogger(RenameFromTypeExtension.class);
 
     @Override
@@ -7,6 +7,7 @@ import org.slf4j.LoggerFactory;
 import ru.vyarus.guice.persist.orient.db.DatabaseManager;
 import ru.vyarus.guice.persist.orient.db.DbType;
 import ru.vyarus.guice.persist.orient.db.scheme.initializer.core.spi.SchemeDescriptor;
+import ru.vyarus.guice.persist.orient.db.scheme.initializer.core.spi.SchemeReloadRequired;
 import ru.vyarus.guice.persist.orient.db.scheme.initializer.core.spi.type.TypeExtension;
 import ru.vyarus.guice.persist.orient.db.scheme.initializer.core.util.SchemeUtils;
 
@@ -20,7 +21,7 @@ import javax.inject.Singleton;
  * @since 04.03.2015
  */
 @Singleton
-public class VertexTypeExtension implements TypeExtension<VertexType> {
+public class VertexTypeExtension implements TypeExtension<VertexType>, SchemeReloadRequired {
     private final Logger logger = LoggerFactory.getLogger(VertexTypeExtension.class);
 
     private final DatabaseManager databaseManager;
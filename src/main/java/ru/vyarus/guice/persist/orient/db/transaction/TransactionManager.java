@@ -3,6 +3,7 @@ package ru.vyarus.guice.persist.orient.db.transaction;
 import com.google.inject.ImplementedBy;
 import com.google.inject.persist.UnitOfWork;
 import com.orientechnologies.orient.core.tx.OTransaction;
+import ru.vyarus.guice.persist.orient.db.pool.PoolManager;
 import ru.vyarus.guice.persist.orient.db.transaction.internal.DefaultTransactionManager;
 
 /**
@@ -85,6 +86,15 @@ public interface TransactionManager extends UnitOfWork {
      */
     void rollback(Throwable ex);
 
+    /**
+     * Called by pool when it provides connection for the first time in current transaction. Only registered pools
+     * are committed or rolled back at the end of transaction (in registration order).
+     * Repeated registration is ignored.
+     *
+     * @param pool pool participating in current transaction
+     */
+    void registerPool(PoolManager<?> pool);
+
     /**
      * @return true if active transaction (ongoing unit of work), false otherwise
      */
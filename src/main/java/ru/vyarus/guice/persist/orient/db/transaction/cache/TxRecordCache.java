@@ -0,0 +1,145 @@
+package ru.vyarus.guice.persist.orient.db.transaction.cache;
+
+import com.google.common.collect.Maps;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import ru.vyarus.guice.persist.orient.db.DbType;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Transaction scoped identity map (first level cache): repeated record loads by id within one unit of work return
+ * the same instance (no repeated load and deserialization). Cache is cleared by transaction manager at the end of
+ * transaction (commit or rollback).
+ * <p>Disabled by default, enable with
+ * {@link ru.vyarus.guice.persist.orient.OrientModule#transactionRecordCache(boolean)}.</p>
+ * <p>Cache is used by crud and edges mixins (e.g. {@code BaseObjectCrud.get()}, {@code DocumentCrud.get()},
+ * {@code EdgesSupport.getEdge()}). Instances are cached per connection type (documents and objects for the
+ * same id are different instances), but as all pools share the same document connection, object and graph
+ * lookups are served from the same cache. Mixins evict deleted records. If record is removed
+ * directly with connection object (bypassing mixins), call {@link #evict(ORID)} manually.</p>
+ * <p>Only persistent records are cached (records created in current transaction have temporal ids).</p>
+ * <p>Repository query methods (e.g. {@code @Query}) are not served from cache: query result depends on its
+ * condition, not on known record ids, so query must be executed anyway (even select by rid must see records
+ * changed or removed in current transaction bypassing mixins). Cache only avoids repeated loads by id.</p>
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@Singleton
+public class TxRecordCache {
+    private final boolean enabled;
+    private final ThreadLocal<Map<DbType, Map<ORID, Object>>> cache =
+            new ThreadLocal<Map<DbType, Map<ORID, Object>>>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    @Inject
+    public TxRecordCache(@Named("orient.txcache") final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return true if cache enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @param type connection type, used to load record
+     * @param id   record id
+     * @param <T>  record type
+     * @return cached instance or null if record not cached (or cache disabled)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(final DbType type, final ORID id) {
+        if (!enabled || id == null) {
+            return null;
+        }
+        final Map<DbType, Map<ORID, Object>> all = cache.get();
+        final Map<ORID, Object> records = all == null ? null : all.get(type);
+        final T res = records == null ? null : (T) records.get(id);
+        (res == null ? misses : hits).incrementAndGet();
+        return res;
+    }
+
+    /**
+     * Caches loaded record (if cache enabled, value not null and id is persistent).
+     *
+     * @param type  connection type, used to load record
+     * @param id    record id
+     * @param value loaded record
+     * @param <T>   record type
+     * @return provided value (for chained calls)
+     */
+    public <T> T put(final DbType type, final ORID id, final T value) {
+        if (enabled && value != null && id != null && id.isPersistent()) {
+            Map<DbType, Map<ORID, Object>> all = cache.get();
+            if (all == null) {
+                all = Maps.newEnumMap(DbType.class);
+                cache.set(all);
+            }
+            Map<ORID, Object> records = all.get(type);
+            if (records == null) {
+                records = Maps.newHashMap();
+                all.put(type, records);
+            }
+            // orid is mutable
+            records.put(id.copy(), value);
+        }
+        return value;
+    }
+
+    /**
+     * Removes record from cache (for all connection types).
+     *
+     * @param id record id
+     */
+    public void evict(final ORID id) {
+        final Map<DbType, Map<ORID, Object>> all = enabled && id != null ? cache.get() : null;
+        if (all != null) {
+            for (Map<ORID, Object> records : all.values()) {
+                records.remove(id);
+            }
+        }
+    }
+
+    /**
+     * Removes record from cache (for all connection types).
+     *
+     * @param id record id string
+     */
+    public void evict(final String id) {
+        if (enabled && id != null) {
+            evict(new ORecordId(id));
+        }
+    }
+
+    /**
+     * Clears current thread cache. Called by transaction manager at the end of transaction.
+     */
+    public void clear() {
+        if (enabled) {
+            cache.remove();
+        }
+    }
+
+    /**
+     * @return count of lookups served from cache
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * @return count of lookups not found in cache
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+}
@@ -8,30 +8,34 @@ import org.slf4j.LoggerFactory;
 import ru.vyarus.guice.persist.orient.db.pool.PoolManager;
 import ru.vyarus.guice.persist.orient.db.transaction.TransactionManager;
 import ru.vyarus.guice.persist.orient.db.transaction.TxConfig;
+import ru.vyarus.guice.persist.orient.db.transaction.cache.TxRecordCache;
 
 import javax.inject.Inject;
 import javax.inject.Named;
-import javax.inject.Provider;
 import javax.inject.Singleton;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Default transaction manager implementation.
+ * Tracks pools participating in current transaction (pools register on first connection obtain), so commit
+ * and rollback affect only actually used pools.
+ * Clears transaction record cache at the end of transaction (see {@link TxRecordCache}).
  */
 @Singleton
 public class DefaultTransactionManager implements TransactionManager {
     private final Logger logger = LoggerFactory.getLogger(DefaultTransactionManager.class);
 
-    private final Provider<Set<PoolManager>> pools;
-    private final ThreadLocal<TxConfig> transaction = new ThreadLocal<TxConfig>();
+    private final ThreadLocal<Transaction> transaction = new ThreadLocal<Transaction>();
     private final TxConfig defaultConfig;
+    private final TxRecordCache recordCache;
 
 
     @Inject
-    public DefaultTransactionManager(final Provider<Set<PoolManager>> pools,
-                                     @Named("orient.txconfig") final TxConfig defaultConfig) {
-        this.pools = pools;
+    public DefaultTransactionManager(@Named("orient.txconfig") final TxConfig defaultConfig,
+                                     final TxRecordCache recordCache) {
         this.defaultConfig = defaultConfig;
+        this.recordCache = recordCache;
     }
 
     @Override
@@ -45,8 +49,8 @@ public class DefaultTransactionManager implements TransactionManager {
             // transaction already in progress
             return;
         }
-        transaction.set(MoreObjects.firstNonNull(config, defaultConfig));
-        logger.trace("Transaction opened: {}", transaction.get());
+        transaction.set(new Transaction(MoreObjects.firstNonNull(config, defaultConfig)));
+        logger.trace("Transaction opened: {}", transaction.get().config);
     }
 
     @Override
@@ -60,7 +64,7 @@ public class DefaultTransactionManager implements TransactionManager {
             // (there is no way to synchronize transaction between pools, but usually its not required because only
             // one pool used most of the time, otherwise plan transaction architecture accordingly - make
             // transactions more granular)
-            for (PoolManager<?> pool : pools.get()) {
+            for (PoolManager<?> pool : transaction.get().pools) {
                 try {
                     pool.commit();
                 } catch (RuntimeException th) {
@@ -81,6 +85,7 @@ public class DefaultTransactionManager implements TransactionManager {
             }
         } finally {
             transaction.remove();
+            recordCache.clear();
         }
     }
 
@@ -92,10 +97,10 @@ public class DefaultTransactionManager implements TransactionManager {
     @Override
     public void rollback(final Throwable ex) {
         Preconditions.checkState(isTransactionActive(), "Call to rollback, when no active transaction");
-        logger.trace("Rollback transaction: {}", transaction.get());
+        logger.trace("Rollback transaction: {}", transaction.get().config);
         if (ex != null) {
             logger.trace("Exception caused rollback:", ex);
-            if (canRecover(transaction.get(), ex)) {
+            if (canRecover(transaction.get().config, ex)) {
                 logger.debug("Transaction recovered from exception: {}", ex.getClass());
                 end();
                 return;
@@ -104,7 +109,7 @@ public class DefaultTransactionManager implements TransactionManager {
         // performing actual rollback
         try {
             // it's very unlikely for rollback to fail because of db, but may happen because of db impl
-            for (PoolManager<?> pool : pools.get()) {
+            for (PoolManager<?> pool : transaction.get().pools) {
                 try {
                     pool.rollback();
                 } catch (Throwable th) {
@@ -118,6 +123,17 @@ public class DefaultTransactionManager implements TransactionManager {
         } finally {
             logger.trace("Transaction rolled back");
             transaction.remove();
+            recordCache.clear();
+        }
+    }
+
+    @Override
+    public void registerPool(final PoolManager<?> pool) {
+        Preconditions.checkState(isTransactionActive(), "Pool %s can't participate in transaction: "
+                + "no active transaction", pool.getType());
+        final List<PoolManager<?>> pools = transaction.get().pools;
+        if (!pools.contains(pool)) {
+            pools.add(pool);
         }
     }
 
@@ -129,7 +145,7 @@ public class DefaultTransactionManager implements TransactionManager {
     @Override
     public OTransaction.TXTYPE getActiveTransactionType() {
         Preconditions.checkState(isTransactionActive(), "Call for transaction type, when no active transaction");
-        return transaction.get().getTxtype();
+        return transaction.get().config.getTxtype();
     }
 
     /**
@@ -162,4 +178,17 @@ public class DefaultTransactionManager implements TransactionManager {
         }
         return commit;
     }
+
+    /**
+     * Current transaction state.
+     */
+    private static class Transaction {
+        private final TxConfig config;
+        // usually only one or two pools participate in transaction
+        private final List<PoolManager<?>> pools = new ArrayList<PoolManager<?>>(2);
+
+        Transaction(final TxConfig config) {
+            this.config = config;
+        }
+    }
 }
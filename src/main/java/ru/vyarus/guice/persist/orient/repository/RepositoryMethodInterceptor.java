@@ -7,6 +7,8 @@ import ru.vyarus.guice.persist.orient.repository.core.MethodDefinitionException;
 import ru.vyarus.guice.persist.orient.repository.core.MethodDescriptorFactory;
 import ru.vyarus.guice.persist.orient.repository.core.MethodExecutionException;
 import ru.vyarus.guice.persist.orient.repository.core.ext.SpiService;
+import ru.vyarus.guice.persist.orient.repository.core.ext.service.result.ext.cache.CacheResultExtension;
+import ru.vyarus.guice.persist.orient.repository.core.ext.service.result.ext.cache.ResultCache;
 import ru.vyarus.guice.persist.orient.repository.core.spi.RepositoryMethodDescriptor;
 import ru.vyarus.guice.persist.orient.repository.core.spi.method.RepositoryMethodExtension;
 import ru.vyarus.guice.persist.orient.repository.core.util.RepositoryUtils;
@@ -38,15 +40,32 @@ public class RepositoryMethodInterceptor implements MethodInterceptor {
     private MethodDescriptorFactory factory;
     @Inject
     private SpiService spiService;
+    @Inject
+    private ResultCache resultCache;
 
     public Object invoke(final MethodInvocation methodInvocation) throws Throwable {
         final Class<?> repositoryType = RepositoryUtils.resolveRepositoryClass(methodInvocation.getThis());
         final Method method = methodInvocation.getMethod();
         final RepositoryMethodDescriptor descriptor = getMethodDescriptor(method, repositoryType);
+        if (descriptor.extDescriptors.containsKey(CacheResultExtension.KEY) && resultCache.isApplicable()) {
+            return cachedResult(method, descriptor, methodInvocation);
+        }
         final Object result = executeMethod(descriptor, methodInvocation);
         return convertResult(method, descriptor, result);
     }
 
+    private Object cachedResult(final Method method, final RepositoryMethodDescriptor descriptor,
+                                final MethodInvocation methodInvocation) {
+        final Object[] arguments = methodInvocation.getArguments();
+        Object res = resultCache.get(descriptor, arguments);
+        if (res == null) {
+            final long generation = resultCache.getGeneration();
+            res = convertResult(method, descriptor, executeMethod(descriptor, methodInvocation));
+            resultCache.put(descriptor, generation, res, arguments);
+        }
+        return res;
+    }
+
     private RepositoryMethodDescriptor getMethodDescriptor(final Method method, final Class<?> type) {
         final RepositoryMethodDescriptor descriptor;
         try {
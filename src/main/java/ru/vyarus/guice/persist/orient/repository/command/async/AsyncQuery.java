@@ -12,6 +12,13 @@ import java.lang.annotation.Target;
  * Must be used together with {@link ru.vyarus.guice.persist.orient.repository.command.ext.listen.Listen}.
  * Method must be void.
  * <p>Important: query will be asynchronous only for remote connection.</p>
+ * <p>Alternatively, method may return
+ * {@link ru.vyarus.guice.persist.orient.repository.command.core.stream.ResultStream} (without listener).
+ * In this case query is executed in separate thread (and separate NOTX unit of work, so current transaction
+ * changes are not visible) and results are passed to consumer through bounded buffer
+ * ({@link BlockingResultStream}): query waits when buffer is full, so records are fetched as consumer requests
+ * them. Closing stream cancels the query (abandoned stream is cancelled after consumer inactivity
+ * {@link #timeout()}). Object connection results are detached.</p>
  * <p>Uses {@link com.orientechnologies.orient.core.sql.query.OSQLAsynchQuery}.</p>
  * <p>Query could contain variables in format (${var}). By default, only declared type generic names
  * could be used, but extensions could provide other variables (like
@@ -31,4 +38,21 @@ public @interface AsyncQuery {
      * @return query string
      */
     String value();
+
+    /**
+     * Used only for {@link ru.vyarus.guice.persist.orient.repository.command.core.stream.ResultStream} result.
+     *
+     * @return count of records which could be fetched ahead of consumer
+     */
+    int buffer() default 100;
+
+    /**
+     * Used only for {@link ru.vyarus.guice.persist.orient.repository.command.core.stream.ResultStream} result.
+     * When buffer is full and consumer does not request records for longer than timeout, stream is considered
+     * abandoned (not closed by consumer) and query is cancelled (to release query thread and connection).
+     * If consumer will try to read stream after that, exception will be thrown.
+     *
+     * @return consumer inactivity timeout in milliseconds
+     */
+    long timeout() default 60000;
 }
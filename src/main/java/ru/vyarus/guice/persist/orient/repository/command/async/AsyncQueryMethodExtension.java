@@ -2,12 +2,21 @@ package ru.vyarus.guice.persist.orient.repository.command.async;
 
 import com.google.common.base.Strings;
 import com.orientechnologies.orient.core.command.OCommandRequest;
+import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.sql.query.OSQLAsynchQuery;
+import com.orientechnologies.orient.core.tx.OTransaction;
+import com.orientechnologies.orient.object.db.OObjectDatabaseTx;
+import ru.vyarus.guice.persist.orient.db.DbType;
+import ru.vyarus.guice.persist.orient.db.transaction.TxConfig;
+import ru.vyarus.guice.persist.orient.db.transaction.template.TxAction;
+import ru.vyarus.guice.persist.orient.db.transaction.template.TxTemplate;
 import ru.vyarus.guice.persist.orient.repository.command.core.AbstractCommandExtension;
 import ru.vyarus.guice.persist.orient.repository.command.core.spi.CommandMethodDescriptor;
 import ru.vyarus.guice.persist.orient.repository.command.core.spi.SqlCommandDescriptor;
+import ru.vyarus.guice.persist.orient.repository.command.core.stream.ResultStream;
 import ru.vyarus.guice.persist.orient.repository.command.ext.listen.Listen;
 import ru.vyarus.guice.persist.orient.repository.command.ext.listen.ListenParamExtension;
+import ru.vyarus.guice.persist.orient.repository.core.RepositoryBackgroundExecutor;
 import ru.vyarus.guice.persist.orient.repository.core.ext.SpiService;
 import ru.vyarus.guice.persist.orient.repository.core.spi.DescriptorContext;
 
@@ -25,9 +34,18 @@ import static ru.vyarus.guice.persist.orient.repository.core.MethodDefinitionExc
 @Singleton
 public class AsyncQueryMethodExtension extends AbstractCommandExtension<CommandMethodDescriptor, AsyncQuery> {
 
+    public static final String BUFFER_KEY = AsyncQueryMethodExtension.class.getName() + ".buffer";
+    public static final String TIMEOUT_KEY = AsyncQueryMethodExtension.class.getName() + ".timeout";
+
+    private final TxTemplate txTemplate;
+    private final RepositoryBackgroundExecutor executor;
+
     @Inject
-    public AsyncQueryMethodExtension(final SpiService spiService) {
+    public AsyncQueryMethodExtension(final SpiService spiService, final TxTemplate txTemplate,
+                                     final RepositoryBackgroundExecutor executor) {
         super(spiService);
+        this.txTemplate = txTemplate;
+        this.executor = executor;
     }
 
     @Override
@@ -38,9 +56,20 @@ public class AsyncQueryMethodExtension extends AbstractCommandExtension<CommandM
         analyzeElVars(descriptor, context);
         analyzeParameters(descriptor, context);
 
-        // Listen extension will check that method is void
-        check(descriptor.extDescriptors.get(ListenParamExtension.KEY) != null,
-                "Required @%s parameter not defined", Listen.class.getSimpleName());
+        final boolean listen = descriptor.extDescriptors.get(ListenParamExtension.KEY) != null;
+        if (ResultStream.class.equals(context.method.getReturnType())) {
+            check(!listen, "@%s parameter can't be used with %s result", Listen.class.getSimpleName(),
+                    ResultStream.class.getSimpleName());
+            check(descriptor.command.toLowerCase().startsWith("select"), "%s could be used only for select queries",
+                    ResultStream.class.getSimpleName());
+            check(annotation.buffer() > 0, "Buffer size must be positive");
+            check(annotation.timeout() > 0, "Consumer timeout must be positive");
+            descriptor.extDescriptors.put(BUFFER_KEY, annotation.buffer());
+            descriptor.extDescriptors.put(TIMEOUT_KEY, annotation.timeout());
+        } else {
+            // Listen extension will check that method is void
+            check(listen, "Required @%s parameter not defined", Listen.class.getSimpleName());
+        }
         return descriptor;
     }
 
@@ -49,4 +78,57 @@ public class AsyncQueryMethodExtension extends AbstractCommandExtension<CommandM
                                                  final SqlCommandDescriptor desc) {
         return new OSQLAsynchQuery(desc.command);
     }
+
+    @Override
+    protected ResultStream<Object> createStream(final CommandMethodDescriptor descriptor,
+                                                final SqlCommandDescriptor desc,
+                                                final Object instance, final Object... arguments) {
+        final BlockingResultStream<Object> stream = new BlockingResultStream<Object>(
+                (Integer) descriptor.extDescriptors.get(BUFFER_KEY),
+                (Long) descriptor.extDescriptors.get(TIMEOUT_KEY)) {
+            @Override
+            protected Object convert(final Object record) {
+                return detach(descriptor, record);
+            }
+        };
+        final OCommandRequest query = createQueryCommand(descriptor, desc);
+        amendCommand(query, descriptor, instance, arguments);
+        ((OSQLAsynchQuery) query).setResultListener(stream);
+        executor.submit(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    // query thread use its own connection
+                    txTemplate.doInTransaction(new TxConfig(OTransaction.TXTYPE.NOTX), new TxAction<Void>() {
+                        @Override
+                        public Void execute() throws Throwable {
+                            executeCommand(descriptor, desc, query);
+                            return null;
+                        }
+                    });
+                } catch (Throwable th) {
+                    stream.fail(th);
+                }
+            }
+        });
+        return stream;
+    }
+
+    /**
+     * Listener receives documents even for object connection. Objects must be detached, because
+     * query unit of work will be closed after query execution.
+     *
+     * @param descriptor repository method descriptor
+     * @param record     query record
+     * @return detached object or record itself
+     */
+    private Object detach(final CommandMethodDescriptor descriptor, final Object record) {
+        Object res = record;
+        if (DbType.OBJECT.equals(descriptor.executor.getType()) && record instanceof ODocument
+                && ((ODocument) record).getSchemaClass() != null) {
+            final OObjectDatabaseTx db = (OObjectDatabaseTx) descriptor.executor.getConnection();
+            res = db.detachAll(db.getUserObjectByRecord((ODocument) record, null), true);
+        }
+        return res;
+    }
 }
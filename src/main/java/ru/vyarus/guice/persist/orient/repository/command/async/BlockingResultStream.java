@@ -0,0 +1,185 @@
+package ru.vyarus.guice.persist.orient.repository.command.async;
+
+import com.google.common.base.Preconditions;
+import com.orientechnologies.orient.core.command.OCommandResultListener;
+import ru.vyarus.guice.persist.orient.repository.command.core.CommandMethodException;
+import ru.vyarus.guice.persist.orient.repository.command.core.stream.ResultStream;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Bounded queue between asynchronous query (producer) and stream consumer. Used as query listener: when buffer
+ * is full, query thread waits until consumer takes next record (backpressure). When stream is closed,
+ * listener stops the query (by returning false on next record).
+ * <p>Query errors are re-thrown to consumer (after all already received records).</p>
+ * <p>If consumer does not request records longer than inactivity timeout (while buffer is full), stream
+ * is considered abandoned: query is stopped (releasing query thread and connection) and buffered records are
+ * dropped. Consumer will receive exception on next read attempt.</p>
+ *
+ * @param <T> result type
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class BlockingResultStream<T> implements ResultStream<T>, OCommandResultListener {
+
+    private static final Object END = new Object();
+    // producer checks cancellation with this interval while waiting for free space in buffer
+    private static final long PUT_CHECK_MS = 100;
+
+    private final BlockingQueue<Object> queue;
+    private final long timeoutNanos;
+    private volatile long lastConsumerActivity;
+    private volatile boolean closed;
+    private volatile boolean aborted;
+    private volatile Throwable error;
+    private Object next;
+    private boolean finished;
+
+    /**
+     * @param buffer    count of records which could be fetched ahead of consumer
+     * @param timeoutMs consumer inactivity timeout (in milliseconds) after which query is cancelled
+     */
+    public BlockingResultStream(final int buffer, final long timeoutMs) {
+        Preconditions.checkArgument(buffer > 0, "Buffer size must be positive, but was %s", buffer);
+        Preconditions.checkArgument(timeoutMs > 0, "Timeout must be positive, but was %s", timeoutMs);
+        this.queue = new ArrayBlockingQueue<Object>(buffer);
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        this.lastConsumerActivity = System.nanoTime();
+    }
+
+    // --------------------------------------------------- producer side
+
+    @Override
+    public boolean result(final Object iRecord) {
+        final Object value = convert(iRecord);
+        // null could not be stored in queue
+        return value == null ? !closed && !aborted : offer(value);
+    }
+
+    @Override
+    public void end() {
+        offer(END);
+    }
+
+    @Override
+    public Object getResult() {
+        return null;
+    }
+
+    /**
+     * Called by query executor on query failure. Error is thrown to consumer after already received records.
+     *
+     * @param th query error
+     */
+    public void fail(final Throwable th) {
+        if (!aborted) {
+            error = th;
+            offer(END);
+        }
+    }
+
+    /**
+     * Called in query thread (under query connection) for each record before putting it into buffer.
+     * Override to detach records from query connection.
+     *
+     * @param record query record
+     * @return record to put into buffer
+     */
+    protected Object convert(final Object record) {
+        return record;
+    }
+
+    // --------------------------------------------------- consumer side
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !finished && !closed) {
+            next = take();
+            if (next == END) {
+                next = null;
+                finished = true;
+                close();
+                if (error != null) {
+                    throw new CommandMethodException("Asynchronous query failed", error);
+                }
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final T res = (T) next;
+        next = null;
+        return res;
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("Result stream is read only");
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        next = null;
+        // release buffered records and unblock producer
+        queue.clear();
+    }
+
+    private Object take() {
+        lastConsumerActivity = System.nanoTime();
+        try {
+            return queue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new CommandMethodException("Interrupted while waiting for asynchronous query result", e);
+        }
+    }
+
+    private boolean offer(final Object value) {
+        boolean res = false;
+        try {
+            while (!closed && !aborted && !res) {
+                res = queue.offer(value, PUT_CHECK_MS, TimeUnit.MILLISECONDS);
+                if (!res && System.nanoTime() - lastConsumerActivity > timeoutNanos) {
+                    abort(new TimeoutException(String.format(
+                            "Stream consumer was inactive for more than %s ms",
+                            TimeUnit.NANOSECONDS.toMillis(timeoutNanos))));
+                }
+            }
+            if (closed) {
+                // stream could be closed while waiting
+                queue.clear();
+                res = false;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            // query thread interrupted (e.g. on persistence shutdown): consumer must not wait forever
+            abort(e);
+        }
+        return res;
+    }
+
+    /**
+     * Stops the query and drops buffered records. Consumer (if it would ever return) will receive error
+     * instead of truncated results.
+     *
+     * @param cause abort cause
+     */
+    private void abort(final Throwable cause) {
+        aborted = true;
+        error = cause;
+        queue.clear();
+        queue.offer(END);
+    }
+}
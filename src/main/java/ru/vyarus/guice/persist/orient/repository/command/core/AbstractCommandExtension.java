@@ -1,22 +1,40 @@
 package ru.vyarus.guice.persist.orient.repository.command.core;
 
 import com.google.common.base.Joiner;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.orientechnologies.orient.core.command.OCommandRequest;
+import com.orientechnologies.orient.core.command.OCommandRequestText;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.sql.OCommandSQL;
+import com.orientechnologies.orient.core.sql.query.OSQLQuery;
+import ru.vyarus.guice.persist.orient.db.util.RidUtils;
+import ru.vyarus.guice.persist.orient.repository.command.core.cache.CommandCache;
 import ru.vyarus.guice.persist.orient.repository.command.core.el.ElAnalyzer;
+import ru.vyarus.guice.persist.orient.repository.command.core.el.ElDescriptor;
+import ru.vyarus.guice.persist.orient.repository.command.core.el.ElTemplate;
 import ru.vyarus.guice.persist.orient.repository.command.core.el.ElUtils;
 import ru.vyarus.guice.persist.orient.repository.command.core.param.CommandParamsContext;
+import ru.vyarus.guice.persist.orient.repository.command.core.param.CommandParamsUtils;
 import ru.vyarus.guice.persist.orient.repository.command.core.param.ParamsDescriptor;
 import ru.vyarus.guice.persist.orient.repository.command.core.spi.CommandExtension;
 import ru.vyarus.guice.persist.orient.repository.command.core.spi.CommandMethodDescriptor;
 import ru.vyarus.guice.persist.orient.repository.command.core.spi.SqlCommandDescriptor;
+import ru.vyarus.guice.persist.orient.repository.command.core.stream.PagedResultStream;
+import ru.vyarus.guice.persist.orient.repository.command.core.stream.ResultStream;
+import ru.vyarus.guice.persist.orient.repository.core.MethodDefinitionException;
+import ru.vyarus.guice.persist.orient.repository.core.MethodExecutionException;
 import ru.vyarus.guice.persist.orient.repository.core.ext.SpiService;
 import ru.vyarus.guice.persist.orient.repository.core.spi.DescriptorContext;
 import ru.vyarus.guice.persist.orient.repository.core.spi.RepositoryMethodDescriptor;
 import ru.vyarus.guice.persist.orient.repository.core.spi.method.RepositoryMethodExtension;
 
+import javax.inject.Inject;
 import java.lang.annotation.Annotation;
+import java.util.List;
 import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * Base class for query extensions.
@@ -24,6 +42,8 @@ import java.util.Map;
  * <p>Query natively supports el variables. By default, generic names could be used. If other variables required,
  * special amend extensions should be written to populate context.</p>
  * <p>Extensions must implement {@link ru.vyarus.guice.persist.orient.repository.command.core.spi.CommandExtension}.</p>
+ * <p>If method returns {@link ResultStream}, select query is executed lazily, page by page
+ * (see {@link #createStream(CommandMethodDescriptor, SqlCommandDescriptor, Object, Object...)}).</p>
  *
  * @param <T> descriptor type
  * @param <A> method annotation type
@@ -33,7 +53,23 @@ import java.util.Map;
 public abstract class AbstractCommandExtension<T extends CommandMethodDescriptor,
         A extends Annotation> implements RepositoryMethodExtension<T, A> {
 
+    /**
+     * Default {@link ResultStream} page size.
+     */
+    public static final int DEFAULT_STREAM_PAGE = 500;
+    private static final Pattern PAGINATION = Pattern.compile("\\s(skip|limit)\\s", Pattern.CASE_INSENSITIVE);
+    // records selection (without projections), which could be paged by record id
+    private static final Pattern KEYSET_SELECT = Pattern.compile(
+            "^select\\s+(?:\\*\\s+)?from\\s+((?!index:)[^\\s(]+)(?:\\s+where\\s+(.+?))?\\s*$",
+            Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^'\\\\]|\\\\.)*'|\"(?:[^\"\\\\]|\\\\.)*\"");
+    private static final Pattern KEYSET_UNSUPPORTED = Pattern.compile(
+            "\\b(order\\s+by|group\\s+by|let|unwind|fetchplan|timeout|lock|parallel|nocache)\\b",
+            Pattern.CASE_INSENSITIVE);
+
     private final SpiService spiService;
+    @Inject
+    private CommandCache commandCache;
 
     public AbstractCommandExtension(final SpiService spiService) {
         this.spiService = spiService;
@@ -69,6 +105,9 @@ public abstract class AbstractCommandExtension<T extends CommandMethodDescriptor
             desc = createQueryDescriptor(descriptor, arguments);
             amendCommandDescriptor(desc, descriptor, repositoryInstance, arguments);
 
+            if (ResultStream.class.equals(descriptor.result.expectType)) {
+                return createStream(descriptor, desc, repositoryInstance, arguments);
+            }
             query = createQueryCommand(descriptor, desc);
             amendCommand(query, descriptor, repositoryInstance, arguments);
         } catch (Exception ex) {
@@ -90,8 +129,9 @@ public abstract class AbstractCommandExtension<T extends CommandMethodDescriptor
             desc.params = prepareOrdinalParams(params.parametersIndex, arguments);
         }
         if (descriptor.el != null) {
-            desc.elVars = Maps.newHashMap();
-            desc.elVars.putAll(descriptor.el.directValues);
+            final ElDescriptor el = descriptor.el;
+            desc.elVars = Maps.newHashMapWithExpectedSize(el.directValues.size() + el.handledVars.size());
+            desc.elVars.putAll(el.directValues);
         }
         return desc;
     }
@@ -129,38 +169,192 @@ public abstract class AbstractCommandExtension<T extends CommandMethodDescriptor
         }
         // extensions could fill variables
         if (descriptor.el != null) {
-            desc.command = ElUtils.replace(desc.command, desc.elVars);
+            desc.command = applyElVars(descriptor, desc);
         }
     }
 
+    /**
+     * Applies el variables using pre-compiled template. Extensions usually only append to command
+     * (e.g. limit), so only appended part have to be analyzed. If command was changed, complete command
+     * is processed.
+     *
+     * @param descriptor repository method descriptor
+     * @param desc       query descriptor
+     * @return command with applied variables
+     */
+    private String applyElVars(final T descriptor, final SqlCommandDescriptor desc) {
+        final ElTemplate template = descriptor.el.template;
+        final String command = desc.command;
+        final String res;
+        if (template == null || !command.startsWith(descriptor.command)) {
+            res = ElUtils.replace(command, desc.elVars);
+        } else {
+            final String rendered = template.render(desc.elVars);
+            if (command.length() == descriptor.command.length()) {
+                res = rendered;
+            } else {
+                final String suffix = command.substring(descriptor.command.length());
+                res = rendered + (suffix.indexOf(ElUtils.VAR_START) < 0
+                        ? suffix : ElUtils.replace(suffix, desc.elVars));
+            }
+        }
+        return res;
+    }
+
     @SuppressWarnings("unchecked")
-    private void amendCommand(final OCommandRequest query, final T descriptor,
-                              final Object instance, final Object... arguments) {
+    protected void amendCommand(final OCommandRequest query, final T descriptor,
+                                final Object instance, final Object... arguments) {
         for (CommandExtension ext : descriptor.amendExtensions) {
             ext.amendCommand(query, descriptor, instance, arguments);
         }
     }
 
-    private Object executeCommand(final RepositoryMethodDescriptor descriptor,
+    /**
+     * Called instead of command execution when method returns {@link ResultStream}. Loads select
+     * query results page by page.
+     * <p>Only records selection ({@code select from target [where condition]}) is supported: it is paged by record
+     * id ({@code where (condition) and @rid > last order by @rid}), so each page is read from the last loaded
+     * record and only current page is held in memory (see {@link #checkStreamQuery(String)}).</p>
+     *
+     * @param descriptor repository method descriptor
+     * @param desc       query descriptor
+     * @param instance   repository instance
+     * @param arguments  method execution arguments
+     * @return lazy result
+     */
+    protected ResultStream<Object> createStream(final T descriptor, final SqlCommandDescriptor desc,
+                                                final Object instance, final Object... arguments) {
+        // el variables could change query structure
+        checkStreamQuery(desc.command);
+        final Matcher keyset = KEYSET_SELECT.matcher(desc.command);
+        keyset.matches();
+        final String target = keyset.group(1);
+        final String condition = keyset.group(2);
+        // stream is bound to current unit of work
+        final Object connection = descriptor.executor.getConnection();
+        return new PagedResultStream<Object>(descriptor.streamPageSize > 0
+                ? descriptor.streamPageSize : DEFAULT_STREAM_PAGE) {
+            private Object last;
+
+            @Override
+            @SuppressWarnings("unchecked")
+            protected List<Object> loadPage(final int skip, final int limit) {
+                MethodExecutionException.checkExec(descriptor.executor.getConnection() == connection,
+                        "%s can't be used outside of unit of work it was created in",
+                        ResultStream.class.getSimpleName());
+                desc.appendedParams = null;
+                desc.command = "select from " + target + " where "
+                        + (condition == null ? "" : "(" + condition + ") and ") + "@rid > "
+                        + CommandParamsUtils.bindParameter(desc, "last",
+                        last == null ? new ORecordId() : new ORecordId(RidUtils.getRid(last)))
+                        + " order by @rid";
+                CommandParamsUtils.appendParameter(desc, "LIMIT", limit);
+                final OCommandRequest query = createQueryCommand(descriptor, desc);
+                amendCommand(query, descriptor, instance, arguments);
+                final Object res = executeCommand(descriptor, desc, query);
+                final List<Object> page = res instanceof List
+                        ? (List<Object>) res : Lists.newArrayList((Iterable<Object>) res);
+                if (!page.isEmpty()) {
+                    last = page.get(page.size() - 1);
+                }
+                return page;
+            }
+        };
+    }
+
+    /**
+     * Checks method, returning {@link ResultStream}, on descriptor creation (to fail fast on incorrect query).
+     *
+     * @param descriptor repository method descriptor
+     * @param context    repository method context
+     */
+    protected void analyzeResultStream(final T descriptor, final DescriptorContext context) {
+        if (ResultStream.class.equals(context.method.getReturnType())) {
+            checkStreamQuery(descriptor.command);
+        }
+    }
+
+    /**
+     * {@link ResultStream} is paged by record id, so only records selection could be used: projections, order by,
+     * group by, let, unwind, skip and limit are not allowed (such queries could not be paged without loading
+     * entire result or skipping records). Records are returned in record id order.
+     *
+     * @param command query text
+     * @throws MethodDefinitionException if query could not be used for stream
+     */
+    protected void checkStreamQuery(final String command) {
+        // keywords inside string literals must be ignored
+        final String structure = STRING_LITERAL.matcher(command).replaceAll("''");
+        MethodDefinitionException.check(KEYSET_SELECT.matcher(structure).matches()
+                        && !PAGINATION.matcher(structure).find()
+                        && !KEYSET_UNSUPPORTED.matcher(structure).find(),
+                "%s may be used only for records selection 'select from target [where condition]' (without "
+                        + "projections, order by, group by, let, unwind, skip and limit), but query was: %s",
+                ResultStream.class.getSimpleName(), command);
+    }
+
+    protected Object executeCommand(final RepositoryMethodDescriptor descriptor,
                                   final SqlCommandDescriptor desc, final OCommandRequest query) {
         try {
+            trackParsing(query);
             final OCommandRequest cmd = descriptor.executor.wrapCommand(query);
             final Object result;
             if (desc.useNamedParams) {
-                result = desc.namedParams.size() > 0
-                        ? cmd.execute(desc.namedParams) : cmd.execute();
+                final Map<Object, Object> params = appendParams(desc.namedParams, desc.appendedParams);
+                result = params.size() > 0
+                        ? cmd.execute(params) : cmd.execute();
             } else {
-                result = desc.params.length > 0
-                        ? cmd.execute(desc.params) : cmd.execute();
+                final Object[] params = appendParams(desc.params, desc.appendedParams);
+                result = params.length > 0
+                        ? cmd.execute(params) : cmd.execute();
             }
             return result;
         } catch (Throwable th) {
             final Joiner joiner = Joiner.on(",");
-            final String params = desc.useNamedParams
+            String params = desc.useNamedParams
                     ? joiner.withKeyValueSeparator("=").join(desc.namedParams)
                     : joiner.join(desc.params);
+            if (desc.appendedParams != null) {
+                params += " (appended: " + joiner.withKeyValueSeparator("=").join(desc.appendedParams) + ")";
+            }
             throw new CommandMethodException(String.format("Failed to execute command '%s' with parameters: %s",
                     desc.command, params), th);
         }
     }
+
+    /**
+     * Only sql commands are parsed with orient statements cache (see {@link CommandCache}).
+     *
+     * @param query command to execute
+     */
+    private void trackParsing(final OCommandRequest query) {
+        if (commandCache != null && (query instanceof OSQLQuery || query instanceof OCommandSQL)) {
+            commandCache.track(((OCommandRequestText) query).getText());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Object, Object> appendParams(final Map<String, Object> params, final Map<String, Object> appended) {
+        if (appended == null) {
+            return (Map) params;
+        }
+        final Map<Object, Object> res = Maps.newHashMapWithExpectedSize(params.size() + appended.size());
+        res.putAll(params);
+        res.putAll(appended);
+        return res;
+    }
+
+    @SuppressWarnings("PMD.UseVarargs")
+    private Object[] appendParams(final Object[] params, final Map<String, Object> appended) {
+        if (appended == null) {
+            return params;
+        }
+        // positional parameters are identified by index and could be mixed with named parameters
+        final Map<Object, Object> res = Maps.newHashMapWithExpectedSize(params.length + appended.size());
+        for (int i = 0; i < params.length; i++) {
+            res.put(i, params[i]);
+        }
+        res.putAll(appended);
+        return new Object[]{res};
+    }
 }
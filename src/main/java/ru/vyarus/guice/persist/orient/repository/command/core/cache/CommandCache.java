@@ -0,0 +1,130 @@
+package ru.vyarus.guice.persist.orient.repository.command.core.cache;
+
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.sql.parser.OStatementCache;
+import com.orientechnologies.orient.core.storage.OStorage;
+import com.orientechnologies.orient.core.tx.OTransaction;
+import ru.vyarus.guice.persist.orient.db.PersistListener;
+import ru.vyarus.guice.persist.orient.db.transaction.TxConfig;
+import ru.vyarus.guice.persist.orient.db.transaction.template.TxAction;
+import ru.vyarus.guice.persist.orient.db.transaction.template.TxTemplate;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Provider;
+import javax.inject.Singleton;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Parsed sql commands cache management. Orient command request objects ({@code OSQLSynchQuery},
+ * {@code OCommandSQL}) are stateful and can't be shared between calls, but orient parses command text
+ * with storage level statements cache ({@link OStatementCache}, used for strict sql databases): parsed statement
+ * is thread safe and reused for the same command text. This cache is the only reusable artifact.
+ * <p>Orient cache is sized globally ({@code OGlobalConfiguration.STATEMENT_CACHE_SIZE}, 100 by default).
+ * On persistence start, storage cache is replaced with cache of configured size
+ * ({@link ru.vyarus.guice.persist.orient.RepositoryModule#commandCacheSize(int)}), because el variables may
+ * produce much more distinct commands (least recently used statements are evicted). Note that cache is bound
+ * to storage, so it is shared with all other storage users.</p>
+ * <p>Repository sql commands are tracked before execution to measure cache efficiency:
+ * {@code @Inject CommandCache cache; cache.getHitRate()}. Scripts and functions are not parsed with statements
+ * cache and not tracked. Remote and non strict sql databases are not tracked too (statements are not cached
+ * locally).</p>
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@Singleton
+public class CommandCache implements PersistListener {
+
+    // the same resource name as used by orient
+    private static final String RESOURCE = OStatementCache.class.getSimpleName();
+
+    private final Provider<ODatabaseDocumentTx> dbProvider;
+    private final TxTemplate txTemplate;
+    private final int maxSize;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    @Inject
+    public CommandCache(final Provider<ODatabaseDocumentTx> dbProvider,
+                        final TxTemplate txTemplate,
+                        @Named("orient.repository.command.cache.size") final int maxSize) {
+        this.dbProvider = dbProvider;
+        this.txTemplate = txTemplate;
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public void afterStart() {
+        txTemplate.doInTransaction(new TxConfig(OTransaction.TXTYPE.NOTX), new TxAction<Void>() {
+            @Override
+            public Void execute() throws Throwable {
+                final OStorage storage = dbProvider.get().getStorage();
+                if (!storage.isRemote()) {
+                    // statements, parsed during startup, are dropped
+                    storage.removeResource(RESOURCE);
+                    getCache(storage);
+                }
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public void beforeStop() {
+        // cache is bound to storage
+    }
+
+    /**
+     * Called before sql command execution (inside transaction) to count cache hits (when command was already
+     * parsed).
+     *
+     * @param command final command text
+     */
+    public void track(final String command) {
+        final OStorage storage = dbProvider.get().getStorage();
+        if (!storage.isRemote() && storage.getConfiguration().isStrictSql()) {
+            (getCache(storage).contains(command) ? hits : misses).incrementAndGet();
+        }
+    }
+
+    /**
+     * @return maximum count of cached statements
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * @return count of executed commands, which were already parsed
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * @return count of executed commands, which were parsed
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * @return ratio of commands executed without parsing (1 when nothing tracked)
+     */
+    public double getHitRate() {
+        final long hit = hits.get();
+        final long total = hit + misses.get();
+        return total == 0 ? 1.0 : (double) hit / total;
+    }
+
+    private OStatementCache getCache(final OStorage storage) {
+        return storage.getResource(RESOURCE, new Callable<OStatementCache>() {
+            @Override
+            public OStatementCache call() throws Exception {
+                return new OStatementCache(maxSize);
+            }
+        });
+    }
+}
@@ -31,6 +31,11 @@ public class ElDescriptor {
      */
     public List<String> handledVars = Lists.newArrayList();
 
+    /**
+     * Pre-parsed command template (with applied direct values). Compiled after parameters analysis.
+     */
+    public ElTemplate template;
+
     public ElDescriptor(final List<String> vars) {
         this.vars = vars;
     }
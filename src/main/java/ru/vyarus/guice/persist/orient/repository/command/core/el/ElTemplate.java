@@ -0,0 +1,118 @@
+package ru.vyarus.guice.persist.orient.repository.command.core.el;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+
+import java.util.List;
+import java.util.Map;
+
+import static ru.vyarus.guice.persist.orient.repository.command.core.el.ElUtils.VAR_LEFT_BOUND;
+import static ru.vyarus.guice.persist.orient.repository.command.core.el.ElUtils.VAR_RIGHT_BOUND;
+import static ru.vyarus.guice.persist.orient.repository.command.core.el.ElUtils.VAR_START;
+
+/**
+ * Pre-parsed string template. Template is split into static segments and dynamic variables once (on descriptor
+ * creation), so on execution only variable values are appended into pre-sized buffer
+ * (instead of complete string analysis with {@link ElUtils#replace(String, Map)}).
+ * <p>Values known at compile time (e.g. generic names) are applied directly to static segments.
+ * If all variables are static, template is resolved to constant string.</p>
+ * <p>Template is immutable and thread safe.</p>
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public final class ElTemplate {
+    // average dynamic value length, used to pre-size buffer
+    private static final int VAR_SIZE = 16;
+
+    private final String source;
+    private final String[] segments;
+    private final String[] vars;
+    private final int size;
+
+    private ElTemplate(final String source, final List<String> segments, final List<String> vars) {
+        this.source = source;
+        this.segments = segments.toArray(new String[segments.size()]);
+        this.vars = vars.toArray(new String[vars.size()]);
+        int len = 0;
+        for (String segment : this.segments) {
+            len += segment.length();
+        }
+        this.size = len + VAR_SIZE * this.vars.length;
+    }
+
+    /**
+     * @return true if template does not contain dynamic variables
+     */
+    public boolean isStatic() {
+        return vars.length == 0;
+    }
+
+    /**
+     * @return dynamic variables in order of appearance (may contain duplicates)
+     */
+    public List<String> getVars() {
+        return Lists.newArrayList(vars);
+    }
+
+    /**
+     * @param params dynamic variable values (may be null for static template)
+     * @return string with replaced placeholders
+     * @throws java.lang.IllegalStateException if string placeholder value is null or not provided
+     */
+    public String render(final Map<String, String> params) {
+        if (isStatic()) {
+            return segments[0];
+        }
+        final StringBuilder sb = new StringBuilder(size);
+        for (int i = 0; i < vars.length; i++) {
+            sb.append(segments[i]);
+            final String var = vars[i];
+            Preconditions.checkState(params.containsKey(var), "No value provided for variable '%s' "
+                    + "in string '%s'", var, source);
+            sb.append(params.get(var).trim());
+        }
+        sb.append(segments[vars.length]);
+        return sb.toString();
+    }
+
+    /**
+     * Parse template. Parsing rules are the same as in {@link ElUtils#replace(String, Map)}.
+     *
+     * @param str          template string
+     * @param staticValues values to apply directly
+     * @return compiled template
+     */
+    public static ElTemplate compile(final String str, final Map<String, String> staticValues) {
+        final List<String> segments = Lists.newArrayList();
+        final List<String> vars = Lists.newArrayList();
+        final StringBuilder sb = new StringBuilder(str.length());
+        final char[] strArray = str.toCharArray();
+        int i = 0;
+        while (i < strArray.length - 1) {
+            if (strArray[i] == VAR_START && strArray[i + 1] == VAR_LEFT_BOUND) {
+                i = i + 2;
+                final int begin = i;
+                while (strArray[i] != VAR_RIGHT_BOUND) {
+                    ++i;
+                }
+                final String var = str.substring(begin, i++);
+                if (staticValues.containsKey(var)) {
+                    sb.append(staticValues.get(var).trim());
+                } else {
+                    segments.add(sb.toString());
+                    sb.setLength(0);
+                    vars.add(var);
+                }
+            } else {
+                sb.append(strArray[i]);
+                ++i;
+            }
+        }
+        if (i < strArray.length) {
+            sb.append(strArray[i]);
+        }
+        segments.add(sb.toString());
+        return new ElTemplate(str, segments, vars);
+    }
+}
@@ -4,6 +4,7 @@ import com.google.common.base.Joiner;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import ru.vyarus.guice.persist.orient.repository.command.core.el.ElDescriptor;
+import ru.vyarus.guice.persist.orient.repository.command.core.el.ElTemplate;
 import ru.vyarus.guice.persist.orient.repository.command.core.el.ElUtils;
 import ru.vyarus.guice.persist.orient.repository.command.core.spi.CommandMethodDescriptor;
 import ru.vyarus.guice.persist.orient.repository.core.spi.DescriptorContext;
@@ -111,6 +112,7 @@ public class CommandParamsContext extends ParamsContext<CommandMethodDescriptor>
             } catch (Exception ex) {
                 check(false, ex.getMessage());
             }
+            el.template = ElTemplate.compile(descriptor.command, el.directValues);
         } else {
             // not the same as in previous branch, because el context could contain predefined vars
             final List<String> vars = Lists.newArrayList();
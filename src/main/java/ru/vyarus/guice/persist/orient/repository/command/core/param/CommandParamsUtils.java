@@ -0,0 +1,67 @@
+package ru.vyarus.guice.persist.orient.repository.command.core.param;
+
+import com.google.common.collect.Maps;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
+import ru.vyarus.guice.persist.orient.repository.command.core.spi.SqlCommandDescriptor;
+
+/**
+ * Utility to append command clauses with bound (named) parameter instead of literal value
+ * (e.g. "SKIP :__skip" instead of "SKIP 10"). Named parameter is used because it could be mixed with both
+ * positional and named method parameters. Bound values keep command text the same for all method calls, so
+ * orient statement cache could be used.
+ * <p>Parameters in pagination clauses are supported only by orient strict sql parser (enabled by default
+ * for databases created with orient 2.2). For non strict databases literal value is used.</p>
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public final class CommandParamsUtils {
+
+    private CommandParamsUtils() {
+    }
+
+    /**
+     * Appends clause to command. Value is applied together with method parameters (see
+     * {@link SqlCommandDescriptor#appendedParams}).
+     *
+     * @param sql    sql command descriptor
+     * @param clause clause keyword (e.g. SKIP)
+     * @param value  clause value
+     */
+    public static void appendParameter(final SqlCommandDescriptor sql, final String clause, final Object value) {
+        sql.command = sql.command + " " + clause + " " + bindParameter(sql, clause.toLowerCase(), value);
+    }
+
+    /**
+     * Registers value as command parameter (see {@link SqlCommandDescriptor#appendedParams}). Returned text must
+     * be used in command instead of value.
+     *
+     * @param sql   sql command descriptor
+     * @param name  parameter name (prefixed to avoid collision with method parameters)
+     * @param value parameter value
+     * @return parameter placeholder or value itself (for non strict sql)
+     */
+    public static String bindParameter(final SqlCommandDescriptor sql, final String name, final Object value) {
+        final String res;
+        if (isParametersSupported()) {
+            final String param = "__" + name;
+            if (sql.appendedParams == null) {
+                sql.appendedParams = Maps.newHashMapWithExpectedSize(2);
+            }
+            sql.appendedParams.put(param, value);
+            res = ":" + param;
+        } else {
+            res = String.valueOf(value);
+        }
+        return res;
+    }
+
+    /**
+     * @return true if parameters could be used in all query parts, false otherwise
+     */
+    public static boolean isParametersSupported() {
+        final ODatabaseDocumentInternal db = ODatabaseRecordThreadLocal.INSTANCE.getIfDefined();
+        return db != null && db.getStorage().getConfiguration().isStrictSql();
+    }
+}
@@ -29,4 +29,10 @@ public class CommandMethodDescriptor extends RepositoryMethodDescriptor<CommandE
      * Query el variables descriptor.
      */
     public ElDescriptor el;
+
+    /**
+     * Page size for lazy results ({@link ru.vyarus.guice.persist.orient.repository.command.core.stream.ResultStream}).
+     * May be set by extension (0 means default page size).
+     */
+    public int streamPageSize;
 }
@@ -32,6 +32,12 @@ public class SqlCommandDescriptor {
      */
     public Map<String, Object> namedParams;
 
+    /**
+     * Named parameters for placeholders appended to command by extensions (e.g. pagination).
+     * Applied together with both ordinal and named parameters. Null if not used.
+     */
+    public Map<String, Object> appendedParams;
+
     /**
      * Query string variables (used to substitute variables in string).
      * By default, populated with generic names, but extension could provide additional values.
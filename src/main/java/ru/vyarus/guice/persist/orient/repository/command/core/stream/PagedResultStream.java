@@ -0,0 +1,80 @@
+package ru.vyarus.guice.persist.orient.repository.command.core.stream;
+
+import com.google.common.base.Preconditions;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Base {@link ResultStream} implementation: loads next page only when current page is consumed.
+ * Page considered last if loaded page is smaller then page size.
+ *
+ * @param <T> result type
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public abstract class PagedResultStream<T> implements ResultStream<T> {
+
+    private final int pageSize;
+    private Iterator<T> page;
+    private int loaded;
+    private boolean lastPage;
+    private boolean closed;
+
+    public PagedResultStream(final int pageSize) {
+        Preconditions.checkArgument(pageSize > 0, "Page size must be positive, but was %s", pageSize);
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (closed) {
+            return false;
+        }
+        if ((page == null || !page.hasNext()) && !lastPage) {
+            final List<T> res = loadPage(loaded, pageSize);
+            loaded += res.size();
+            lastPage = res.size() < pageSize;
+            page = res.iterator();
+        }
+        final boolean res = page.hasNext();
+        if (!res) {
+            close();
+        }
+        return res;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return page.next();
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("Result stream is read only");
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        page = null;
+    }
+
+    /**
+     * @return count of already loaded records
+     */
+    public int getLoaded() {
+        return loaded;
+    }
+
+    /**
+     * @param skip  records to skip
+     * @param limit page size
+     * @return loaded page (smaller then limit for the last page)
+     */
+    protected abstract List<T> loadPage(int skip, int limit);
+}
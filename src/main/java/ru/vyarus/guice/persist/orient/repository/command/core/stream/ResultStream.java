@@ -0,0 +1,33 @@
+package ru.vyarus.guice.persist.orient.repository.command.core.stream;
+
+import java.io.Closeable;
+import java.util.Iterator;
+
+/**
+ * Lazy command result. When used as repository select query method return type, result is not loaded at once:
+ * records are fetched by pages, when consumed (only current page is held in memory).
+ * <pre><code>
+ * {@literal @}Query("select from Model where name like ?")
+ * ResultStream&lt;Model&gt; exportAll(String name);
+ * </code></pre>
+ * <p>Stream is bound to unit of work (transaction), where it was created: next pages are loaded with
+ * the same connection, so stream must be consumed (or closed) before unit of work end.</p>
+ * <p>Pages are loaded by record id: each page selects records after the last loaded record
+ * ({@code @rid > last order by @rid}), so records are returned in record id order. Only records selection
+ * ({@code select from target [where condition]}) could be used: queries with projections, order by, group by, let,
+ * unwind, skip or limit are rejected on method analysis (they could not be paged without loading entire result).
+ * Page size could be configured with
+ * {@link ru.vyarus.guice.persist.orient.repository.command.ext.stream.StreamPage} (by default 500).</p>
+ *
+ * @param <T> result type
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public interface ResultStream<T> extends Iterator<T>, Closeable {
+
+    /**
+     * Stops iteration (current page is released and no more pages will be loaded). Safe to call multiple times.
+     */
+    @Override
+    void close();
+}
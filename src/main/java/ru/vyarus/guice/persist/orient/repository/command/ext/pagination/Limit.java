@@ -11,6 +11,8 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
 
 /**
  * Marks parameter as query limit value. Parameter must be number type.
+ * <p>Value is bound as query parameter (LIMIT :__limit), so query string is the same for all pages
+ * (for strict sql databases; otherwise value is added directly).</p>
  * <p>For pagination ise it with {@link Skip} annotation</p>
  *
  * @author Vyacheslav Rusakov
@@ -2,6 +2,7 @@ package ru.vyarus.guice.persist.orient.repository.command.ext.pagination;
 
 import com.orientechnologies.orient.core.command.OCommandRequest;
 import ru.vyarus.guice.persist.orient.db.util.Order;
+import ru.vyarus.guice.persist.orient.repository.command.core.param.CommandParamsUtils;
 import ru.vyarus.guice.persist.orient.repository.command.core.spi.CommandExtension;
 import ru.vyarus.guice.persist.orient.repository.command.core.spi.CommandMethodDescriptor;
 import ru.vyarus.guice.persist.orient.repository.command.core.spi.SqlCommandDescriptor;
@@ -38,7 +39,7 @@ public class LimitParamExtension extends AbstractPaginationExtension<Limit>
         final String query = sql.command;
         MethodDefinitionException.check(query.toLowerCase().startsWith("select"),
                 "@Limit may be used only for select queries");
-        sql.command = query + " LIMIT " + limit;
+        CommandParamsUtils.appendParameter(sql, "LIMIT", limit);
     }
 
     @Override
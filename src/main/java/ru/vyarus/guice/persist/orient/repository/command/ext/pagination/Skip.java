@@ -15,6 +15,8 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
  * <p>NOTE: SKIP part is added at the end of the string, because it's the only way to set it. In most
  * cases this will be ok, but for some queries it may lead to bad query. In this case write SKIP directly
  * in query.</p>
+ * <p>Value is bound as query parameter (SKIP :__skip), so query string is the same for all pages
+ * (for strict sql databases; otherwise value is added directly).</p>
  * <p>For pagination ise it with {@link Limit} annotation</p>
  *
  * @author Vyacheslav Rusakov
@@ -3,6 +3,7 @@ package ru.vyarus.guice.persist.orient.repository.command.ext.pagination;
 import com.orientechnologies.orient.core.command.OCommandRequest;
 import ru.vyarus.guice.persist.orient.repository.core.MethodDefinitionException;
 import ru.vyarus.guice.persist.orient.db.util.Order;
+import ru.vyarus.guice.persist.orient.repository.command.core.param.CommandParamsUtils;
 import ru.vyarus.guice.persist.orient.repository.command.core.spi.CommandExtension;
 import ru.vyarus.guice.persist.orient.repository.command.core.spi.CommandMethodDescriptor;
 import ru.vyarus.guice.persist.orient.repository.command.core.spi.SqlCommandDescriptor;
@@ -38,7 +39,7 @@ public class SkipParamExtension extends AbstractPaginationExtension<Skip>
         final String query = sql.command;
         MethodDefinitionException.check(query.toLowerCase().startsWith("select"),
                 "@Skip may be used only for select queries");
-        sql.command = query + " SKIP " + skip;
+        CommandParamsUtils.appendParameter(sql, "SKIP", skip);
     }
 
     @Override
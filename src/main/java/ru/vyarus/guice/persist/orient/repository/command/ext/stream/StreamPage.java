@@ -0,0 +1,32 @@
+package ru.vyarus.guice.persist.orient.repository.command.ext.stream;
+
+import ru.vyarus.guice.persist.orient.repository.core.spi.amend.AmendMethod;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Page size for lazy query results
+ * ({@link ru.vyarus.guice.persist.orient.repository.command.core.stream.ResultStream}).
+ * <p>Could be applied directly on method or on type (to apply for all methods).
+ * If applied in both places, method annotation used).</p>
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@Documented
+@Target({METHOD, TYPE})
+@Retention(RUNTIME)
+@AmendMethod(StreamPageAmendExtension.class)
+public @interface StreamPage {
+
+    /**
+     * @return count of records loaded at once
+     */
+    int value();
+}
@@ -0,0 +1,39 @@
+package ru.vyarus.guice.persist.orient.repository.command.ext.stream;
+
+import com.orientechnologies.orient.core.command.OCommandRequest;
+import ru.vyarus.guice.persist.orient.repository.command.core.spi.CommandExtension;
+import ru.vyarus.guice.persist.orient.repository.command.core.spi.CommandMethodDescriptor;
+import ru.vyarus.guice.persist.orient.repository.command.core.spi.SqlCommandDescriptor;
+import ru.vyarus.guice.persist.orient.repository.core.MethodDefinitionException;
+import ru.vyarus.guice.persist.orient.repository.core.spi.amend.AmendMethodExtension;
+
+import javax.inject.Singleton;
+
+/**
+ * {@link StreamPage} amend annotation extension.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@Singleton
+public class StreamPageAmendExtension implements AmendMethodExtension<CommandMethodDescriptor, StreamPage>,
+        CommandExtension<CommandMethodDescriptor> {
+
+    @Override
+    public void handleAnnotation(final CommandMethodDescriptor descriptor, final StreamPage annotation) {
+        MethodDefinitionException.check(annotation.value() > 0, "Stream page size must be positive");
+        descriptor.streamPageSize = annotation.value();
+    }
+
+    @Override
+    public void amendCommandDescriptor(final SqlCommandDescriptor sql, final CommandMethodDescriptor descriptor,
+                                       final Object instance, final Object... arguments) {
+        // not needed
+    }
+
+    @Override
+    public void amendCommand(final OCommandRequest query, final CommandMethodDescriptor descriptor,
+                             final Object instance, final Object... arguments) {
+        // not needed
+    }
+}
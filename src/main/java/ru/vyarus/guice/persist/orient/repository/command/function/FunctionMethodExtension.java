@@ -35,6 +35,7 @@ public class FunctionMethodExtension extends AbstractCommandExtension<CommandMet
 
         analyzeElVars(descriptor, context);
         analyzeParameters(descriptor, context);
+        analyzeResultStream(descriptor, context);
         return descriptor;
     }
 
@@ -36,6 +36,7 @@ public class QueryMethodExtension extends AbstractCommandExtension<CommandMethod
 
         analyzeElVars(descriptor, context);
         analyzeParameters(descriptor, context);
+        analyzeResultStream(descriptor, context);
         return descriptor;
     }
 
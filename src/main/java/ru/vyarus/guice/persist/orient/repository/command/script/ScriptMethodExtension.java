@@ -34,6 +34,7 @@ public class ScriptMethodExtension extends AbstractCommandExtension<ScriptComman
 
         analyzeElVars(descriptor, context);
         analyzeParameters(descriptor, context);
+        analyzeResultStream(descriptor, context);
         return descriptor;
     }
 
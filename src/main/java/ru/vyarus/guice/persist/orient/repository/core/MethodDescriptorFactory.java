@@ -16,10 +16,12 @@ import javax.inject.Named;
 import javax.inject.Singleton;
 import java.lang.reflect.Method;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
 
 /**
  * Analyze annotated method and provides descriptor. By default resolved descriptor is cached, to avoid
@@ -27,6 +29,10 @@ import java.util.concurrent.locks.ReentrantLock;
  * <p>Cache may be disabled (e.g. when JRebel used) by using environment variable or system property e.g.:
  * {@code System.setProperty(MethodDescriptorFactory.CACHE_PROPERTY, 'false')}.
  * Property value checked on cache write. To clear current cache state use static method.</p>
+ * <p>Descriptors are cached by repository type and method (identity, without any key objects), so cached
+ * descriptor lookup is lock free and does not allocate. Descriptor is built only once: concurrent calls
+ * for not yet cached method wait for the first build. Different methods may be built in parallel
+ * (see {@link MethodDescriptorPrecompiler}).</p>
  * <p>Note: there is also separate generics parsing cache (generics-resolver). If you will set system or environment
  * property before start or use static method to disable cache then generics cache will be also disabled.
  * If you have problems use static methods to know cache state.</p>
@@ -43,12 +49,13 @@ public class MethodDescriptorFactory {
      * If value is 'false' - cache disabled, otherwise cache enabled.
      */
     public static final String CACHE_PROPERTY = MethodDescriptorFactory.class.getName() + ".cache";
-    // lock will not affect performance for cached descriptors, just to make sure nothing was build two times
-    private static final ReentrantLock LOCK = new ReentrantLock();
 
     // cache is not cleared automatically, but it's hard to imagine how many descriptors should be cached
     // to cause problems
-    private final Map<String, RepositoryMethodDescriptor> cache = new HashMap<String, RepositoryMethodDescriptor>();
+    // repository type -> method -> descriptor (method may be declared in base type and used by many repositories)
+    // value is either descriptor or build task (placeholder for descriptor in progress)
+    private final ConcurrentMap<Class<?>, ConcurrentMap<Method, Object>> cache =
+            new ConcurrentHashMap<Class<?>, ConcurrentMap<Method, Object>>();
 
     private final Set<RepositoryExecutor> executors;
     private final RepositoryExecutor defaultExecutor;
@@ -73,31 +80,70 @@ public class MethodDescriptorFactory {
     }
 
     public RepositoryMethodDescriptor create(final Method method, final Class<?> type) throws Throwable {
-        final String methodIdentity = (type.getName() + " " + method.toString()).intern();
-        RepositoryMethodDescriptor descriptor = cache.get(methodIdentity);
-        if (descriptor == null) {
-            LOCK.lock();
-            try {
-                if (cache.get(methodIdentity) != null) {
-                    // descriptor could be created while thread wait for LOCK
-                    descriptor = cache.get(methodIdentity);
-                } else {
-
-                    descriptor = buildDescriptor(method, type);
-                    if (isCacheEnabled()) {
-                        // internal check
-                        Preconditions.checkState(cache.get(methodIdentity) == null,
-                                "Bad concurrency: descriptor already present in cache");
-                        cache.put(methodIdentity, descriptor);
+        final ConcurrentMap<Method, Object> typeCache = cache.get(type);
+        final Object cached = typeCache == null ? null : typeCache.get(method);
+        final RepositoryMethodDescriptor descriptor;
+        if (cached instanceof RepositoryMethodDescriptor) {
+            descriptor = (RepositoryMethodDescriptor) cached;
+        } else {
+            descriptor = isCacheEnabled() ? buildAndCache(method, type) : buildDescriptor(method, type);
+        }
+        return descriptor;
+    }
+
+    @SuppressWarnings("unchecked")
+    private RepositoryMethodDescriptor buildAndCache(final Method method, final Class<?> type) throws Throwable {
+        final ConcurrentMap<Method, Object> typeCache = getTypeCache(type);
+        final FutureTask<RepositoryMethodDescriptor> task = new FutureTask<RepositoryMethodDescriptor>(
+                new Callable<RepositoryMethodDescriptor>() {
+                    @Override
+                    public RepositoryMethodDescriptor call() throws Exception {
+                        return buildDescriptor(method, type);
                     }
-                }
-            } finally {
-                LOCK.unlock();
-            }
+                });
+        final Object registered = typeCache.putIfAbsent(method, task);
+        final RepositoryMethodDescriptor descriptor;
+        if (registered instanceof RepositoryMethodDescriptor) {
+            // built while current thread was preparing
+            descriptor = (RepositoryMethodDescriptor) registered;
+        } else if (registered == null) {
+            // current thread builds descriptor
+            task.run();
+            descriptor = awaitBuild(method, typeCache, task);
+        } else {
+            // wait for descriptor built by other thread
+            descriptor = awaitBuild(method, typeCache, (FutureTask<RepositoryMethodDescriptor>) registered);
         }
         return descriptor;
     }
 
+    private RepositoryMethodDescriptor awaitBuild(final Method method,
+                                                  final ConcurrentMap<Method, Object> typeCache,
+                                                  final FutureTask<RepositoryMethodDescriptor> build)
+            throws Throwable {
+        try {
+            final RepositoryMethodDescriptor descriptor = build.get();
+            typeCache.replace(method, build, descriptor);
+            return descriptor;
+        } catch (ExecutionException ex) {
+            // failed descriptor is not cached: next call will try again (and fail with the same error)
+            typeCache.remove(method, build);
+            throw ex.getCause();
+        }
+    }
+
+    private ConcurrentMap<Method, Object> getTypeCache(final Class<?> type) {
+        ConcurrentMap<Method, Object> typeCache = cache.get(type);
+        if (typeCache == null) {
+            typeCache = new ConcurrentHashMap<Method, Object>();
+            final ConcurrentMap<Method, Object> registered = cache.putIfAbsent(type, typeCache);
+            if (registered != null) {
+                typeCache = registered;
+            }
+        }
+        return typeCache;
+    }
+
     private RepositoryMethodDescriptor buildDescriptor(final Method method, final Class<?> type) {
         final DescriptorContext context = buildDescriptorContext(method, type);
         final RepositoryMethodDescriptor<?> descriptor = spiService.createMethodDescriptor(context);
@@ -141,13 +187,8 @@ public class MethodDescriptorFactory {
      * @see #CACHE_PROPERTY
      */
     public void clearCache() {
-        LOCK.lock();
-        try {
-            cache.clear();
-            GenericsInfoFactory.clearCache();
-        } finally {
-            LOCK.unlock();
-        }
+        cache.clear();
+        GenericsInfoFactory.clearCache();
     }
 
     /**
@@ -0,0 +1,267 @@
+package ru.vyarus.guice.persist.orient.repository.core;
+
+import com.google.common.base.Stopwatch;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.google.inject.Binding;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.spi.ConstructorBinding;
+import com.google.inject.spi.Dependency;
+import com.google.inject.spi.HasDependencies;
+import com.orientechnologies.orient.core.tx.OTransaction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.vyarus.guice.persist.orient.db.PersistListener;
+import ru.vyarus.guice.persist.orient.db.transaction.TxConfig;
+import ru.vyarus.guice.persist.orient.db.transaction.template.TxAction;
+import ru.vyarus.guice.persist.orient.db.transaction.template.TxTemplate;
+import ru.vyarus.guice.persist.orient.repository.core.ext.util.ExtUtils;
+import ru.vyarus.guice.persist.orient.repository.core.util.RepositoryUtils;
+
+import javax.inject.Inject;
+import javax.inject.Provider;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Builds repository method descriptors eagerly, on persistence start, instead of first method call.
+ * Enabled with {@link ru.vyarus.guice.persist.orient.RepositoryModule#precompileDescriptors(boolean)}.
+ * <p>Descriptors could be built only after database start, because method analysis requires registered
+ * model classes (object connection). Precompilation is performed after scheme initialization and before
+ * data initialization (see {@link PersistListener}).</p>
+ * <p>Repository types are searched in injector bindings and in dependencies of all bound types (so repository
+ * will be found if it's either bound directly or injected into some bound bean). Repositories, obtained directly
+ * from injector later (just in time bindings) could not be found and will be processed on first call (as usual).
+ * </p>
+ * <p>Descriptors are built in parallel (thread per available processor, each descriptor built inside
+ * NOTX unit of work). Method definition errors are thrown immediately (all errors are logged, first one is
+ * propagated), so incorrect repository fails application startup instead of first call.</p>
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class MethodDescriptorPrecompiler implements PersistListener {
+    private final Logger logger = LoggerFactory.getLogger(MethodDescriptorPrecompiler.class);
+
+    private final Injector injector;
+    private final MethodDescriptorFactory factory;
+    private final TxTemplate txTemplate;
+
+    @Inject
+    public MethodDescriptorPrecompiler(final Injector injector,
+                                       final MethodDescriptorFactory factory,
+                                       final TxTemplate txTemplate) {
+        this.injector = injector;
+        this.factory = factory;
+        this.txTemplate = txTemplate;
+    }
+
+    @Override
+    public void afterStart() {
+        precompile(findRepositoryMethods(injector));
+    }
+
+    @Override
+    public void beforeStop() {
+        // nothing to do: descriptors are valid until injector shutdown
+    }
+
+    private void precompile(final Map<Class<?>, List<Method>> repositories) {
+        final Stopwatch timer = Stopwatch.createStarted();
+        final int threads = Runtime.getRuntime().availableProcessors();
+        final ExecutorService executor = Executors.newFixedThreadPool(threads, new PrecompilerThreadFactory());
+        final Map<Future<?>, String> tasks = Maps.newLinkedHashMap();
+        try {
+            for (Map.Entry<Class<?>, List<Method>> entry : repositories.entrySet()) {
+                final Class<?> type = entry.getKey();
+                for (final Method method : entry.getValue()) {
+                    tasks.put(executor.submit(new Callable<Object>() {
+                        @Override
+                        public Object call() throws Exception {
+                            // connection required for analysis
+                            return txTemplate.doInTransaction(new TxConfig(OTransaction.TXTYPE.NOTX),
+                                    new TxAction<Object>() {
+                                        @Override
+                                        public Object execute() throws Throwable {
+                                            return factory.create(method, type);
+                                        }
+                                    });
+                        }
+                    }), RepositoryUtils.methodToString(type, method));
+                }
+            }
+            awaitAll(tasks);
+        } finally {
+            executor.shutdownNow();
+        }
+        logger.info("{} repository method descriptors ({} repositories) precompiled in {} using {} threads",
+                tasks.size(), repositories.size(), timer.stop(), threads);
+    }
+
+    private void awaitAll(final Map<Future<?>, String> tasks) {
+        MethodDefinitionException error = null;
+        for (Map.Entry<Future<?>, String> task : tasks.entrySet()) {
+            try {
+                task.getKey().get();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new MethodDefinitionException("Repository descriptors precompilation interrupted", ex);
+            } catch (ExecutionException ex) {
+                final MethodDefinitionException fail = new MethodDefinitionException(String.format(
+                        "Failed to analyze repository method %s", task.getValue()), ex.getCause());
+                logger.error(fail.getMessage(), fail.getCause());
+                if (error == null) {
+                    error = fail;
+                }
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    /**
+     * Search for repository types in injector bindings and bound types dependencies.
+     *
+     * @param injector injector
+     * @return repository methods by repository type
+     */
+    private Map<Class<?>, List<Method>> findRepositoryMethods(final Injector injector) {
+        final Set<Key<?>> keys = Sets.newLinkedHashSet();
+        for (Binding<?> binding : injector.getAllBindings().values()) {
+            keys.add(binding.getKey());
+            if (binding instanceof HasDependencies) {
+                for (Dependency<?> dependency : ((HasDependencies) binding).getDependencies()) {
+                    keys.add(unwrapProvider(dependency.getKey()));
+                }
+            }
+        }
+        final Map<Class<?>, List<Method>> res = Maps.newLinkedHashMap();
+        for (Key<?> key : keys) {
+            final Class<?> type = resolveType(injector, key);
+            if (type != null && !res.containsKey(type)) {
+                final List<Method> methods = findMethodsSafe(type);
+                if (!methods.isEmpty()) {
+                    res.put(type, methods);
+                }
+            }
+        }
+        return res;
+    }
+
+    private Key<?> unwrapProvider(final Key<?> key) {
+        final Type type = key.getTypeLiteral().getType();
+        Key<?> res = key;
+        if (type instanceof ParameterizedType) {
+            final Class<?> raw = key.getTypeLiteral().getRawType();
+            if (Provider.class.equals(raw) || com.google.inject.Provider.class.equals(raw)) {
+                res = Key.get(((ParameterizedType) type).getActualTypeArguments()[0]);
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Resolves repository root type the same way as it will be resolved from instance on method call
+     * (see {@link RepositoryUtils#resolveRepositoryClass(Object)}).
+     *
+     * @param injector injector
+     * @param key      binding or dependency key
+     * @return actual type or null if key is not a class binding
+     */
+    private Class<?> resolveType(final Injector injector, final Key<?> key) {
+        final Binding<?> binding = injector.getExistingBinding(key);
+        Class<?> res = null;
+        if (binding instanceof ConstructorBinding) {
+            res = ((ConstructorBinding<?>) binding).getConstructor().getDeclaringType().getRawType();
+        } else if (binding != null && key.getAnnotationType() == null) {
+            // provided types (e.g. abstract repositories with dynamic class provider)
+            res = key.getTypeLiteral().getRawType();
+        }
+        return res == null || res.isPrimitive() || res.isArray() || res.getName().startsWith("java") ? null : res;
+    }
+
+    private List<Method> findMethodsSafe(final Class<?> type) {
+        List<Method> res;
+        try {
+            res = findMethods(type);
+        } catch (LinkageError ex) {
+            // bound class could reference classes not available in classpath (optional dependencies)
+            logger.trace("Failed to introspect type " + type.getName(), ex);
+            res = Lists.newArrayList();
+        }
+        return res;
+    }
+
+    /**
+     * Searches for repository methods the same way as repository aop matcher.
+     * Method declared in type is preferred over the same method declared in upper classes and interfaces.
+     *
+     * @param type repository type
+     * @return repository methods
+     */
+    private List<Method> findMethods(final Class<?> type) {
+        final List<Method> res = Lists.newArrayList();
+        final Set<String> signatures = Sets.newHashSet();
+        Class<?> current = type;
+        while (current != null && current != Object.class) {
+            collectMethods(current.getDeclaredMethods(), res, signatures);
+            current = current.getSuperclass();
+        }
+        // interface methods (including interfaces of abstract classes)
+        collectMethods(type.getMethods(), res, signatures);
+        return res;
+    }
+
+    private void collectMethods(final Method[] methods, final List<Method> res, final Set<String> signatures) {
+        for (Method method : methods) {
+            if (method.isSynthetic() || method.isBridge() || Modifier.isPrivate(method.getModifiers())
+                    || Modifier.isStatic(method.getModifiers())) {
+                continue;
+            }
+            // overriding method is called (even if it's not repository method)
+            if (signatures.add(method.getName() + Arrays.toString(method.getParameterTypes()))
+                    && isRepositoryMethod(method)) {
+                res.add(method);
+            }
+        }
+    }
+
+    private boolean isRepositoryMethod(final Method method) {
+        try {
+            return ExtUtils.findMethodAnnotation(method) != null;
+        } catch (Exception ex) {
+            throw new MethodDefinitionException(String.format("Error declaration on method %s",
+                    RepositoryUtils.methodToString(method)), ex);
+        }
+    }
+
+    /**
+     * Daemon threads (to not block jvm shutdown) with recognizable names.
+     */
+    private static class PrecompilerThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            final Thread thread = new Thread(runnable, "repository-precompiler-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
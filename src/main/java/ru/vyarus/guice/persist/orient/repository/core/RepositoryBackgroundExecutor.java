@@ -0,0 +1,64 @@
+package ru.vyarus.guice.persist.orient.repository.core;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import ru.vyarus.guice.persist.orient.db.PersistListener;
+
+import javax.inject.Singleton;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Shared executor for repository background tasks (e.g. asynchronous query streams, background vertices
+ * purge). Tasks usually hold their own connection, so executor is bound to persistence lifecycle: it is created
+ * on first task submission and shut down (with running tasks interruption) before persistence stop.
+ * Threads are daemons.
+ * <p>Registered as {@link PersistListener} by {@link ru.vyarus.guice.persist.orient.RepositoryModule}.</p>
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@Singleton
+public class RepositoryBackgroundExecutor implements PersistListener {
+
+    private ExecutorService executor;
+
+    /**
+     * @param task background task
+     * @return task future
+     */
+    public synchronized Future<?> submit(final Runnable task) {
+        return getExecutor().submit(task);
+    }
+
+    /**
+     * @param task background task
+     * @param <T>  task result type
+     * @return task future
+     */
+    public synchronized <T> Future<T> submit(final Callable<T> task) {
+        return getExecutor().submit(task);
+    }
+
+    @Override
+    public void afterStart() {
+        // executor is created lazily
+    }
+
+    @Override
+    public synchronized void beforeStop() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    private ExecutorService getExecutor() {
+        if (executor == null) {
+            executor = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+                    .setNameFormat("repository-background-%d").setDaemon(true).build());
+        }
+        return executor;
+    }
+}
@@ -79,10 +79,16 @@ public class DefaultResultConverter implements ResultConverter {
     private Object handleArray(final Object result, final Class entityType) {
         final Collection res = result instanceof Collection
                 ? (Collection) result : convertToCollection(result, ArrayList.class);
-        final Object array = Array.newInstance(entityType, res.size());
-        int i = 0;
-        for (Object obj : res) {
-            Array.set(array, i++, flattenSimple(obj, entityType));
+        final Object array;
+        if (entityType.isPrimitive()) {
+            // filled directly, without reflection
+            array = PrimitiveArrays.toArray(res, entityType);
+        } else {
+            array = Array.newInstance(entityType, res.size());
+            int i = 0;
+            for (Object obj : res) {
+                Array.set(array, i++, flattenSimple(obj, entityType));
+            }
         }
         return array;
     }
@@ -0,0 +1,147 @@
+package ru.vyarus.guice.persist.orient.repository.core.ext.service.result.converter;
+
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+
+import java.util.Collection;
+import java.util.Iterator;
+
+/**
+ * Conversion of query results into primitive arrays (e.g. {@code long[]} or {@code double[]}). Arrays are filled
+ * directly (without reflection and intermediate wrapper arrays). Result element could be a value itself or
+ * document (or vertex) with exactly one field (typical for projections: {@code select id from Model}).
+ * <p>Null values can't be stored in primitive array, so error is thrown for null elements.</p>
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@SuppressWarnings("PMD.CyclomaticComplexity")
+public final class PrimitiveArrays {
+
+    private PrimitiveArrays() {
+    }
+
+    /**
+     * @param values result elements
+     * @param type   primitive array component type
+     * @return primitive array
+     * @throws ResultConversionException if element could not be converted
+     */
+    public static Object toArray(final Collection<?> values, final Class<?> type) {
+        final Object res;
+        if (long.class.equals(type)) {
+            res = toLongs(values);
+        } else if (int.class.equals(type)) {
+            res = toInts(values);
+        } else if (double.class.equals(type)) {
+            res = toDoubles(values);
+        } else if (float.class.equals(type)) {
+            res = toFloats(values);
+        } else if (short.class.equals(type)) {
+            res = toShorts(values);
+        } else if (byte.class.equals(type)) {
+            res = toBytes(values);
+        } else if (boolean.class.equals(type)) {
+            res = toBooleans(values);
+        } else if (char.class.equals(type)) {
+            res = toChars(values);
+        } else {
+            throw new ResultConversionException("Not a primitive type " + type);
+        }
+        return res;
+    }
+
+    private static long[] toLongs(final Collection<?> values) {
+        final long[] res = new long[values.size()];
+        final Iterator<?> it = values.iterator();
+        for (int i = 0; i < res.length; i++) {
+            res[i] = number(it.next(), long.class).longValue();
+        }
+        return res;
+    }
+
+    private static int[] toInts(final Collection<?> values) {
+        final int[] res = new int[values.size()];
+        final Iterator<?> it = values.iterator();
+        for (int i = 0; i < res.length; i++) {
+            res[i] = number(it.next(), int.class).intValue();
+        }
+        return res;
+    }
+
+    private static double[] toDoubles(final Collection<?> values) {
+        final double[] res = new double[values.size()];
+        final Iterator<?> it = values.iterator();
+        for (int i = 0; i < res.length; i++) {
+            res[i] = number(it.next(), double.class).doubleValue();
+        }
+        return res;
+    }
+
+    private static float[] toFloats(final Collection<?> values) {
+        final float[] res = new float[values.size()];
+        final Iterator<?> it = values.iterator();
+        for (int i = 0; i < res.length; i++) {
+            res[i] = number(it.next(), float.class).floatValue();
+        }
+        return res;
+    }
+
+    private static short[] toShorts(final Collection<?> values) {
+        final short[] res = new short[values.size()];
+        final Iterator<?> it = values.iterator();
+        for (int i = 0; i < res.length; i++) {
+            res[i] = number(it.next(), short.class).shortValue();
+        }
+        return res;
+    }
+
+    private static byte[] toBytes(final Collection<?> values) {
+        final byte[] res = new byte[values.size()];
+        final Iterator<?> it = values.iterator();
+        for (int i = 0; i < res.length; i++) {
+            res[i] = number(it.next(), byte.class).byteValue();
+        }
+        return res;
+    }
+
+    private static boolean[] toBooleans(final Collection<?> values) {
+        final boolean[] res = new boolean[values.size()];
+        final Iterator<?> it = values.iterator();
+        for (int i = 0; i < res.length; i++) {
+            res[i] = value(it.next(), Boolean.class, boolean.class);
+        }
+        return res;
+    }
+
+    private static char[] toChars(final Collection<?> values) {
+        final char[] res = new char[values.size()];
+        final Iterator<?> it = values.iterator();
+        for (int i = 0; i < res.length; i++) {
+            res[i] = value(it.next(), Character.class, char.class);
+        }
+        return res;
+    }
+
+    private static Number number(final Object element, final Class<?> type) {
+        return value(element, Number.class, type);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T value(final Object element, final Class<T> valueType, final Class<?> type) {
+        Object res = element;
+        if (!valueType.isInstance(res) && res instanceof OIdentifiable) {
+            // single field document (projection) or vertex
+            final ORecord record = ((OIdentifiable) res).getRecord();
+            if (record instanceof ODocument && ((ODocument) record).fields() == 1) {
+                res = ((ODocument) record).fieldValues()[0];
+            }
+        }
+        if (!valueType.isInstance(res)) {
+            throw new ResultConversionException(String.format("Can't store %s into %s array",
+                    res == null ? "null" : res.getClass().getName(), type.getName()));
+        }
+        return (T) res;
+    }
+}
@@ -0,0 +1,42 @@
+package ru.vyarus.guice.persist.orient.repository.core.ext.service.result.ext.cache;
+
+import ru.vyarus.guice.persist.orient.repository.core.spi.result.ResultConverter;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Caches method result by method arguments (application level cache for read-mostly data). Cached result
+ * is invalidated when records of dependent schema classes (or their subclasses) are created, updated or deleted
+ * (see {@link ResultCacheHook}).
+ * <p>Dependent classes are resolved from query (classes after "from"), but for complex queries (or not query
+ * methods, like delegates) classes must be declared explicitly.</p>
+ * <p>Cached result is detached: objects are detached from object connection (the same as
+ * {@link ru.vyarus.guice.persist.orient.repository.core.ext.service.result.ext.detach.DetachResult}) and documents
+ * are copied. Graph elements are not supported. Iterator and
+ * {@link ru.vyarus.guice.persist.orient.repository.command.core.stream.ResultStream} results can't be cached.
+ * The same result instance is returned for all calls with equal arguments (from different threads),
+ * so result must not be modified.</p>
+ * <p>Null results are not cached. Results are not cached (and cache is not used) inside transaction with not
+ * committed changes.</p>
+ * <p>Cache size is limited with {@link ru.vyarus.guice.persist.orient.RepositoryModule#resultCacheSize(int)}.</p>
+ * <p>Changes made outside of pool connections (e.g. by other applications) are not tracked.</p>
+ *
+ * @author Vyacheslav Rusakov
+ * @see ResultCache
+ * @since 18.10.2026
+ */
+@Target({METHOD, TYPE})
+@Retention(RUNTIME)
+@ResultConverter(CacheResultExtension.class)
+public @interface CacheResult {
+
+    /**
+     * @return dependent schema class names (resolved from query if not declared)
+     */
+    String[] value() default {};
+}
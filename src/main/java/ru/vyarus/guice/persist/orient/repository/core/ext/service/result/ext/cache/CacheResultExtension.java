@@ -0,0 +1,163 @@
+package ru.vyarus.guice.persist.orient.repository.core.ext.service.result.ext.cache;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.object.db.OObjectDatabaseTx;
+import javassist.util.proxy.Proxy;
+import ru.vyarus.guice.persist.orient.repository.command.core.el.ElUtils;
+import ru.vyarus.guice.persist.orient.repository.command.core.spi.CommandMethodDescriptor;
+import ru.vyarus.guice.persist.orient.repository.command.core.stream.ResultStream;
+import ru.vyarus.guice.persist.orient.repository.core.ext.service.result.converter.ResultConversionException;
+import ru.vyarus.guice.persist.orient.repository.core.spi.RepositoryMethodDescriptor;
+import ru.vyarus.guice.persist.orient.repository.core.spi.result.ResultExtension;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static ru.vyarus.guice.persist.orient.repository.core.MethodDefinitionException.check;
+
+/**
+ * {@link CacheResult} result extension. Resolves dependent classes and detaches result before caching.
+ * Cache itself is applied in {@link ru.vyarus.guice.persist.orient.repository.RepositoryMethodInterceptor},
+ * because cached result must avoid method execution.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@Singleton
+public class CacheResultExtension implements ResultExtension<CacheResult> {
+
+    public static final String KEY = CacheResultExtension.class.getName();
+    private static final Pattern FROM = Pattern.compile("\\sfrom\\s+([^\\s,()\\[\\]]+)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern CLASS_NAME = Pattern.compile("[A-Za-z_][\\w]*");
+
+    private final ResultCache cache;
+
+    @Inject
+    public CacheResultExtension(final ResultCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void handleAnnotation(final RepositoryMethodDescriptor descriptor, final CacheResult annotation) {
+        final Set<String> classes = annotation.value().length > 0
+                ? ImmutableSet.copyOf(annotation.value()) : findClasses(descriptor);
+        check(!classes.isEmpty(), "Failed to resolve dependent classes for @%s: declare classes explicitly",
+                CacheResult.class.getSimpleName());
+        descriptor.extDescriptors.put(KEY, classes);
+        cache.register(classes);
+    }
+
+    @Override
+    public Object convert(final RepositoryMethodDescriptor descriptor, final Object result) {
+        if (result == null) {
+            return null;
+        }
+        if (result instanceof Iterator) {
+            throw new ResultConversionException(String.format("%s result can't be cached",
+                    result instanceof ResultStream ? ResultStream.class.getSimpleName() : "Iterator"));
+        }
+        final Object res;
+        if (result instanceof Collection) {
+            res = unmodifiable(descriptor.result.expectType, detachCollection(descriptor, (Collection) result));
+        } else if (result.getClass().isArray()) {
+            res = detachArray(descriptor, result);
+        } else {
+            res = detach(descriptor, result);
+        }
+        return res;
+    }
+
+    private Set<String> findClasses(final RepositoryMethodDescriptor descriptor) {
+        final ImmutableSet.Builder<String> res = ImmutableSet.builder();
+        if (descriptor instanceof CommandMethodDescriptor) {
+            final CommandMethodDescriptor desc = (CommandMethodDescriptor) descriptor;
+            // generic variables (e.g. ${T} in mixins) are known at this point
+            final String command = desc.el == null ? desc.command
+                    : ElUtils.replace(desc.command, desc.el.directValues);
+            final Matcher matcher = FROM.matcher(" " + command);
+            while (matcher.find()) {
+                final String name = matcher.group(1);
+                check(CLASS_NAME.matcher(name).matches(), "Can't resolve class '%s' for @%s: "
+                        + "declare classes explicitly", name, CacheResult.class.getSimpleName());
+                res.add(name);
+            }
+        }
+        return res.build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Collection detachCollection(final RepositoryMethodDescriptor descriptor, final Collection result) {
+        final List<Object> tmp = Lists.newArrayListWithCapacity(result.size());
+        for (Object obj : result) {
+            tmp.add(detach(descriptor, obj));
+        }
+        result.clear();
+        result.addAll(tmp);
+        return result;
+    }
+
+    /**
+     * Cached collection is shared between all callers, so it is wrapped with unmodifiable view, if method
+     * return type allows it. Otherwise, collection will be copied for each caller (see {@link ResultCache}).
+     *
+     * @param expectType method return type
+     * @param result     detached collection
+     * @return unmodifiable collection view or the same collection if view is not compatible with return type
+     */
+    @SuppressWarnings("unchecked")
+    private Collection unmodifiable(final Class<?> expectType, final Collection result) {
+        final Collection res;
+        if (result instanceof List && expectType.isAssignableFrom(List.class)) {
+            res = Collections.unmodifiableList((List) result);
+        } else if (result instanceof SortedSet && expectType.isAssignableFrom(SortedSet.class)) {
+            res = Collections.unmodifiableSortedSet((SortedSet) result);
+        } else if (result instanceof Set && expectType.isAssignableFrom(Set.class)) {
+            res = Collections.unmodifiableSet((Set) result);
+        } else if (expectType.isAssignableFrom(Collection.class)) {
+            res = Collections.unmodifiableCollection(result);
+        } else {
+            res = result;
+        }
+        return res;
+    }
+
+    private Object detachArray(final RepositoryMethodDescriptor descriptor, final Object result) {
+        if (!result.getClass().getComponentType().isPrimitive()) {
+            for (int i = 0; i < Array.getLength(result); i++) {
+                Array.set(result, i, detach(descriptor, Array.get(result, i)));
+            }
+        }
+        return result;
+    }
+
+    private Object detach(final RepositoryMethodDescriptor descriptor, final Object obj) {
+        final Object res;
+        if (obj instanceof ODocument) {
+            final ODocument doc = ((ODocument) obj).copy();
+            // load all fields to avoid lazy deserialization (without connection)
+            doc.deserializeFields();
+            res = doc;
+        } else if (obj instanceof Proxy) {
+            res = ((OObjectDatabaseTx) descriptor.executor.getConnection()).detachAll(obj, true);
+        } else if (obj instanceof OIdentifiable) {
+            throw new ResultConversionException(String.format("Result object %s can't be cached",
+                    obj.getClass().getSimpleName()));
+        } else {
+            res = obj;
+        }
+        return res;
+    }
+}
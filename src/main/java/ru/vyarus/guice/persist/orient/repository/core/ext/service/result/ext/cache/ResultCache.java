@@ -0,0 +1,250 @@
+package ru.vyarus.guice.persist.orient.repository.core.ext.service.result.ext.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+import com.google.common.cache.RemovalListener;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.collect.Sets;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
+import ru.vyarus.guice.persist.orient.repository.core.spi.RepositoryMethodDescriptor;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link CacheResult} methods results cache. Results are cached by method descriptor and arguments.
+ * Cache size is limited ({@link ru.vyarus.guice.persist.orient.RepositoryModule#resultCacheSize(int)}):
+ * least recently used results are evicted.
+ * <p>Cached results are invalidated by dependent schema class name (by {@link ResultCacheHook}).
+ * To avoid caching stale result (when record changed during method execution), result is cached only if no
+ * dependent classes changes were registered during execution.</p>
+ * <p>Cached instance is shared between callers: collections are cached as unmodifiable views (when method
+ * return type allows) and arrays or collections of concrete type are copied for each caller.</p>
+ * <p>Inject to invalidate manually (e.g. after changes made with other connection):
+ * {@code @Inject ResultCache cache; cache.invalidate("Model")}.</p>
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@Singleton
+public class ResultCache {
+
+    private final int maxSize;
+    private final Cache<Key, Object> cache;
+    // dependent class name -> cached keys
+    private final ConcurrentMap<String, Set<Key>> index = new ConcurrentHashMap<String, Set<Key>>();
+    private final AtomicLong generation = new AtomicLong();
+
+    @Inject
+    public ResultCache(@Named("orient.repository.result.cache.size") final int maxSize) {
+        this.maxSize = maxSize;
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .removalListener(new RemovalListener<Key, Object>() {
+                    @Override
+                    public void onRemoval(final RemovalNotification<Key, Object> notification) {
+                        if (notification.getCause() != RemovalCause.REPLACED) {
+                            unindex(notification.getKey());
+                        }
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * Called on descriptor creation to register dependent classes.
+     *
+     * @param classes dependent schema class names
+     */
+    public void register(final Collection<String> classes) {
+        for (String type : classes) {
+            final String name = normalize(type);
+            if (!index.containsKey(name)) {
+                index.putIfAbsent(name, Sets.<Key>newConcurrentHashSet());
+            }
+        }
+    }
+
+    /**
+     * @param type schema class name
+     * @return true if class results are cached, false otherwise
+     */
+    public boolean isTracked(final String type) {
+        return index.containsKey(normalize(type));
+    }
+
+    /**
+     * @return true if cache could be used in current unit of work (no pending changes in transaction)
+     */
+    public boolean isApplicable() {
+        final ODatabaseDocumentInternal db = ODatabaseRecordThreadLocal.INSTANCE.getIfDefined();
+        return maxSize > 0 && (db == null || db.isClosed() || db.getTransaction().getEntryCount() == 0);
+    }
+
+    /**
+     * Must be called before method execution to detect changes during execution.
+     *
+     * @return current changes generation
+     */
+    public long getGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * @param descriptor repository method descriptor
+     * @param arguments  method arguments
+     * @return cached result or null
+     */
+    public Object get(final RepositoryMethodDescriptor descriptor, final Object... arguments) {
+        final Object res = cache.getIfPresent(new Key(descriptor, arguments));
+        return res == null ? null : copy(descriptor, res);
+    }
+
+    /**
+     * Caches result only if no changes were registered since provided generation.
+     *
+     * @param descriptor repository method descriptor
+     * @param generation changes generation obtained before method execution
+     * @param result     method result (detached)
+     * @param arguments  method arguments
+     */
+    public void put(final RepositoryMethodDescriptor descriptor, final long generation,
+                    final Object result, final Object... arguments) {
+        if (result == null || generation != this.generation.get()) {
+            return;
+        }
+        final Key key = new Key(descriptor, arguments.clone());
+        for (String type : getClasses(descriptor)) {
+            index.get(normalize(type)).add(key);
+        }
+        cache.put(key, copy(descriptor, result));
+        if (generation != this.generation.get()) {
+            // change registered concurrently
+            cache.invalidate(key);
+        }
+    }
+
+    /**
+     * Invalidates all results, dependent on schema class.
+     *
+     * @param type schema class name
+     */
+    public void invalidate(final String type) {
+        final Set<Key> keys = index.get(normalize(type));
+        if (keys != null) {
+            generation.incrementAndGet();
+            if (!keys.isEmpty()) {
+                cache.invalidateAll(Sets.newHashSet(keys));
+            }
+        }
+    }
+
+    /**
+     * Invalidates all cached results.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    /**
+     * @return count of cached results
+     */
+    public long size() {
+        return cache.size();
+    }
+
+    /**
+     * @return ratio of cache hits to all cache requests (1 if no requests were made)
+     */
+    public double getHitRate() {
+        return cache.stats().hitRate();
+    }
+
+    /**
+     * Arrays and collections, not wrapped with unmodifiable view (because of concrete method return type),
+     * are copied to not share mutable cached instance.
+     *
+     * @param descriptor repository method descriptor
+     * @param value      cached value
+     * @return value copy or the same value if copy is not required
+     */
+    @SuppressWarnings("unchecked")
+    private Object copy(final RepositoryMethodDescriptor descriptor, final Object value) {
+        Object res = value;
+        if (value.getClass().isArray()) {
+            final int length = Array.getLength(value);
+            res = Array.newInstance(value.getClass().getComponentType(), length);
+            System.arraycopy(value, 0, res, 0, length);
+        } else if (value instanceof Collection && !descriptor.result.expectType.isInterface()) {
+            try {
+                final Collection copy = (Collection) value.getClass().newInstance();
+                copy.addAll((Collection) value);
+                res = copy;
+            } catch (Exception ex) {
+                throw new IllegalStateException("Failed to copy cached collection "
+                        + value.getClass().getName(), ex);
+            }
+        }
+        return res;
+    }
+
+    private void unindex(final Key key) {
+        for (String type : getClasses(key.descriptor)) {
+            index.get(normalize(type)).remove(key);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<String> getClasses(final RepositoryMethodDescriptor descriptor) {
+        return (Set<String>) descriptor.extDescriptors.get(CacheResultExtension.KEY);
+    }
+
+    private String normalize(final String type) {
+        // orient class names are case insensitive
+        return type.toLowerCase();
+    }
+
+    /**
+     * Cache key: method descriptor (identity) and arguments.
+     */
+    private static final class Key {
+        private final RepositoryMethodDescriptor descriptor;
+        private final Object[] arguments;
+        private final int hash;
+
+        Key(final RepositoryMethodDescriptor descriptor, final Object... arguments) {
+            this.descriptor = descriptor;
+            this.arguments = arguments;
+            this.hash = 31 * System.identityHashCode(descriptor) + Arrays.deepHashCode(arguments);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key key = (Key) o;
+            return hash == key.hash && descriptor == key.descriptor && Arrays.deepEquals(arguments, key.arguments);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package ru.vyarus.guice.persist.orient.repository.core.ext.service.result.ext.cache;
+
+import com.google.common.collect.Sets;
+import com.orientechnologies.orient.core.command.OCommandExecutor;
+import com.orientechnologies.orient.core.command.OCommandRequestText;
+import com.orientechnologies.orient.core.db.ODatabase;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseListener;
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
+import com.orientechnologies.orient.core.hook.ORecordHookAbstract;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Invalidates {@link ResultCache} on record create, update or delete. Record class and all its superclasses
+ * are invalidated (because queries are polymorphic).
+ * <p>Inside transaction record hooks are called on record save (not on commit), so changed classes are
+ * collected and invalidated only after transaction commit (otherwise concurrent query could cache not yet
+ * committed state under new changes generation). Collected classes are discarded on rollback.
+ * Without transaction, changes are invalidated immediately.</p>
+ * <p>Registered on all pool connections as hook and database listener (see
+ * {@link ru.vyarus.guice.persist.orient.OrientModule} record hooks).</p>
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@Singleton
+public class ResultCacheHook extends ORecordHookAbstract implements ODatabaseListener {
+
+    private final ResultCache cache;
+    // connection -> changed classes in current transaction (connections are thread bound)
+    private final ThreadLocal<Map<ODatabase, Set<String>>> pending = new ThreadLocal<Map<ODatabase, Set<String>>>() {
+        @Override
+        protected Map<ODatabase, Set<String>> initialValue() {
+            return new IdentityHashMap<ODatabase, Set<String>>();
+        }
+    };
+
+    @Inject
+    public ResultCacheHook(final ResultCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public void onRecordAfterCreate(final ORecord record) {
+        changed(record);
+    }
+
+    @Override
+    public void onRecordAfterUpdate(final ORecord record) {
+        changed(record);
+    }
+
+    @Override
+    public void onRecordAfterDelete(final ORecord record) {
+        changed(record);
+    }
+
+    @Override
+    public DISTRIBUTED_EXECUTION_MODE getDistributedExecutionMode() {
+        return DISTRIBUTED_EXECUTION_MODE.BOTH;
+    }
+
+    @Override
+    public void onAfterTxCommit(final ODatabase db) {
+        final Set<String> classes = pending.get().remove(db);
+        if (classes != null) {
+            for (String type : classes) {
+                cache.invalidate(type);
+            }
+        }
+    }
+
+    @Override
+    public void onAfterTxRollback(final ODatabase db) {
+        pending.get().remove(db);
+    }
+
+    @Override
+    public void onClose(final ODatabase db) {
+        pending.get().remove(db);
+    }
+
+    @Override
+    public void onCreate(final ODatabase db) {
+        // not needed
+    }
+
+    @Override
+    public void onDelete(final ODatabase db) {
+        // not needed
+    }
+
+    @Override
+    public void onOpen(final ODatabase db) {
+        // not needed
+    }
+
+    @Override
+    public void onBeforeTxBegin(final ODatabase db) {
+        // not needed
+    }
+
+    @Override
+    public void onBeforeTxRollback(final ODatabase db) {
+        // not needed
+    }
+
+    @Override
+    public void onBeforeTxCommit(final ODatabase db) {
+        // not needed
+    }
+
+    @Override
+    public void onBeforeCommand(final OCommandRequestText command, final OCommandExecutor executor) {
+        // not needed
+    }
+
+    @Override
+    public void onAfterCommand(final OCommandRequestText command, final OCommandExecutor executor,
+                               final Object result) {
+        // not needed
+    }
+
+    @Override
+    public boolean onCorruptionRepairDatabase(final ODatabase db, final String reason, final String action) {
+        return false;
+    }
+
+    private void changed(final ORecord record) {
+        if (!(record instanceof ODocument)) {
+            return;
+        }
+        final ODatabaseDocumentInternal db = ODatabaseRecordThreadLocal.INSTANCE.getIfDefined();
+        if (db != null && db.getTransaction().isActive()) {
+            Set<String> classes = pending.get().get(db);
+            if (classes == null) {
+                classes = Sets.newHashSet();
+                pending.get().put(db, classes);
+            }
+            classes.addAll(resolveClasses((ODocument) record));
+        } else {
+            for (String type : resolveClasses((ODocument) record)) {
+                cache.invalidate(type);
+            }
+        }
+    }
+
+    private Set<String> resolveClasses(final ODocument doc) {
+        final Set<String> res = Sets.newHashSet();
+        final OClass type = doc.getSchemaClass();
+        if (type == null) {
+            final String name = doc.getClassName();
+            if (name != null) {
+                res.add(name);
+            }
+        } else {
+            res.add(type.getName());
+            for (OClass superType : type.getAllSuperClasses()) {
+                res.add(superType.getName());
+            }
+        }
+        return res;
+    }
+}
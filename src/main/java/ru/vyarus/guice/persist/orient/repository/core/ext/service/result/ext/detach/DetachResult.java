@@ -12,10 +12,12 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
 /**
  * Result extension to detach result objects. Use detach to plain object.
  * <p>Extension works in very simple way: if plain result, its being unproxied. In case of collection,
- * collection is cleared (to save the same collection type) and unproxied results added at the same order.</p>
+ * unproxied results replace original elements in the same collection (at the same order).
+ * Object referenced from multiple results is detached once.</p>
  * <p>If used with objects created in this transaction (and so having temporal id in time of detach),
  * resulted pojo will be tracked and correct id set after transaction commit.</p>
- * <p>Be careful, because detach will lead to loading of entire object graph.</p>
+ * <p>Be careful, because detach will lead to loading of entire object graph. Use {@link #depth()} to limit
+ * detached graph.</p>
  * <p>If used not with object connection, error will be thrown to indicate incorrect usage.</p>
  *
  * @author Vyacheslav Rusakov
@@ -25,4 +27,13 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
 @Retention(RUNTIME)
 @ResultConverter(DetachResultExtension.class)
 public @interface DetachResult {
+
+    /**
+     * Limits detached objects graph: 0 - only result object itself, 1 - result object and directly linked
+     * objects, etc. Links (and collections of links) deeper than depth are not loaded and set to null in
+     * detached objects.
+     *
+     * @return detach depth (by default entire graph is detached)
+     */
+    int depth() default -1;
 }
@@ -2,33 +2,37 @@ package ru.vyarus.guice.persist.orient.repository.core.ext.service.result.ext.de
 
 import com.google.common.collect.Lists;
 import com.orientechnologies.orient.object.db.OObjectDatabaseTx;
-import javassist.util.proxy.Proxy;
 import ru.vyarus.guice.persist.orient.db.DbType;
-import ru.vyarus.guice.persist.orient.db.util.RidUtils;
+import ru.vyarus.guice.persist.orient.repository.command.core.stream.ResultStream;
 import ru.vyarus.guice.persist.orient.repository.core.ext.service.result.converter.ResultConversionException;
 import ru.vyarus.guice.persist.orient.repository.core.spi.RepositoryMethodDescriptor;
 import ru.vyarus.guice.persist.orient.repository.core.spi.result.ResultExtension;
 
 import javax.inject.Singleton;
-import java.lang.reflect.Array;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.ListIterator;
 
 import static ru.vyarus.guice.persist.orient.repository.core.MethodExecutionException.checkExec;
 
 /**
  * {@link DetachResult} result extension.
+ * <p>Result elements are detached in one pass: list elements are replaced in place (other collections
+ * are refilled from pre-sized buffer) and objects shared between elements are detached once
+ * (see {@link ObjectDetacher}).</p>
  *
  * @author Vyacheslav Rusakov
  * @since 02.03.2015
  */
 @Singleton
 public class DetachResultExtension implements ResultExtension<DetachResult> {
+    private static final String KEY = DetachResultExtension.class.getName();
 
     @Override
+    @SuppressWarnings("unchecked")
     public void handleAnnotation(final RepositoryMethodDescriptor descriptor, final DetachResult annotation) {
-        // not needed
+        descriptor.extDescriptors.put(KEY, annotation.depth());
     }
 
     @Override
@@ -37,16 +41,21 @@ public class DetachResultExtension implements ResultExtension<DetachResult> {
                         + "objects from OBJECT connection, but current connection is %s",
                 descriptor.executor.getType());
         final OObjectDatabaseTx connection = (OObjectDatabaseTx) descriptor.executor.getConnection();
+        final int depth = (Integer) descriptor.extDescriptors.get(KEY);
+        final ObjectDetacher detacher = new ObjectDetacher(connection, depth);
         final Object res;
         switch (descriptor.result.returnType) {
             case PLAIN:
-                res = detach(result, connection);
+                res = detacher.detach(result);
                 break;
             case COLLECTION:
-                res = handleCollection(result, connection);
+                // lazy result must stay lazy
+                res = result instanceof ResultStream
+                        ? new DetachedResultStream((ResultStream) result, connection, depth)
+                        : handleCollection(result, detacher);
                 break;
             case ARRAY:
-                res = handleArray(result, connection);
+                res = handleArray(result, detacher);
                 break;
             default:
                 throw new ResultConversionException("Unsupported return type " + descriptor.result.returnType);
@@ -54,45 +63,89 @@ public class DetachResultExtension implements ResultExtension<DetachResult> {
         return res;
     }
 
-    private Object handleCollection(final Object result, final OObjectDatabaseTx connection) {
-        final boolean isIterator = result instanceof Iterator;
-        @SuppressWarnings("unchecked")
-        final Collection<Object> col = isIterator ? Lists.newArrayList((Iterator) result)
-                : (Collection<Object>) result;
-        final Collection res = detachCollection(col, connection);
-        return isIterator ? res.iterator() : res;
-    }
-
     @SuppressWarnings("unchecked")
-    private Collection detachCollection(final Collection result, final OObjectDatabaseTx connection) {
-        final List<Object> tmp = Lists.newArrayList();
-        for (Object obj : result) {
-            tmp.add(obj == null ? null : detach(obj, connection));
+    private Object handleCollection(final Object result, final ObjectDetacher detacher) {
+        final Object res;
+        if (result instanceof Iterator) {
+            final List<Object> detached = Lists.newArrayList();
+            final Iterator<Object> it = (Iterator<Object>) result;
+            while (it.hasNext()) {
+                detached.add(detach(it.next(), detacher));
+            }
+            res = detached.iterator();
+        } else {
+            res = detachCollection((Collection<Object>) result, detacher);
         }
-        result.clear();
-        for (Object obj : tmp) {
-            result.add(obj);
+        return res;
+    }
+
+    private Collection detachCollection(final Collection<Object> result, final ObjectDetacher detacher) {
+        if (result instanceof List) {
+            // replace in place
+            final ListIterator<Object> it = ((List<Object>) result).listIterator();
+            while (it.hasNext()) {
+                it.set(detach(it.next(), detacher));
+            }
+        } else {
+            // collection cleared to save the same collection type
+            final List<Object> tmp = Lists.newArrayListWithCapacity(result.size());
+            for (Object obj : result) {
+                tmp.add(detach(obj, detacher));
+            }
+            result.clear();
+            result.addAll(tmp);
         }
         return result;
     }
 
-    private Object handleArray(final Object result, final OObjectDatabaseTx connection) {
-        for (int i = 0; i < Array.getLength(result); i++) {
-            final Object elt = Array.get(result, i);
-            if (elt != null) {
-                Array.set(result, i, detach(elt, connection));
+    private Object handleArray(final Object result, final ObjectDetacher detacher) {
+        // primitive arrays can't contain objects
+        if (result instanceof Object[]) {
+            final Object[] array = (Object[]) result;
+            for (int i = 0; i < array.length; i++) {
+                array[i] = detach(array[i], detacher);
             }
         }
         return result;
     }
 
-    private Object detach(final Object pojo, final OObjectDatabaseTx connection) {
-        final Object res = connection.detachAll(pojo, true);
-        if (pojo instanceof Proxy) {
-            // when entity detached under transaction it gets temporal id
-            // this logic will catch real id after commit and set to object
-            RidUtils.trackIdChange((Proxy) pojo, res);
+    private static Object detach(final Object pojo, final ObjectDetacher detacher) {
+        return pojo == null ? null : detacher.detach(pojo);
+    }
+
+    /**
+     * Detaches lazy result objects on iteration. Detached objects are not shared between elements
+     * (in order to not hold entire result).
+     */
+    private static class DetachedResultStream implements ResultStream<Object> {
+        private final ResultStream stream;
+        private final OObjectDatabaseTx connection;
+        private final int depth;
+
+        DetachedResultStream(final ResultStream stream, final OObjectDatabaseTx connection, final int depth) {
+            this.stream = stream;
+            this.connection = connection;
+            this.depth = depth;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return stream.hasNext();
+        }
+
+        @Override
+        public Object next() {
+            return detach(stream.next(), new ObjectDetacher(connection, depth));
+        }
+
+        @Override
+        public void remove() {
+            stream.remove();
+        }
+
+        @Override
+        public void close() {
+            stream.close();
         }
-        return res;
     }
 }
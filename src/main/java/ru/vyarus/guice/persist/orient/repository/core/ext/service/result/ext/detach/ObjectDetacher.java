@@ -0,0 +1,174 @@
+package ru.vyarus.guice.persist.orient.repository.core.ext.service.result.ext.detach;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.object.db.OObjectDatabaseTx;
+import com.orientechnologies.orient.object.enhancement.OObjectEntitySerializer;
+import javassist.util.proxy.Proxy;
+import ru.vyarus.guice.persist.orient.db.util.RidUtils;
+import ru.vyarus.guice.persist.orient.repository.core.ext.service.result.converter.ResultConversionException;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Detaches objects of one method result. Already detached objects are shared between all detached elements
+ * (by record id), so object referenced from multiple result elements is detached only once (and the same
+ * instance is referenced in detached objects).
+ * <p>When depth is limited, only object itself is detached (not entire graph) and then linked objects are
+ * detached recursively up to required depth. Links (and collections of linked objects) deeper than
+ * depth are set to null (to avoid lazy loading proxies in detached objects).</p>
+ *
+ * @author Vyacheslav Rusakov
+ * @see DetachResult#depth()
+ * @since 18.10.2026
+ */
+public class ObjectDetacher {
+    private static final ConcurrentMap<Class<?>, List<Field>> FIELDS = new ConcurrentHashMap<Class<?>, List<Field>>();
+
+    private final OObjectDatabaseTx connection;
+    private final int depth;
+    // detached objects by record id
+    private final Map<Object, Object> detached = Maps.newHashMap();
+    private final Map<Object, Object> lazyObjects = Maps.newHashMap();
+
+    /**
+     * @param connection object connection
+     * @param depth      detach depth (negative for entire graph)
+     */
+    public ObjectDetacher(final OObjectDatabaseTx connection, final int depth) {
+        this.connection = connection;
+        this.depth = depth;
+    }
+
+    /**
+     * @param pojo object to detach
+     * @return detached object
+     */
+    public Object detach(final Object pojo) {
+        final Object res = depth < 0
+                ? OObjectEntitySerializer.detachAll(pojo, connection, true, detached, lazyObjects)
+                : detach(pojo, depth);
+        if (pojo instanceof Proxy) {
+            // when entity detached under transaction it gets temporal id
+            // this logic will catch real id after commit and set to object
+            RidUtils.trackIdChange((Proxy) pojo, res);
+        }
+        return res;
+    }
+
+    private Object detach(final Object pojo, final int level) {
+        Object res = pojo;
+        if (pojo instanceof Proxy) {
+            // the same way as orient detachAll: embedded documents are not shared
+            final ODocument doc = OObjectEntitySerializer.getDocument((Proxy) pojo);
+            final ORID key = doc == null || doc.isEmbedded() ? null : doc.getIdentity();
+            res = key == null ? null : detached.get(key);
+            if (res == null) {
+                res = connection.detach(pojo, true);
+                if (key != null) {
+                    detached.put(key, res);
+                }
+                detachLinks(res, level);
+            }
+        }
+        return res;
+    }
+
+    private void detachLinks(final Object pojo, final int level) {
+        try {
+            for (Field field : fields(pojo.getClass())) {
+                final Object value = field.get(pojo);
+                if (value != null) {
+                    final Object res = detachLink(value, level);
+                    if (res != value) {
+                        field.set(pojo, res);
+                    }
+                }
+            }
+        } catch (IllegalAccessException ex) {
+            throw new ResultConversionException("Failed to detach object links " + pojo.getClass().getName(), ex);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object detachLink(final Object value, final int level) {
+        Object res = value;
+        if (value instanceof Proxy) {
+            res = level > 0 ? detach(value, level - 1) : null;
+        } else if (value instanceof Collection && containsProxy((Collection) value)) {
+            res = level > 0 ? detachCollection((Collection<Object>) value, level - 1) : null;
+        } else if (value instanceof Map && containsProxy(((Map) value).values())) {
+            if (level > 0) {
+                for (Map.Entry<Object, Object> entry : ((Map<Object, Object>) value).entrySet()) {
+                    entry.setValue(detachLink(entry.getValue(), level));
+                }
+            } else {
+                res = null;
+            }
+        }
+        return res;
+    }
+
+    private Collection<Object> detachCollection(final Collection<Object> values, final int level) {
+        if (values instanceof List) {
+            final ListIterator<Object> it = ((List<Object>) values).listIterator();
+            while (it.hasNext()) {
+                final Object value = it.next();
+                if (value instanceof Proxy) {
+                    it.set(detach(value, level));
+                }
+            }
+        } else {
+            final List<Object> tmp = Lists.newArrayListWithCapacity(values.size());
+            for (Object value : values) {
+                tmp.add(value instanceof Proxy ? detach(value, level) : value);
+            }
+            values.clear();
+            values.addAll(tmp);
+        }
+        return values;
+    }
+
+    private static boolean containsProxy(final Collection<?> values) {
+        boolean res = false;
+        for (Object value : values) {
+            if (value instanceof Proxy) {
+                res = true;
+                break;
+            }
+        }
+        return res;
+    }
+
+    private static List<Field> fields(final Class<?> type) {
+        List<Field> res = FIELDS.get(type);
+        if (res == null) {
+            res = Lists.newArrayList();
+            Class<?> current = type;
+            while (current != null && current != Object.class) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()
+                            && !field.getType().isPrimitive()) {
+                        field.setAccessible(true);
+                        res.add(field);
+                    }
+                }
+                current = current.getSuperclass();
+            }
+            final List<Field> registered = FIELDS.putIfAbsent(type, res);
+            if (registered != null) {
+                res = registered;
+            }
+        }
+        return res;
+    }
+}
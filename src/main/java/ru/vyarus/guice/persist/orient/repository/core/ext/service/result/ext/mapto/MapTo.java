@@ -0,0 +1,39 @@
+package ru.vyarus.guice.persist.orient.repository.core.ext.service.result.ext.mapto;
+
+import ru.vyarus.guice.persist.orient.repository.core.spi.result.ResultConverter;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Result extension to map result documents into plain objects (dto). Intended for read-only projections:
+ * no object proxies created (as with object connection) and so no lazy loading after transaction.
+ * <p>Document connection is used by default (graph connection could be selected explicitly, then vertices and
+ * edges are mapped by their documents). Object connection is not allowed. Dto type is resolved from method
+ * return type (collection or array generic) if not declared explicitly.</p>
+ * <p>Dto must have public default constructor or constructor annotated with
+ * {@link java.beans.ConstructorProperties} (values are document field names). Document fields are mapped
+ * to constructor arguments and setters by name (use aliases in query to map field with different name, e.g.
+ * {@code select @rid as id, name from Model}). Field value is converted to target type
+ * (see {@link com.orientechnologies.orient.core.record.impl.ODocument#field(String, Class)}), null or absent
+ * fields are ignored. Embedded documents are not mapped (so use document or map properties for them).</p>
+ * <p>Mapper is generated once for each dto type, so mapping cost is the same as hand written mapping.</p>
+ *
+ * @author Vyacheslav Rusakov
+ * @see ru.vyarus.guice.persist.orient.repository.core.ext.service.result.ext.mapto.mapper.DocumentMapperFactory
+ * @since 18.10.2026
+ */
+@Target({METHOD, TYPE})
+@Retention(RUNTIME)
+@ResultConverter(value = MapToResultExtension.class, applyDefaultConverter = false)
+public @interface MapTo {
+
+    /**
+     * @return dto type (by default resolved from method return type)
+     */
+    Class<?> value() default Object.class;
+}
@@ -0,0 +1,183 @@
+package ru.vyarus.guice.persist.orient.repository.core.ext.service.result.ext.mapto;
+
+import com.google.common.collect.Lists;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import ru.vyarus.guice.persist.orient.db.DbType;
+import ru.vyarus.guice.persist.orient.repository.command.core.stream.ResultStream;
+import ru.vyarus.guice.persist.orient.repository.core.MethodDefinitionException;
+import ru.vyarus.guice.persist.orient.repository.core.ext.service.result.converter.ResultConversionException;
+import ru.vyarus.guice.persist.orient.repository.core.ext.service.result.converter.ResultConverter;
+import ru.vyarus.guice.persist.orient.repository.core.ext.service.result.ext.mapto.mapper.DocumentMapper;
+import ru.vyarus.guice.persist.orient.repository.core.ext.service.result.ext.mapto.mapper.DocumentMapperFactory;
+import ru.vyarus.guice.persist.orient.repository.core.spi.RepositoryMethodDescriptor;
+import ru.vyarus.guice.persist.orient.repository.core.spi.result.ResultExtension;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static ru.vyarus.guice.persist.orient.repository.core.MethodDefinitionException.check;
+
+/**
+ * {@link MapTo} result extension. Maps result documents with generated mappers (mapper created once per dto type)
+ * and then applies default conversion (to method return type) to mapped result.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@Singleton
+public class MapToResultExtension implements ResultExtension<MapTo> {
+    private static final String KEY = MapToResultExtension.class.getName();
+
+    private final ResultConverter converter;
+    private final ConcurrentMap<Class<?>, DocumentMapper> mappers = new ConcurrentHashMap<Class<?>, DocumentMapper>();
+
+    @Inject
+    public MapToResultExtension(final ResultConverter converter) {
+        this.converter = converter;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void handleAnnotation(final RepositoryMethodDescriptor descriptor, final MapTo annotation) {
+        check(descriptor.connectionHint != DbType.OBJECT,
+                "Dto mapping could not be used with object connection");
+        if (descriptor.connectionHint == null || descriptor.connectionHint == DbType.UNKNOWN) {
+            // documents required for mapping
+            descriptor.connectionHint = DbType.DOCUMENT;
+        }
+        final Class<?> type = annotation.value();
+        if (type != Object.class) {
+            try {
+                getMapper(type);
+            } catch (IllegalArgumentException ex) {
+                throw new MethodDefinitionException("Invalid dto declared: " + ex.getMessage(), ex);
+            }
+            descriptor.extDescriptors.put(KEY, type);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object convert(final RepositoryMethodDescriptor descriptor, final Object result) {
+        final Class<?> declared = (Class<?>) descriptor.extDescriptors.get(KEY);
+        final Class<?> type = declared == null ? descriptor.result.entityType : declared;
+        final DocumentMapper mapper;
+        try {
+            mapper = getMapper(type);
+        } catch (IllegalArgumentException ex) {
+            throw new ResultConversionException("Invalid dto resolved from return type: " + ex.getMessage(), ex);
+        }
+        Object res = null;
+        if (result instanceof ResultStream) {
+            // lazy result must stay lazy
+            res = new MappedResultStream((ResultStream) result, mapper, type);
+        } else if (result instanceof Iterable || result instanceof Iterator || result instanceof Object[]) {
+            final Iterator<Object> it = toIterator(result);
+            switch (descriptor.result.returnType) {
+                case PLAIN:
+                    // only first element required
+                    res = it.hasNext() ? map(it.next(), mapper, type) : null;
+                    break;
+                case COLLECTION:
+                case ARRAY:
+                    final List<Object> list = Lists.newArrayList();
+                    while (it.hasNext()) {
+                        list.add(map(it.next(), mapper, type));
+                    }
+                    res = list;
+                    break;
+                default:
+                    throw new ResultConversionException("Unsupported return type " + descriptor.result.returnType);
+            }
+        } else if (result != null) {
+            res = map(result, mapper, type);
+        }
+        return converter.convert(descriptor.result, res);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Iterator<Object> toIterator(final Object result) {
+        final Iterator<Object> res;
+        if (result instanceof Iterable) {
+            res = ((Iterable<Object>) result).iterator();
+        } else if (result instanceof Iterator) {
+            res = (Iterator<Object>) result;
+        } else {
+            res = Arrays.asList((Object[]) result).iterator();
+        }
+        return res;
+    }
+
+    private DocumentMapper getMapper(final Class<?> type) {
+        DocumentMapper mapper = mappers.get(type);
+        if (mapper == null) {
+            mapper = DocumentMapperFactory.create(type);
+            final DocumentMapper registered = mappers.putIfAbsent(type, mapper);
+            if (registered != null) {
+                mapper = registered;
+            }
+        }
+        return mapper;
+    }
+
+    private static Object map(final Object value, final DocumentMapper mapper, final Class<?> type) {
+        Object res = value;
+        if (value != null && !type.isInstance(value)) {
+            final ORecord record = value instanceof OIdentifiable ? ((OIdentifiable) value).getRecord() : null;
+            if (!(record instanceof ODocument)) {
+                throw new ResultConversionException(String.format(
+                        "Only documents could be mapped to %s, but %s found", type.getName(),
+                        value.getClass().getName()));
+            }
+            try {
+                res = mapper.map((ODocument) record);
+            } catch (Exception ex) {
+                throw new ResultConversionException(String.format("Failed to map document %s to %s",
+                        record.getIdentity(), type.getName()), ex);
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Maps lazy result documents on iteration.
+     */
+    private static class MappedResultStream implements ResultStream<Object> {
+        private final ResultStream stream;
+        private final DocumentMapper mapper;
+        private final Class<?> type;
+
+        MappedResultStream(final ResultStream stream, final DocumentMapper mapper, final Class<?> type) {
+            this.stream = stream;
+            this.mapper = mapper;
+            this.type = type;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return stream.hasNext();
+        }
+
+        @Override
+        public Object next() {
+            return map(stream.next(), mapper, type);
+        }
+
+        @Override
+        public void remove() {
+            stream.remove();
+        }
+
+        @Override
+        public void close() {
+            stream.close();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package ru.vyarus.guice.persist.orient.repository.core.ext.service.result.ext.mapto.mapper;
+
+import com.orientechnologies.orient.core.record.impl.ODocument;
+
+/**
+ * Maps document fields into new plain object (dto) instance.
+ *
+ * @author Vyacheslav Rusakov
+ * @see DocumentMapperFactory
+ * @since 18.10.2026
+ */
+public interface DocumentMapper {
+
+    /**
+     * @param document document to map (not modified)
+     * @return new dto instance
+     * @throws Exception dto construction error
+     */
+    Object map(ODocument document) throws Exception;
+}
@@ -0,0 +1,178 @@
+package ru.vyarus.guice.persist.orient.repository.core.ext.service.result.ext.mapto.mapper;
+
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Primitives;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import javassist.ClassPool;
+import javassist.CtClass;
+import javassist.CtField;
+import javassist.CtNewConstructor;
+import javassist.CtNewMethod;
+import javassist.LoaderClassPath;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates document to dto mappers. Mapper class is generated with javassist for each dto type: it calls
+ * dto constructor and setters directly (reading document fields with conversion to target type,
+ * see {@link ODocument#field(String, Class)}), so mapping costs the same as hand written code.
+ * <p>Null (or absent) document fields are not set (setter is not called) and passed as null
+ * (or default value for primitive) constructor arguments.</p>
+ * <p>Generated class is defined in dto class loader. Direct calls are not possible for not public types (or
+ * members) and when class could not be defined (e.g. restricted environment): reflection mapper used as fallback.
+ * </p>
+ *
+ * @author Vyacheslav Rusakov
+ * @see DtoMapping
+ * @since 18.10.2026
+ */
+public final class DocumentMapperFactory {
+    private static final Logger LOGGER = LoggerFactory.getLogger(DocumentMapperFactory.class);
+    private static final AtomicInteger COUNTER = new AtomicInteger();
+
+    private DocumentMapperFactory() {
+    }
+
+    /**
+     * @param type dto type
+     * @return generated mapper or reflection mapper if generation is impossible
+     * @throws IllegalArgumentException if type can't be used as dto
+     */
+    public static DocumentMapper create(final Class<?> type) {
+        final DtoMapping mapping = DtoMapping.analyze(type);
+        DocumentMapper res = null;
+        if (isAccessible(mapping)) {
+            try {
+                res = generate(mapping);
+            } catch (Throwable th) {
+                LOGGER.debug(String.format("Failed to generate document mapper for %s, reflection will be used",
+                        type.getName()), th);
+            }
+        }
+        return res == null ? new ReflectionDocumentMapper(mapping) : res;
+    }
+
+    private static boolean isAccessible(final DtoMapping mapping) {
+        boolean res = mapping.getType().getClassLoader() != null && isPublic(mapping.getType());
+        for (Class<?> param : mapping.getConstructor().getParameterTypes()) {
+            res &= isPublic(param);
+        }
+        for (Method setter : mapping.getSetters().values()) {
+            res &= isPublic(setter.getDeclaringClass()) && isPublic(setter.getParameterTypes()[0]);
+        }
+        return res;
+    }
+
+    private static boolean isPublic(final Class<?> type) {
+        Class<?> current = type;
+        while (current.isArray()) {
+            current = current.getComponentType();
+        }
+        boolean res = current.isPrimitive() || Modifier.isPublic(current.getModifiers());
+        // inner class could be declared public inside not public class
+        if (res && current.getDeclaringClass() != null) {
+            res = isPublic(current.getDeclaringClass());
+        }
+        return res;
+    }
+
+    private static DocumentMapper generate(final DtoMapping mapping) throws Exception {
+        final Class<?> target = mapping.getType();
+        final ClassLoader loader = target.getClassLoader();
+        final ClassPool pool = new ClassPool(false);
+        pool.appendClassPath(new LoaderClassPath(loader));
+        pool.appendClassPath(new LoaderClassPath(DocumentMapper.class.getClassLoader()));
+
+        final CtClass mapper = pool.makeClass(String.format("%s$$DocumentMapper$$%s",
+                target.getName(), COUNTER.incrementAndGet()));
+        try {
+            mapper.addInterface(pool.get(DocumentMapper.class.getName()));
+            // field types could not be referenced as class literals (not supported by javassist compiler)
+            mapper.addField(CtField.make("private final Class[] types;", mapper));
+            mapper.addConstructor(CtNewConstructor.make("public " + mapper.getSimpleName()
+                    + "(Class[] types) { this.types = types; }", mapper));
+            final List<Class<?>> types = Lists.newArrayList();
+            mapper.addMethod(CtNewMethod.make(buildMapMethod(mapping, types), mapper));
+            final Class<?> type = mapper.toClass(loader, target.getProtectionDomain());
+            return (DocumentMapper) type.getConstructor(Class[].class)
+                    .newInstance(new Object[]{types.toArray(new Class[types.size()])});
+        } finally {
+            mapper.detach();
+        }
+    }
+
+    private static String buildMapMethod(final DtoMapping mapping, final List<Class<?>> types) {
+        final StringBuilder body = new StringBuilder();
+        final StringBuilder args = new StringBuilder();
+        final Class<?>[] params = mapping.getConstructor().getParameterTypes();
+        for (int i = 0; i < params.length; i++) {
+            final String value = readField(body, mapping.getArguments().get(i), mapping.getArgumentType(i), types);
+            if (i > 0) {
+                args.append(", ");
+            }
+            if (params[i].isPrimitive()) {
+                // null could not be unboxed: primitive default is used instead
+                final String arg = "a" + i;
+                body.append(params[i].getName()).append(' ').append(arg).append(" = ")
+                        .append(boolean.class.equals(params[i]) ? "false" : "(" + params[i].getName() + ") 0")
+                        .append("; if (").append(value).append(" != null) { ").append(arg).append(" = ")
+                        .append(cast(params[i], value)).append("; } ");
+                args.append(arg);
+            } else {
+                args.append(cast(params[i], value));
+            }
+        }
+        final String typeName = typeName(mapping.getType());
+        body.append(typeName).append(" res = new ").append(typeName).append('(').append(args).append("); ");
+        for (Map.Entry<String, Method> entry : mapping.getSetters().entrySet()) {
+            final Method setter = entry.getValue();
+            final Class<?> param = setter.getParameterTypes()[0];
+            final String value = readField(body, entry.getKey(), Primitives.wrap(param), types);
+            body.append("if (").append(value).append(" != null) { res.").append(setter.getName())
+                    .append('(').append(cast(param, value)).append("); } ");
+        }
+        return "public Object map(" + ODocument.class.getName() + " doc) throws Exception { "
+                + body + "return res; }";
+    }
+
+    private static String readField(final StringBuilder body, final String field, final Class<?> type,
+                                    final List<Class<?>> types) {
+        final String var = "v" + types.size();
+        body.append("Object ").append(var).append(" = doc.field(\"").append(escape(field)).append("\", types[")
+                .append(types.size()).append("]); ");
+        types.add(type);
+        return var;
+    }
+
+    private static String cast(final Class<?> type, final String value) {
+        final String res;
+        if (type.isPrimitive()) {
+            res = "((" + typeName(Primitives.wrap(type)) + ") " + value + ")." + type.getName() + "Value()";
+        } else if (type == Object.class) {
+            res = value;
+        } else {
+            res = "(" + typeName(type) + ") " + value;
+        }
+        return res;
+    }
+
+    private static String typeName(final Class<?> type) {
+        final StringBuilder res = new StringBuilder();
+        Class<?> current = type;
+        while (current.isArray()) {
+            res.append("[]");
+            current = current.getComponentType();
+        }
+        return res.insert(0, current.getName()).toString();
+    }
+
+    private static String escape(final String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
@@ -0,0 +1,132 @@
+package ru.vyarus.guice.persist.orient.repository.core.ext.service.result.ext.mapto.mapper;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.primitives.Primitives;
+
+import java.beans.ConstructorProperties;
+import java.beans.Introspector;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dto mapping description: constructor (with document fields used as constructor arguments) and setters.
+ * <p>Constructor annotated with {@link ConstructorProperties} is used if declared (annotation values are document
+ * field names), otherwise default constructor is used. All public setters (not covered with constructor) are
+ * mapped to document fields with the same name.</p>
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public final class DtoMapping {
+
+    private final Class<?> type;
+    private final Constructor<?> constructor;
+    private final List<String> arguments;
+    private final Map<String, Method> setters;
+
+    private DtoMapping(final Class<?> type, final Constructor<?> constructor,
+                       final List<String> arguments, final Map<String, Method> setters) {
+        this.type = type;
+        this.constructor = constructor;
+        this.arguments = arguments;
+        this.setters = setters;
+    }
+
+    /**
+     * @return dto type
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * @return dto constructor
+     */
+    public Constructor<?> getConstructor() {
+        return constructor;
+    }
+
+    /**
+     * @return document fields used as constructor arguments (empty for default constructor)
+     */
+    public List<String> getArguments() {
+        return arguments;
+    }
+
+    /**
+     * @return setters by document field name (sorted by name)
+     */
+    public Map<String, Method> getSetters() {
+        return setters;
+    }
+
+    /**
+     * @param position constructor argument position
+     * @return type of value to read from document for constructor argument (primitives are wrapped)
+     */
+    public Class<?> getArgumentType(final int position) {
+        return Primitives.wrap(constructor.getParameterTypes()[position]);
+    }
+
+    /**
+     * @param type dto type
+     * @return dto mapping
+     * @throws IllegalArgumentException if type could not be used as dto
+     */
+    public static DtoMapping analyze(final Class<?> type) {
+        Preconditions.checkArgument(!type.isPrimitive() && !type.isArray() && !type.isInterface()
+                && !Modifier.isAbstract(type.getModifiers()) && !type.getName().startsWith("java"),
+                "Type %s can't be used as dto", type.getName());
+        Preconditions.checkArgument(type.getDeclaringClass() == null || Modifier.isStatic(type.getModifiers()),
+                "Inner class %s can't be used as dto (must be static)", type.getName());
+        final Constructor<?> constructor = findConstructor(type);
+        final List<String> arguments = constructor.isAnnotationPresent(ConstructorProperties.class)
+                ? Arrays.asList(constructor.getAnnotation(ConstructorProperties.class).value())
+                : Collections.<String>emptyList();
+        Preconditions.checkArgument(arguments.size() == constructor.getParameterTypes().length,
+                "Constructor %s declares %s properties for %s arguments", constructor, arguments.size(),
+                constructor.getParameterTypes().length);
+        final Map<String, Method> setters = Maps.newTreeMap();
+        for (Method method : type.getMethods()) {
+            if (isSetter(method)) {
+                final String name = Introspector.decapitalize(method.getName().substring(3));
+                if (!arguments.contains(name) && !setters.containsKey(name)) {
+                    setters.put(name, method);
+                }
+            }
+        }
+        return new DtoMapping(type, constructor, arguments, setters);
+    }
+
+    private static Constructor<?> findConstructor(final Class<?> type) {
+        final List<Constructor<?>> candidates = Lists.newArrayList();
+        Constructor<?> noargs = null;
+        for (Constructor<?> ctor : type.getConstructors()) {
+            if (ctor.isAnnotationPresent(ConstructorProperties.class)) {
+                candidates.add(ctor);
+            } else if (ctor.getParameterTypes().length == 0) {
+                noargs = ctor;
+            }
+        }
+        Preconditions.checkArgument(candidates.size() <= 1,
+                "Dto %s must declare only one constructor with @%s", type.getName(),
+                ConstructorProperties.class.getSimpleName());
+        Preconditions.checkArgument(!candidates.isEmpty() || noargs != null,
+                "Dto %s must declare public default constructor or constructor annotated with @%s",
+                type.getName(), ConstructorProperties.class.getSimpleName());
+        return candidates.isEmpty() ? noargs : candidates.get(0);
+    }
+
+    private static boolean isSetter(final Method method) {
+        return method.getName().startsWith("set") && method.getName().length() > 3
+                && method.getParameterTypes().length == 1
+                && !Modifier.isStatic(method.getModifiers()) && !method.isBridge();
+    }
+}
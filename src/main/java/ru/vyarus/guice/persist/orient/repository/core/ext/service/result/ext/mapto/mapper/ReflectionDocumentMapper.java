@@ -0,0 +1,52 @@
+package ru.vyarus.guice.persist.orient.repository.core.ext.service.result.ext.mapto.mapper;
+
+import com.google.common.base.Defaults;
+import com.google.common.primitives.Primitives;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reflection based mapper. Used when direct mapper could not be generated (e.g. not public dto type).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class ReflectionDocumentMapper implements DocumentMapper {
+
+    private final DtoMapping mapping;
+
+    public ReflectionDocumentMapper(final DtoMapping mapping) {
+        this.mapping = mapping;
+        if (!mapping.getConstructor().isAccessible()) {
+            mapping.getConstructor().setAccessible(true);
+        }
+        for (Method method : mapping.getSetters().values()) {
+            if (!method.isAccessible()) {
+                method.setAccessible(true);
+            }
+        }
+    }
+
+    @Override
+    public Object map(final ODocument document) throws Exception {
+        final List<String> arguments = mapping.getArguments();
+        final Class<?>[] types = mapping.getConstructor().getParameterTypes();
+        final Object[] args = new Object[arguments.size()];
+        for (int i = 0; i < args.length; i++) {
+            final Object value = document.field(arguments.get(i), Primitives.wrap(types[i]));
+            args[i] = value == null ? Defaults.defaultValue(types[i]) : value;
+        }
+        final Object res = mapping.getConstructor().newInstance(args);
+        for (Map.Entry<String, Method> entry : mapping.getSetters().entrySet()) {
+            final Method setter = entry.getValue();
+            final Object value = document.field(entry.getKey(), Primitives.wrap(setter.getParameterTypes()[0]));
+            if (value != null) {
+                setter.invoke(res, value);
+            }
+        }
+        return res;
+    }
+}
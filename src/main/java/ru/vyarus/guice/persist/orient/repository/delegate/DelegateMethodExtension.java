@@ -2,10 +2,12 @@ package ru.vyarus.guice.persist.orient.repository.delegate;
 
 import com.google.common.base.Strings;
 import com.google.inject.Injector;
+import com.google.inject.Scopes;
 import ru.vyarus.guice.persist.orient.repository.core.ext.SpiService;
 import ru.vyarus.guice.persist.orient.repository.core.spi.DescriptorContext;
 import ru.vyarus.guice.persist.orient.repository.core.spi.method.RepositoryMethodExtension;
 import ru.vyarus.guice.persist.orient.repository.core.util.RepositoryUtils;
+import ru.vyarus.guice.persist.orient.repository.delegate.invoker.DelegateInvokerFactory;
 import ru.vyarus.guice.persist.orient.repository.delegate.method.TargetMethodAnalyzer;
 import ru.vyarus.guice.persist.orient.repository.delegate.param.DelegateParamsContext;
 import ru.vyarus.guice.persist.orient.repository.delegate.spi.DelegateExtension;
@@ -13,10 +15,14 @@ import ru.vyarus.guice.persist.orient.repository.delegate.spi.DelegateMethodDesc
 import ru.vyarus.java.generics.resolver.GenericsResolver;
 
 import javax.inject.Inject;
+import javax.inject.Provider;
 import javax.inject.Singleton;
+import java.util.List;
 
 /**
  * {@link Delegate} repository method extension.
+ * <p>Target method is called through generated invoker (see {@link DelegateInvokerFactory}) and singleton
+ * target bean is resolved once, so delegation costs close to direct method call.</p>
  *
  * @author Vyacheslav Rusakov
  * @since 02.02.2015
@@ -44,8 +50,12 @@ public class DelegateMethodExtension implements RepositoryMethodExtension<Delega
         descriptor.target = delegate;
         descriptor.method = TargetMethodAnalyzer.findDelegateMethod(context, delegate,
                 Strings.emptyToNull(annotation.method()));
-        descriptor.instanceProvider = injector.getProvider(delegate);
+        descriptor.invoker = DelegateInvokerFactory.create(delegate, descriptor.method);
+        descriptor.instanceProvider = Scopes.isSingleton(injector.getBinding(delegate))
+                ? new SingletonInstanceProvider(injector.getProvider(delegate))
+                : injector.getProvider(delegate);
         processParameters(descriptor, context);
+        descriptor.directArguments = isDirectArguments(descriptor);
         return descriptor;
     }
 
@@ -54,8 +64,13 @@ public class DelegateMethodExtension implements RepositoryMethodExtension<Delega
                           final Object... arguments) throws Throwable {
         final Object[] args;
         try {
-            args = prepareArguments(descriptor, arguments);
-            amendParameters(args, descriptor, repositoryInstance, arguments);
+            if (descriptor.directArguments) {
+                // invoker does not store or modify arguments array
+                args = arguments;
+            } else {
+                args = prepareArguments(descriptor, arguments);
+                amendParameters(args, descriptor, repositoryInstance, arguments);
+            }
         } catch (Exception ex) {
             throw new DelegateMethodException(String.format(
                     "Failed to prepare arguments for calling delegate method %s",
@@ -63,7 +78,7 @@ public class DelegateMethodExtension implements RepositoryMethodExtension<Delega
         }
         try {
             final Object instance = descriptor.instanceProvider.get();
-            return descriptor.method.invoke(instance, args);
+            return descriptor.invoker.invoke(instance, args);
         } catch (Throwable th) {
             throw new DelegateMethodException(String.format(
                     "Failed to invoke delegate method %s",
@@ -82,6 +97,16 @@ public class DelegateMethodExtension implements RepositoryMethodExtension<Delega
         spiService.process(descriptor, paramContext);
     }
 
+    private boolean isDirectArguments(final DelegateMethodDescriptor descriptor) {
+        final List<Integer> params = descriptor.params.ordinalParams;
+        boolean res = descriptor.amendExtensions.isEmpty()
+                && params.size() == descriptor.method.getParameterTypes().length;
+        for (int i = 0; res && i < params.size(); i++) {
+            res = params.get(i) == i;
+        }
+        return res;
+    }
+
     private Object[] prepareArguments(final DelegateMethodDescriptor descriptor, final Object... arguments) {
         final int size = descriptor.method.getParameterTypes().length;
         final Object[] res = new Object[size];
@@ -99,4 +124,26 @@ public class DelegateMethodExtension implements RepositoryMethodExtension<Delega
             ext.amendParameters(descriptor, args, instance, arguments);
         }
     }
+
+    /**
+     * Resolves singleton bean instance once (lazily, on first call).
+     */
+    private static class SingletonInstanceProvider implements Provider<Object> {
+        private final Provider<?> provider;
+        private volatile Object instance;
+
+        SingletonInstanceProvider(final Provider<?> provider) {
+            this.provider = provider;
+        }
+
+        @Override
+        public Object get() {
+            Object res = instance;
+            if (res == null) {
+                res = provider.get();
+                instance = res;
+            }
+            return res;
+        }
+    }
 }
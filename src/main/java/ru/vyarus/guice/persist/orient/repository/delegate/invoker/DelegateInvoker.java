@@ -0,0 +1,22 @@
+package ru.vyarus.guice.persist.orient.repository.delegate.invoker;
+
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * Calls delegate target method. Contract is the same as {@link java.lang.reflect.Method#invoke(Object, Object...)}:
+ * exception thrown by target method is wrapped with {@link InvocationTargetException}.
+ *
+ * @author Vyacheslav Rusakov
+ * @see DelegateInvokerFactory
+ * @since 18.10.2026
+ */
+public interface DelegateInvoker {
+
+    /**
+     * @param instance target bean instance
+     * @param args     target method arguments (array is not stored or modified)
+     * @return method result (primitives boxed, null for void methods)
+     * @throws Exception target method error wrapped with {@link InvocationTargetException} or invocation error
+     */
+    Object invoke(Object instance, Object... args) throws Exception;
+}
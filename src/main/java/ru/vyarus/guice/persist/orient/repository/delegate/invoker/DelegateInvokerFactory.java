@@ -0,0 +1,137 @@
+package ru.vyarus.guice.persist.orient.repository.delegate.invoker;
+
+import com.google.common.primitives.Primitives;
+import javassist.ClassPool;
+import javassist.CtClass;
+import javassist.CtNewMethod;
+import javassist.LoaderClassPath;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates delegate method invokers. Invoker class is generated with javassist for each delegate method: it casts
+ * instance to target type and calls method directly (with arguments cast and unboxing), so delegate call
+ * costs the same as usual method call (instead of reflective call).
+ * <p>Generated class is defined in target type class loader. Direct call is not possible for not public
+ * types (declared in other package) and when class could not be defined (e.g. restricted environment):
+ * reflection invoker used as fallback.</p>
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public final class DelegateInvokerFactory {
+    private static final Logger LOGGER = LoggerFactory.getLogger(DelegateInvokerFactory.class);
+    private static final AtomicInteger COUNTER = new AtomicInteger();
+
+    private DelegateInvokerFactory() {
+    }
+
+    /**
+     * @param target delegate bean type
+     * @param method delegate method (declared in target type or its super types)
+     * @return generated invoker or reflection invoker if generation is impossible
+     */
+    public static DelegateInvoker create(final Class<?> target, final Method method) {
+        DelegateInvoker res = null;
+        if (isAccessible(target, method)) {
+            try {
+                res = generate(target, method);
+            } catch (Throwable th) {
+                LOGGER.debug(String.format("Failed to generate invoker for delegate method %s#%s, "
+                        + "reflection will be used", target.getName(), method.getName()), th);
+            }
+        }
+        return res == null ? new ReflectionDelegateInvoker(method) : res;
+    }
+
+    private static boolean isAccessible(final Class<?> target, final Method method) {
+        boolean res = target.getClassLoader() != null
+                && isPublic(target) && isPublic(method.getDeclaringClass()) && isPublic(method.getReturnType());
+        for (Class<?> type : method.getParameterTypes()) {
+            res &= isPublic(type);
+        }
+        return res;
+    }
+
+    private static boolean isPublic(final Class<?> type) {
+        Class<?> current = type;
+        while (current.isArray()) {
+            current = current.getComponentType();
+        }
+        boolean res = current.isPrimitive() || Modifier.isPublic(current.getModifiers());
+        // inner class could be declared public inside not public class
+        if (res && current.getDeclaringClass() != null) {
+            res = isPublic(current.getDeclaringClass());
+        }
+        return res;
+    }
+
+    private static DelegateInvoker generate(final Class<?> target, final Method method) throws Exception {
+        final ClassLoader loader = target.getClassLoader();
+        final ClassPool pool = new ClassPool(false);
+        pool.appendClassPath(new LoaderClassPath(loader));
+        pool.appendClassPath(new LoaderClassPath(DelegateInvoker.class.getClassLoader()));
+
+        final CtClass invoker = pool.makeClass(String.format("%s$$DelegateInvoker$$%s$$%s",
+                target.getName(), method.getName(), COUNTER.incrementAndGet()));
+        try {
+            invoker.addInterface(pool.get(DelegateInvoker.class.getName()));
+            invoker.addMethod(CtNewMethod.make(buildInvokeMethod(target, method), invoker));
+            final Class<?> type = invoker.toClass(loader, target.getProtectionDomain());
+            return (DelegateInvoker) type.newInstance();
+        } finally {
+            invoker.detach();
+        }
+    }
+
+    private static String buildInvokeMethod(final Class<?> target, final Method method) {
+        final StringBuilder call = new StringBuilder()
+                .append("((").append(typeName(target)).append(") instance).").append(method.getName()).append('(');
+        final Class<?>[] params = method.getParameterTypes();
+        for (int i = 0; i < params.length; i++) {
+            if (i > 0) {
+                call.append(", ");
+            }
+            call.append(unbox(params[i], "args[" + i + "]"));
+        }
+        call.append(')');
+
+        final Class<?> returnType = method.getReturnType();
+        final String body;
+        if (returnType == void.class) {
+            body = call.append("; return null;").toString();
+        } else if (returnType.isPrimitive()) {
+            body = "return " + typeName(Primitives.wrap(returnType)) + ".valueOf(" + call + ");";
+        } else {
+            body = "return " + call + ";";
+        }
+        return "public Object invoke(Object instance, Object[] args) throws Exception { try { " + body
+                + " } catch (Throwable ex) { throw new java.lang.reflect.InvocationTargetException(ex); } }";
+    }
+
+    private static String unbox(final Class<?> type, final String value) {
+        final String res;
+        if (type.isPrimitive()) {
+            res = "((" + typeName(Primitives.wrap(type)) + ") " + value + ")." + type.getName() + "Value()";
+        } else if (type == Object.class) {
+            res = value;
+        } else {
+            res = "(" + typeName(type) + ") " + value;
+        }
+        return res;
+    }
+
+    private static String typeName(final Class<?> type) {
+        final StringBuilder res = new StringBuilder();
+        Class<?> current = type;
+        while (current.isArray()) {
+            res.append("[]");
+            current = current.getComponentType();
+        }
+        return res.insert(0, current.getName()).toString();
+    }
+}
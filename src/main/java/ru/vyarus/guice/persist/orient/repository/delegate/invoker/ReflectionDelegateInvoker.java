@@ -0,0 +1,26 @@
+package ru.vyarus.guice.persist.orient.repository.delegate.invoker;
+
+import java.lang.reflect.Method;
+
+/**
+ * Reflection based invoker. Used when direct invoker could not be generated (e.g. not public target method).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class ReflectionDelegateInvoker implements DelegateInvoker {
+
+    private final Method method;
+
+    public ReflectionDelegateInvoker(final Method method) {
+        this.method = method;
+        if (!method.isAccessible()) {
+            method.setAccessible(true);
+        }
+    }
+
+    @Override
+    public Object invoke(final Object instance, final Object... args) throws Exception {
+        return method.invoke(instance, args);
+    }
+}
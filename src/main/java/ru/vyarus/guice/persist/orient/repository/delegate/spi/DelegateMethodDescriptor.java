@@ -1,6 +1,7 @@
 package ru.vyarus.guice.persist.orient.repository.delegate.spi;
 
 import ru.vyarus.guice.persist.orient.repository.core.spi.RepositoryMethodDescriptor;
+import ru.vyarus.guice.persist.orient.repository.delegate.invoker.DelegateInvoker;
 import ru.vyarus.guice.persist.orient.repository.delegate.param.DelegateParamsDescriptor;
 
 import javax.inject.Provider;
@@ -26,10 +27,22 @@ public class DelegateMethodDescriptor extends RepositoryMethodDescriptor<Delegat
     public Method method;
 
     /**
-     * Target bean instance provider (provider used to properly support scopes).
+     * Target method invoker (generated class, calling method directly).
+     */
+    public DelegateInvoker invoker;
+
+    /**
+     * Target bean instance provider (provider used to properly support scopes). For singleton beans
+     * instance is resolved once.
      */
     public Provider<?> instanceProvider;
 
+    /**
+     * True when repository method arguments could be passed to target method as is (same order and no
+     * extension parameters).
+     */
+    public boolean directArguments;
+
     /**
      * Delegate method parameters descriptor.
      */
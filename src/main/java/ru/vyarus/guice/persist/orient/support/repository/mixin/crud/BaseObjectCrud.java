@@ -40,6 +40,25 @@ public interface BaseObjectCrud<T> {
      */
     T save(T entity);
 
+    /**
+     * Saves entities in chunks (see {@link CrudBatch}) with single repository call.
+     * Note: for object entities returns object proxies (see {@link #save(Object)}).
+     *
+     * @param entities entities to save or update
+     * @return saved entities instances
+     */
+    List<T> saveAll(Iterable<T> entities);
+
+    /**
+     * Saves entities in chunks (see {@link CrudBatch}). Committing chunks limits transaction size for
+     * large batches, but already committed chunks will not be rolled back on later failure.
+     *
+     * @param entities     entities to save or update
+     * @param commitChunks true to commit each chunk (in current unit of work)
+     * @return saved entities instances
+     */
+    List<T> saveAll(Iterable<T> entities, boolean commitChunks);
+
     /**
      * @param entity entity to attach
      * @return return same entity if its already proxy or proxied instance
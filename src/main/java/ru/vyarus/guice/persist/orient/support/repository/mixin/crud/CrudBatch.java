@@ -0,0 +1,105 @@
+package ru.vyarus.guice.persist.orient.support.repository.mixin.crud;
+
+import com.google.common.base.Joiner;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.orientechnologies.orient.core.db.ODatabase;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.sql.OCommandSQL;
+import ru.vyarus.guice.persist.orient.db.transaction.TransactionManager;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Batch writes support for crud mixins ({@code saveAll} and {@code deleteAll} methods).
+ * Records are written in chunks (size configured with
+ * {@link ru.vyarus.guice.persist.orient.RepositoryModule#crudBatchSize(int)}). Chunk could be committed
+ * (connection transaction committed and new one started) to limit transaction size for large batches.
+ * <p>Records are removed with one delete command per chunk (per class): {@code delete from Class where @rid in [...]}.
+ * Records created in current transaction (temporal ids) are removed one by one.</p>
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@Singleton
+public class CrudBatch {
+
+    private final int chunkSize;
+    private final TransactionManager transactionManager;
+
+    @Inject
+    public CrudBatch(@Named("orient.repository.crud.batch.size") final int chunkSize,
+                     final TransactionManager transactionManager) {
+        Preconditions.checkArgument(chunkSize > 0, "Batch chunk size must be positive: %s", chunkSize);
+        this.chunkSize = chunkSize;
+        this.transactionManager = transactionManager;
+    }
+
+    /**
+     * @return records count written at once
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * @param items items to split
+     * @param <T>   item type
+     * @return items split by chunk size
+     */
+    public <T> Iterable<List<T>> chunks(final Iterable<T> items) {
+        return Iterables.partition(items, chunkSize);
+    }
+
+    /**
+     * Commits current connection transaction and starts new one (with the same type). Unit of work stays active
+     * and rest of changes will be committed at the end of unit of work. Do nothing if transaction is not active
+     * (NOTX unit of work).
+     *
+     * @param db connection
+     */
+    public void commitChunk(final ODatabase<?> db) {
+        if (db.getTransaction().isActive()) {
+            db.commit();
+            db.begin(transactionManager.getActiveTransactionType());
+        }
+    }
+
+    /**
+     * Removes records with one delete command per class.
+     *
+     * @param db  connection
+     * @param ids records ids (chunk)
+     */
+    public void delete(final ODatabase<?> db, final Collection<ORID> ids) {
+        final Map<String, List<ORID>> byClass = Maps.newLinkedHashMap();
+        for (ORID id : ids) {
+            final OClass type = id.isPersistent()
+                    ? db.getMetadata().getSchema().getClassByClusterId(id.getClusterId()) : null;
+            if (type == null) {
+                // record created in current transaction or not in schema class
+                db.delete(id);
+            } else {
+                List<ORID> list = byClass.get(type.getName());
+                if (list == null) {
+                    list = Lists.newArrayList();
+                    byClass.put(type.getName(), list);
+                }
+                list.add(id);
+            }
+        }
+        for (Map.Entry<String, List<ORID>> entry : byClass.entrySet()) {
+            // ids are safe to inline: orid string representation is strictly #cluster:position
+            db.command(new OCommandSQL(String.format("delete from %s where @rid in [%s]",
+                    entry.getKey(), Joiner.on(',').join(entry.getValue())))).execute();
+        }
+    }
+}
@@ -37,6 +37,23 @@ public interface DocumentCrud<T> {
      */
     ODocument save(ODocument entity);
 
+    /**
+     * Saves entities in chunks (see {@link CrudBatch}) with single repository call.
+     * @param entities entities to save or update
+     * @return saved entities instances
+     */
+    List<ODocument> saveAll(Iterable<ODocument> entities);
+
+    /**
+     * Saves entities in chunks (see {@link CrudBatch}). Committing chunks limits transaction size for
+     * large batches, but already committed chunks will not be rolled back on later failure.
+     *
+     * @param entities     entities to save or update
+     * @param commitChunks true to commit each chunk (in current unit of work)
+     * @return saved entities instances
+     */
+    List<ODocument> saveAll(Iterable<ODocument> entities, boolean commitChunks);
+
     /**
      * @param entity entity to remove
      */
@@ -52,6 +69,30 @@ public interface DocumentCrud<T> {
      */
     void delete(ORID id);
 
+    /**
+     * Removes entities in chunks (see {@link CrudBatch}): one delete command per chunk.
+     *
+     * @param entities entities to remove
+     */
+    void deleteAll(Iterable<ODocument> entities);
+
+    /**
+     * Removes entities in chunks (see {@link CrudBatch}): one delete command per chunk. Committing chunks
+     * limits transaction size for large batches, but already committed chunks will not be rolled back on
+     * later failure.
+     *
+     * @param entities     entities to remove
+     * @param commitChunks true to commit each chunk (in current unit of work)
+     */
+    void deleteAll(Iterable<ODocument> entities, boolean commitChunks);
+
+    /**
+     * Removes entities in chunks (see {@link CrudBatch}): one delete command per chunk.
+     *
+     * @param ids entities ids to remove
+     */
+    void deleteAll(ORID... ids);
+
     /**
      * NOTE: works only if generic parameter set. Method can't be used in case when queried type doesn't have
      * class reference.
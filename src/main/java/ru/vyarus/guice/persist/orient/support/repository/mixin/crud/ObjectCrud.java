@@ -34,4 +34,28 @@ public interface ObjectCrud<T> extends BaseObjectCrud<T> {
      * @param id entity id to remove
      */
     void delete(ORID id);
+
+    /**
+     * Removes entities in chunks (see {@link CrudBatch}): one delete command per chunk.
+     *
+     * @param entities entities to remove
+     */
+    void deleteAll(Iterable<T> entities);
+
+    /**
+     * Removes entities in chunks (see {@link CrudBatch}): one delete command per chunk. Committing chunks
+     * limits transaction size for large batches, but already committed chunks will not be rolled back on
+     * later failure.
+     *
+     * @param entities     entities to remove
+     * @param commitChunks true to commit each chunk (in current unit of work)
+     */
+    void deleteAll(Iterable<T> entities, boolean commitChunks);
+
+    /**
+     * Removes entities in chunks (see {@link CrudBatch}): one delete command per chunk.
+     *
+     * @param ids entities ids to remove
+     */
+    void deleteAll(ORID... ids);
 }
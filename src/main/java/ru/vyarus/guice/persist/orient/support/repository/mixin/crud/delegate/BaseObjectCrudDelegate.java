@@ -9,9 +9,13 @@ import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.object.db.OObjectDatabaseTx;
 import com.orientechnologies.orient.object.enhancement.OObjectEntitySerializer;
 import javassist.util.proxy.Proxy;
+import ru.vyarus.guice.persist.orient.db.DbType;
+import ru.vyarus.guice.persist.orient.db.transaction.cache.TxRecordCache;
 import ru.vyarus.guice.persist.orient.db.util.RidUtils;
 import ru.vyarus.guice.persist.orient.repository.delegate.ext.generic.Generic;
 import ru.vyarus.guice.persist.orient.support.repository.mixin.crud.BaseObjectCrud;
+import ru.vyarus.guice.persist.orient.support.repository.mixin.crud.CrudBatch;
+import ru.vyarus.guice.persist.orient.support.repository.mixin.pagination.PageCountCache;
 
 import javax.inject.Inject;
 import javax.inject.Provider;
@@ -29,27 +33,57 @@ import java.util.List;
 public abstract class BaseObjectCrudDelegate<T> implements BaseObjectCrud<T> {
 
     private final Provider<OObjectDatabaseTx> objectDb;
+    private final TxRecordCache cache;
+    private final PageCountCache countCache;
+    private final CrudBatch batch;
 
     @Inject
-    public BaseObjectCrudDelegate(final Provider<OObjectDatabaseTx> objectDb) {
+    public BaseObjectCrudDelegate(final Provider<OObjectDatabaseTx> objectDb, final TxRecordCache cache,
+                                  final PageCountCache countCache, final CrudBatch batch) {
         this.objectDb = objectDb;
+        this.cache = cache;
+        this.countCache = countCache;
+        this.batch = batch;
     }
 
     @Override
     public T get(final String id) {
-        return objectDb.get().load(new ORecordId(id));
+        return get(new ORecordId(id));
     }
 
     @Override
     public T get(final ORID id) {
-        return objectDb.get().load(id);
+        final T res = cache.get(DbType.OBJECT, id);
+        return res != null ? res : cache.put(DbType.OBJECT, id, objectDb.get().<T>load(id));
     }
 
     @Override
     public T save(final T entity) {
+        countCache.invalidateFor(entity);
         return objectDb.get().save(entity);
     }
 
+    @Override
+    public List<T> saveAll(final Iterable<T> entities) {
+        return saveAll(entities, false);
+    }
+
+    @Override
+    public List<T> saveAll(final Iterable<T> entities, final boolean commitChunks) {
+        final OObjectDatabaseTx db = objectDb.get();
+        final List<T> res = Lists.newArrayList();
+        for (List<T> chunk : batch.chunks(entities)) {
+            for (T entity : chunk) {
+                countCache.invalidateFor(entity);
+                res.add(db.<T>save(entity));
+            }
+            if (commitChunks) {
+                batch.commitChunk(db);
+            }
+        }
+        return res;
+    }
+
     @Override
     public T attach(final T entity) {
         // com.orientechnologies.orient.object.db.OObjectDatabaseTx.attach() did not return object,
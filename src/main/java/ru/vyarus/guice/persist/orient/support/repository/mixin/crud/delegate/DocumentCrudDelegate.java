@@ -1,17 +1,24 @@
 package ru.vyarus.guice.persist.orient.support.repository.mixin.crud.delegate;
 
+import com.google.common.collect.Lists;
 import com.google.inject.ProvidedBy;
 import com.google.inject.internal.DynamicSingletonProvider;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
 import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.id.ORecordId;
 import com.orientechnologies.orient.core.record.impl.ODocument;
+import ru.vyarus.guice.persist.orient.db.DbType;
+import ru.vyarus.guice.persist.orient.db.transaction.cache.TxRecordCache;
 import ru.vyarus.guice.persist.orient.repository.delegate.ext.generic.Generic;
+import ru.vyarus.guice.persist.orient.support.repository.mixin.crud.CrudBatch;
 import ru.vyarus.guice.persist.orient.support.repository.mixin.crud.DocumentCrud;
+import ru.vyarus.guice.persist.orient.support.repository.mixin.pagination.PageCountCache;
 
 import javax.inject.Inject;
 import javax.inject.Provider;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
 
 /**
  * Crud mixin implementation for document database.
@@ -20,43 +27,107 @@ import java.util.Iterator;
  * @since 15.10.2014
  */
 @ProvidedBy(DynamicSingletonProvider.class)
-public abstract class DocumentCrudDelegate implements DocumentCrud {
+public abstract class DocumentCrudDelegate implements DocumentCrud<Object> {
 
     private final Provider<ODatabaseDocumentTx> dbProvider;
+    private final TxRecordCache cache;
+    private final PageCountCache countCache;
+    private final CrudBatch batch;
 
     @Inject
-    public DocumentCrudDelegate(final Provider<ODatabaseDocumentTx> dbProvider) {
+    public DocumentCrudDelegate(final Provider<ODatabaseDocumentTx> dbProvider, final TxRecordCache cache,
+                                final PageCountCache countCache, final CrudBatch batch) {
         this.dbProvider = dbProvider;
+        this.cache = cache;
+        this.countCache = countCache;
+        this.batch = batch;
     }
 
     @Override
     public ODocument get(final String id) {
-        return dbProvider.get().load(new ORecordId(id));
+        return get(new ORecordId(id));
     }
 
     @Override
     public ODocument get(final ORID id) {
-        return dbProvider.get().load(id);
+        final ODocument res = cache.get(DbType.DOCUMENT, id);
+        return res != null ? res : cache.put(DbType.DOCUMENT, id, dbProvider.get().<ODocument>load(id));
     }
 
     @Override
     public ODocument save(final ODocument entity) {
+        countCache.invalidateFor(entity);
         return dbProvider.get().save(entity);
     }
 
+    @Override
+    public List<ODocument> saveAll(final Iterable<ODocument> entities) {
+        return saveAll(entities, false);
+    }
+
+    @Override
+    public List<ODocument> saveAll(final Iterable<ODocument> entities, final boolean commitChunks) {
+        final ODatabaseDocumentTx db = dbProvider.get();
+        final List<ODocument> res = Lists.newArrayList();
+        for (List<ODocument> chunk : batch.chunks(entities)) {
+            for (ODocument entity : chunk) {
+                countCache.invalidateFor(entity);
+                res.add(db.<ODocument>save(entity));
+            }
+            if (commitChunks) {
+                batch.commitChunk(db);
+            }
+        }
+        return res;
+    }
+
     @Override
     public void delete(final ODocument entity) {
         dbProvider.get().delete(entity);
+        cache.evict(entity.getIdentity());
+        countCache.invalidateFor(entity);
     }
 
     @Override
     public void delete(final String id) {
-        dbProvider.get().delete(new ORecordId(id));
+        delete(new ORecordId(id));
     }
 
     @Override
     public void delete(final ORID id) {
         dbProvider.get().delete(id);
+        cache.evict(id);
+        countCache.invalidateAll();
+    }
+
+    @Override
+    public void deleteAll(final Iterable<ODocument> entities) {
+        deleteAll(entities, false);
+    }
+
+    @Override
+    public void deleteAll(final Iterable<ODocument> entities, final boolean commitChunks) {
+        final ODatabaseDocumentTx db = dbProvider.get();
+        for (List<ODocument> chunk : batch.chunks(entities)) {
+            final List<ORID> ids = Lists.newArrayListWithCapacity(chunk.size());
+            for (ODocument entity : chunk) {
+                ids.add(entity.getIdentity());
+                countCache.invalidateFor(entity);
+            }
+            deleteChunk(db, ids);
+            if (commitChunks) {
+                batch.commitChunk(db);
+            }
+        }
+    }
+
+    @Override
+    public void deleteAll(final ORID... ids) {
+        final ODatabaseDocumentTx db = dbProvider.get();
+        for (List<ORID> chunk : batch.chunks(Arrays.asList(ids))) {
+            deleteChunk(db, chunk);
+        }
+        countCache.invalidateAll();
     }
 
     public Iterator<ODocument> getAll(@Generic("T") final Class<?> type) {
@@ -74,4 +145,11 @@ public abstract class DocumentCrudDelegate implements DocumentCrud {
         dbProvider.get();
         return new ODocument(type.getSimpleName());
     }
+
+    private void deleteChunk(final ODatabaseDocumentTx db, final List<ORID> ids) {
+        batch.delete(db, ids);
+        for (ORID id : ids) {
+            cache.evict(id);
+        }
+    }
 }
@@ -1,14 +1,20 @@
 package ru.vyarus.guice.persist.orient.support.repository.mixin.crud.delegate;
 
+import com.google.common.collect.Lists;
 import com.google.inject.ProvidedBy;
 import com.google.inject.internal.DynamicSingletonProvider;
 import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.id.ORecordId;
 import com.orientechnologies.orient.object.db.OObjectDatabaseTx;
+import ru.vyarus.guice.persist.orient.db.transaction.cache.TxRecordCache;
+import ru.vyarus.guice.persist.orient.support.repository.mixin.crud.CrudBatch;
 import ru.vyarus.guice.persist.orient.support.repository.mixin.crud.ObjectCrud;
+import ru.vyarus.guice.persist.orient.support.repository.mixin.pagination.PageCountCache;
 
 import javax.inject.Inject;
 import javax.inject.Provider;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * Crud mixin object implementation.
@@ -21,24 +27,74 @@ import javax.inject.Provider;
 public abstract class ObjectCrudDelegate<T> implements ObjectCrud<T> {
 
     private final Provider<OObjectDatabaseTx> dbProvider;
+    private final TxRecordCache cache;
+    private final PageCountCache countCache;
+    private final CrudBatch batch;
 
     @Inject
-    public ObjectCrudDelegate(final Provider<OObjectDatabaseTx> dbProvider) {
+    public ObjectCrudDelegate(final Provider<OObjectDatabaseTx> dbProvider, final TxRecordCache cache,
+                              final PageCountCache countCache, final CrudBatch batch) {
         this.dbProvider = dbProvider;
+        this.cache = cache;
+        this.countCache = countCache;
+        this.batch = batch;
     }
 
     @Override
     public void delete(final T entity) {
+        // rid resolved before removal
+        final ORID id = cache.isEnabled() ? dbProvider.get().getIdentity(entity) : null;
         dbProvider.get().delete(entity);
+        cache.evict(id);
+        countCache.invalidateFor(entity);
     }
 
     @Override
     public void delete(final String id) {
-        dbProvider.get().delete(new ORecordId(id));
+        delete(new ORecordId(id));
     }
 
     @Override
     public void delete(final ORID id) {
         dbProvider.get().delete(id);
+        cache.evict(id);
+        countCache.invalidateAll();
+    }
+
+    @Override
+    public void deleteAll(final Iterable<T> entities) {
+        deleteAll(entities, false);
+    }
+
+    @Override
+    public void deleteAll(final Iterable<T> entities, final boolean commitChunks) {
+        final OObjectDatabaseTx db = dbProvider.get();
+        for (List<T> chunk : batch.chunks(entities)) {
+            final List<ORID> ids = Lists.newArrayListWithCapacity(chunk.size());
+            for (T entity : chunk) {
+                ids.add(db.getIdentity(entity));
+                countCache.invalidateFor(entity);
+            }
+            deleteChunk(db, ids);
+            if (commitChunks) {
+                batch.commitChunk(db);
+            }
+        }
+    }
+
+    @Override
+    public void deleteAll(final ORID... ids) {
+        final OObjectDatabaseTx db = dbProvider.get();
+        for (List<ORID> chunk : batch.chunks(Arrays.asList(ids))) {
+            deleteChunk(db, chunk);
+        }
+        countCache.invalidateAll();
+    }
+
+    private void deleteChunk(final OObjectDatabaseTx db, final List<ORID> ids) {
+        batch.delete(db, ids);
+        for (ORID id : ids) {
+            cache.evict(id);
+        }
     }
 }
@@ -0,0 +1,67 @@
+package ru.vyarus.guice.persist.orient.support.repository.mixin.graph;
+
+import com.google.common.base.Objects;
+
+/**
+ * Edge nodes pair for bulk edges operations.
+ * Equality is based on provided node objects, so use orid (or string rid) nodes when pairs are used
+ * as lookup keys (e.g. for {@link EdgesSupport#findEdges(Class, Iterable)} result).
+ *
+ * @author Vyacheslav Rusakov
+ * @see EdgesSupport
+ * @since 18.10.2026
+ */
+public final class EdgePair {
+    private final Object from;
+    private final Object to;
+
+    public EdgePair(final Object from, final Object to) {
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * @param from from node (orid, vertex, document or object)
+     * @param to   to node (orid, vertex, document or object)
+     * @return nodes pair
+     */
+    public static EdgePair of(final Object from, final Object to) {
+        return new EdgePair(from, to);
+    }
+
+    /**
+     * @return from node (orid, vertex, document or object)
+     */
+    public Object getFrom() {
+        return from;
+    }
+
+    /**
+     * @return to node (orid, vertex, document or object)
+     */
+    public Object getTo() {
+        return to;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof EdgePair)) {
+            return false;
+        }
+        final EdgePair pair = (EdgePair) o;
+        return Objects.equal(from, pair.from) && Objects.equal(to, pair.to);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(from, to);
+    }
+
+    @Override
+    public String toString() {
+        return from + " -> " + to;
+    }
+}
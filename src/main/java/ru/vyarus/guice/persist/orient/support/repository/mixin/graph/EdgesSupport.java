@@ -2,6 +2,7 @@ package ru.vyarus.guice.persist.orient.support.repository.mixin.graph;
 
 import com.google.inject.ProvidedBy;
 import com.google.inject.internal.DynamicSingletonProvider;
+import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.tinkerpop.blueprints.Edge;
 import ru.vyarus.guice.persist.orient.repository.command.ext.elvar.ElVar;
@@ -10,6 +11,9 @@ import ru.vyarus.guice.persist.orient.repository.command.query.Query;
 import ru.vyarus.guice.persist.orient.repository.delegate.Delegate;
 import ru.vyarus.guice.persist.orient.support.repository.mixin.graph.delegate.EdgesSupportDelegate;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * Generic object edge support mixin. Used for edge-objects annotated with
  * {@link ru.vyarus.guice.persist.orient.db.scheme.initializer.ext.type.edge.EdgeType} (or extends E in scheme).
@@ -60,6 +64,17 @@ public interface EdgesSupport {
      */
     <T> T createEdge(Class<T> edgeClass, Object from, Object to, ODocument edge);
 
+    /**
+     * Creates edges for all node pairs. Bulk version of {@link #createEdge(Class, Object, Object)}: edges are
+     * not loaded with object api and vertices are resolved once per chunk (chunk size is
+     * {@link ru.vyarus.guice.persist.orient.RepositoryModule#crudBatchSize(int)}).
+     *
+     * @param edgeClass edge entity class
+     * @param pairs     nodes pairs (orid, vertex, document or object)
+     * @return created edges ids (in pairs order; ids created in transaction are updated after commit)
+     */
+    List<ORID> createEdges(Class<?> edgeClass, Iterable<EdgePair> pairs);
+
     /**
      * Deletes edge.
      *
@@ -88,6 +103,18 @@ public interface EdgesSupport {
      */
     <T> T findEdge(Class<T> edgeClass, Object from, Object to);
 
+    /**
+     * Selects edges for all node pairs. Bulk version of {@link #findEdge(Class, Object, Object)}: edges are
+     * selected with one query per chunk ({@code select expand(outE('Edge')) from [from rids]}).
+     * NOTE: if more than one edge of required type exist for pair only first edge will be returned.
+     *
+     * @param edgeClass edge entity class
+     * @param pairs     nodes pairs (orid, vertex, document or object)
+     * @param <T>       edge entity type
+     * @return edges (using object api) by pair (pairs without edge are not present in map)
+     */
+    <T> Map<EdgePair, T> findEdges(Class<T> edgeClass, Iterable<EdgePair> pairs);
+
     /**
      * Selects edge between specified nodes (any direction).
      * NOTE: if more than one edge of required type exist in db only first edge will be returned.
@@ -6,6 +6,8 @@ import ru.vyarus.guice.persist.orient.repository.delegate.Delegate;
 import ru.vyarus.guice.persist.orient.support.repository.mixin.crud.BaseObjectCrud;
 import ru.vyarus.guice.persist.orient.support.repository.mixin.graph.delegate.ObjectVertexCrudDelegate;
 
+import java.util.concurrent.Future;
+
 /**
  * Crud mixin for object repositories.
  * Note that {@link ru.vyarus.guice.persist.orient.support.repository.mixin.crud.ObjectCrud}
@@ -40,6 +42,45 @@ public interface ObjectVertexCrud<T> extends BaseObjectCrud<T> {
      */
     void delete(ORID id);
 
+    /**
+     * Removes vertices in chunks (see {@link ru.vyarus.guice.persist.orient.support.repository.mixin.crud.CrudBatch})
+     * with one {@code delete vertex from (select from [rids])} command per chunk (instead of loading each vertex).
+     *
+     * @param entities entities to remove
+     * @return count of removed vertices
+     */
+    int deleteAll(Iterable<T> entities);
+
+    /**
+     * Removes vertices in chunks (see {@link ru.vyarus.guice.persist.orient.support.repository.mixin.crud.CrudBatch})
+     * with one {@code delete vertex from (select from [rids])} command per chunk (instead of loading each vertex).
+     *
+     * @param ids vertices ids to remove
+     * @return count of removed vertices
+     */
+    int deleteAll(ORID... ids);
+
+    /**
+     * Removes all entity type vertices matching condition in chunks: {@code delete vertex Type where condition
+     * limit chunk} is executed until no more vertices removed.
+     *
+     * @param condition sql condition (e.g. "name = ? and cnt > ?")
+     * @param params    positional condition parameters
+     * @return count of removed vertices
+     */
+    int deleteWhere(String condition, Object... params);
+
+    /**
+     * Background version of {@link #deleteWhere(String, Object...)} for very large purges. Removal is performed
+     * in separate thread with NOTX unit of work: each chunk is committed immediately, so failed purge
+     * is not rolled back.
+     *
+     * @param condition sql condition (e.g. "name = ? and cnt > ?")
+     * @param params    positional condition parameters
+     * @return future with count of removed vertices
+     */
+    Future<Integer> deleteWhereInBackground(String condition, Object... params);
+
     /**
      * Converts object api instance into orient vertex (preserving state).
      *
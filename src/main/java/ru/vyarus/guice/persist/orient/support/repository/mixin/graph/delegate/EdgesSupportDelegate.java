@@ -1,22 +1,34 @@
 package ru.vyarus.guice.persist.orient.support.repository.mixin.graph.delegate;
 
+import com.google.common.base.Joiner;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import com.google.inject.ProvidedBy;
 import com.google.inject.Provider;
 import com.google.inject.internal.DynamicSingletonProvider;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.id.ORecordId;
 import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.query.OSQLSynchQuery;
 import com.orientechnologies.orient.object.db.OObjectDatabaseTx;
 import com.tinkerpop.blueprints.Direction;
 import com.tinkerpop.blueprints.Edge;
 import com.tinkerpop.blueprints.impls.orient.OrientBaseGraph;
 import com.tinkerpop.blueprints.impls.orient.OrientEdge;
 import com.tinkerpop.blueprints.impls.orient.OrientVertex;
+import ru.vyarus.guice.persist.orient.db.DbType;
+import ru.vyarus.guice.persist.orient.db.transaction.cache.TxRecordCache;
 import ru.vyarus.guice.persist.orient.db.util.RidUtils;
+import ru.vyarus.guice.persist.orient.support.repository.mixin.crud.CrudBatch;
+import ru.vyarus.guice.persist.orient.support.repository.mixin.graph.EdgePair;
 import ru.vyarus.guice.persist.orient.support.repository.mixin.graph.EdgesSupport;
 
 import javax.inject.Inject;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Edges support mixin delegate implementation.
@@ -29,11 +41,16 @@ public abstract class EdgesSupportDelegate implements EdgesSupport {
 
     private final Provider<OObjectDatabaseTx> objectDb;
     private final Provider<OrientBaseGraph> graphDb;
+    private final TxRecordCache cache;
+    private final CrudBatch batch;
 
     @Inject
-    public EdgesSupportDelegate(final Provider<OObjectDatabaseTx> objectDb, final Provider<OrientBaseGraph> graphDb) {
+    public EdgesSupportDelegate(final Provider<OObjectDatabaseTx> objectDb, final Provider<OrientBaseGraph> graphDb,
+                                final TxRecordCache cache, final CrudBatch batch) {
         this.objectDb = objectDb;
         this.graphDb = graphDb;
+        this.cache = cache;
+        this.batch = batch;
     }
 
     @Override
@@ -62,11 +79,29 @@ public abstract class EdgesSupportDelegate implements EdgesSupport {
         return objectDb.get().load(edgeImpl.getIdentity());
     }
 
+    @Override
+    public List<ORID> createEdges(final Class<?> edgeClass, final Iterable<EdgePair> pairs) {
+        final OrientBaseGraph graph = graphDb.get();
+        final String type = "class:" + edgeClass.getSimpleName();
+        final List<ORID> res = Lists.newArrayList();
+        for (List<EdgePair> chunk : batch.chunks(pairs)) {
+            // the same vertices are often used in many pairs
+            final Map<String, OrientVertex> vertices = Maps.newHashMap();
+            for (EdgePair pair : chunk) {
+                res.add(graph.addEdge(type, getVertex(pair.getFrom(), vertices),
+                        getVertex(pair.getTo(), vertices), null).getIdentity());
+            }
+        }
+        return res;
+    }
+
     @Override
     public void deleteEdge(final Object edge) {
-        final OrientEdge edgeImpl = graphDb.get().getEdge(RidUtils.getRid(edge));
+        final String rid = RidUtils.getRid(edge);
+        final OrientEdge edgeImpl = graphDb.get().getEdge(rid);
         if (edgeImpl != null) {
             edgeImpl.remove();
+            cache.evict(rid);
         }
     }
 
@@ -75,6 +110,42 @@ public abstract class EdgesSupportDelegate implements EdgesSupport {
         return findEdgeImpl(edgeClass, from, to, Direction.OUT);
     }
 
+    @Override
+    public <T> Map<EdgePair, T> findEdges(final Class<T> edgeClass, final Iterable<EdgePair> pairs) {
+        final Map<EdgePair, T> res = Maps.newLinkedHashMap();
+        for (List<EdgePair> chunk : batch.chunks(pairs)) {
+            // from rid -> to rid -> pairs (the same nodes could be referenced by different objects)
+            final Map<String, Map<String, List<EdgePair>>> lookup = Maps.newLinkedHashMap();
+            for (EdgePair pair : chunk) {
+                final String from = RidUtils.getRid(pair.getFrom());
+                if (new ORecordId(from).isPersistent()) {
+                    Map<String, List<EdgePair>> targets = lookup.get(from);
+                    if (targets == null) {
+                        targets = Maps.newHashMap();
+                        lookup.put(from, targets);
+                    }
+                    final String to = RidUtils.getRid(pair.getTo());
+                    List<EdgePair> list = targets.get(to);
+                    if (list == null) {
+                        list = Lists.newArrayList();
+                        targets.put(to, list);
+                    }
+                    list.add(pair);
+                } else {
+                    // vertex created in current transaction can't be queried
+                    final T edge = findEdgeImpl(edgeClass, pair.getFrom(), pair.getTo(), Direction.OUT);
+                    if (edge != null) {
+                        res.put(pair, edge);
+                    }
+                }
+            }
+            if (!lookup.isEmpty()) {
+                selectEdges(edgeClass, lookup, res);
+            }
+        }
+        return res;
+    }
+
     @Override
     public <T> T findEdgeBetween(final Class<T> edgeClass, final Object first, final Object second) {
         return findEdgeImpl(edgeClass, first, second, Direction.BOTH);
@@ -82,7 +153,9 @@ public abstract class EdgesSupportDelegate implements EdgesSupport {
 
     @Override
     public <T> T getEdge(final String id) {
-        return objectDb.get().load(new ORecordId(id));
+        final ORID rid = new ORecordId(id);
+        final T res = cache.get(DbType.OBJECT, rid);
+        return res != null ? res : cache.put(DbType.OBJECT, rid, objectDb.get().<T>load(rid));
     }
 
     @Override
@@ -129,6 +202,39 @@ public abstract class EdgesSupportDelegate implements EdgesSupport {
         return res;
     }
 
+    @SuppressWarnings("unchecked")
+    private <T> void selectEdges(final Class<T> edgeClass, final Map<String, Map<String, List<EdgePair>>> lookup,
+                                 final Map<EdgePair, T> res) {
+        final OObjectDatabaseTx db = objectDb.get();
+        final List<ODocument> edges = db.getUnderlying().query(new OSQLSynchQuery<ODocument>(String.format(
+                "select expand(outE('%s')) from [%s]", edgeClass.getSimpleName(),
+                Joiner.on(',').join(lookup.keySet()))));
+        for (ODocument edge : edges) {
+            final Map<String, List<EdgePair>> targets = lookup.get(
+                    edge.<OIdentifiable>field("out").getIdentity().toString());
+            final List<EdgePair> matched = targets == null ? null
+                    : targets.get(edge.<OIdentifiable>field("in").getIdentity().toString());
+            if (matched != null) {
+                for (EdgePair pair : matched) {
+                    // first edge used, as in single edge search
+                    if (!res.containsKey(pair)) {
+                        res.put(pair, (T) db.getUserObjectByRecord(edge, null));
+                    }
+                }
+            }
+        }
+    }
+
+    private OrientVertex getVertex(final Object object, final Map<String, OrientVertex> vertices) {
+        final String rid = RidUtils.getRid(object);
+        OrientVertex res = vertices.get(rid);
+        if (res == null) {
+            res = getVertex(object);
+            vertices.put(rid, res);
+        }
+        return res;
+    }
+
     private OrientVertex getVertex(final Object object) {
         final String rid = RidUtils.getRid(object);
         return Preconditions.checkNotNull(graphDb.get().getVertex(rid), "No vertex found for rid %s", rid);
@@ -1,17 +1,36 @@
 package ru.vyarus.guice.persist.orient.support.repository.mixin.graph.delegate;
 
+import com.google.common.base.Joiner;
+import com.google.common.collect.Lists;
 import com.google.inject.ProvidedBy;
 import com.google.inject.Provider;
 import com.google.inject.internal.DynamicSingletonProvider;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
 import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.OCommandSQL;
+import com.orientechnologies.orient.core.sql.query.OSQLSynchQuery;
+import com.orientechnologies.orient.core.tx.OTransaction;
 import com.tinkerpop.blueprints.Vertex;
 import com.tinkerpop.blueprints.impls.orient.OrientBaseGraph;
 import com.tinkerpop.blueprints.impls.orient.OrientVertex;
+import ru.vyarus.guice.persist.orient.db.transaction.TxConfig;
+import ru.vyarus.guice.persist.orient.db.transaction.cache.TxRecordCache;
+import ru.vyarus.guice.persist.orient.db.transaction.template.TxAction;
+import ru.vyarus.guice.persist.orient.db.transaction.template.TxTemplate;
 import ru.vyarus.guice.persist.orient.db.util.RidUtils;
+import ru.vyarus.guice.persist.orient.repository.core.RepositoryBackgroundExecutor;
+import ru.vyarus.guice.persist.orient.repository.delegate.ext.generic.Generic;
+import ru.vyarus.guice.persist.orient.support.repository.mixin.crud.CrudBatch;
 import ru.vyarus.guice.persist.orient.support.repository.mixin.graph.ObjectVertexCrud;
+import ru.vyarus.guice.persist.orient.support.repository.mixin.pagination.PageCountCache;
 
 import javax.inject.Inject;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
 
 /**
  * Object vertex crud mixin delegate.
@@ -24,17 +43,32 @@ import javax.inject.Inject;
 public abstract class ObjectVertexCrudDelegate<T> implements ObjectVertexCrud<T> {
 
     private final Provider<OrientBaseGraph> graphDb;
+    private final TxRecordCache cache;
+    private final PageCountCache countCache;
+    private final CrudBatch batch;
+    private final TxTemplate txTemplate;
+    private final RepositoryBackgroundExecutor executor;
 
     @Inject
-    public ObjectVertexCrudDelegate(final Provider<OrientBaseGraph> graphDb) {
+    public ObjectVertexCrudDelegate(final Provider<OrientBaseGraph> graphDb, final TxRecordCache cache,
+                                    final PageCountCache countCache, final CrudBatch batch,
+                                    final TxTemplate txTemplate, final RepositoryBackgroundExecutor executor) {
         this.graphDb = graphDb;
+        this.cache = cache;
+        this.countCache = countCache;
+        this.batch = batch;
+        this.txTemplate = txTemplate;
+        this.executor = executor;
     }
 
     @Override
     public void delete(final ORID id) {
         final OrientVertex vertex = graphDb.get().getVertex(id);
         if (vertex != null) {
+            final String type = vertex.getRecord().getClassName();
             vertex.remove();
+            cache.evict(id);
+            countCache.invalidate(type);
         }
     }
 
@@ -42,7 +76,10 @@ public abstract class ObjectVertexCrudDelegate<T> implements ObjectVertexCrud<T>
     public void delete(final String id) {
         final OrientVertex vertex = graphDb.get().getVertex(id);
         if (vertex != null) {
+            final String type = vertex.getRecord().getClassName();
             vertex.remove();
+            cache.evict(id);
+            countCache.invalidate(type);
         }
     }
 
@@ -51,6 +88,59 @@ public abstract class ObjectVertexCrudDelegate<T> implements ObjectVertexCrud<T>
         delete(RidUtils.getRid(entity));
     }
 
+    @Override
+    public int deleteAll(final Iterable<T> entities) {
+        final List<ORID> ids = Lists.newArrayList();
+        for (T entity : entities) {
+            ids.add(new ORecordId(RidUtils.getRid(entity)));
+            countCache.invalidateFor(entity);
+        }
+        return deleteIds(ids);
+    }
+
+    @Override
+    public int deleteAll(final ORID... ids) {
+        final int res = deleteIds(Arrays.asList(ids));
+        countCache.invalidateAll();
+        return res;
+    }
+
+    public int deleteWhere(@Generic("T") final Class<T> type, final String condition, final Object... params) {
+        final OrientBaseGraph graph = graphDb.get();
+        final int res;
+        if (graph.getRawGraph().getTransaction().isActive()) {
+            // removed vertices stay visible for queries until commit, so ids are selected first
+            final List<ODocument> ids = graph.getRawGraph().query(new OSQLSynchQuery<ODocument>(String.format(
+                    "select @rid as rid from %s where %s", type.getSimpleName(), condition)), params);
+            final List<ORID> rids = Lists.newArrayListWithCapacity(ids.size());
+            for (ODocument doc : ids) {
+                rids.add(doc.<OIdentifiable>field("rid").getIdentity());
+            }
+            res = deleteIds(rids);
+        } else {
+            res = deleteLimited(graph, type, condition, params);
+            cache.clear();
+        }
+        countCache.invalidate(type.getSimpleName());
+        return res;
+    }
+
+    public Future<Integer> deleteWhereInBackground(@Generic("T") final Class<T> type, final String condition,
+                                                   final Object... params) {
+        return executor.submit(new Callable<Integer>() {
+            @Override
+            public Integer call() throws Exception {
+                return txTemplate.doInTransaction(new TxConfig(OTransaction.TXTYPE.NOTX),
+                        new TxAction<Integer>() {
+                            @Override
+                            public Integer execute() throws Throwable {
+                                return deleteWhere(type, condition, params);
+                            }
+                        });
+            }
+        });
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <V extends Vertex> V objectToVertex(final Object vertex) {
@@ -64,4 +154,44 @@ public abstract class ObjectVertexCrudDelegate<T> implements ObjectVertexCrud<T>
         final OrientVertex orientVertex = (OrientVertex) vertex;
         return documentToObject(orientVertex.getRecord());
     }
+
+    private int deleteIds(final List<ORID> ids) {
+        final OrientBaseGraph graph = graphDb.get();
+        int res = 0;
+        for (List<ORID> chunk : batch.chunks(ids)) {
+            final List<ORID> persistent = Lists.newArrayListWithCapacity(chunk.size());
+            for (ORID id : chunk) {
+                if (id.isPersistent()) {
+                    persistent.add(id);
+                } else {
+                    // vertex created in current transaction can't be queried
+                    final OrientVertex vertex = graph.getVertex(id);
+                    if (vertex != null) {
+                        vertex.remove();
+                        res++;
+                    }
+                }
+                cache.evict(id);
+            }
+            if (!persistent.isEmpty()) {
+                res += graph.command(new OCommandSQL(String.format("delete vertex from (select from [%s])",
+                        Joiner.on(',').join(persistent)))).<Number>execute().intValue();
+            }
+        }
+        return res;
+    }
+
+    private int deleteLimited(final OrientBaseGraph graph, final Class<T> type, final String condition,
+                              final Object... params) {
+        // without transaction each command is applied immediately
+        final String command = String.format("delete vertex %s where %s limit %s",
+                type.getSimpleName(), condition, batch.getChunkSize());
+        int res = 0;
+        int removed;
+        do {
+            removed = graph.command(new OCommandSQL(command)).<Number>execute(params).intValue();
+            res += removed;
+        } while (removed == batch.getChunkSize());
+        return res;
+    }
 }
@@ -0,0 +1,51 @@
+package ru.vyarus.guice.persist.orient.support.repository.mixin.pagination;
+
+import java.util.List;
+
+/**
+ * Page object for keyset (cursor) pagination.
+ *
+ * @param <T> page item type
+ * @author Vyacheslav Rusakov
+ * @see CursorSupport
+ * @since 18.10.2026
+ */
+public class CursorPage<T> {
+    private final int pageSize;
+    private final String nextCursor;
+    private final List<T> content;
+
+    public CursorPage(final int pageSize, final String nextCursor, final List<T> content) {
+        this.pageSize = pageSize;
+        this.nextCursor = nextCursor;
+        this.content = content;
+    }
+
+    /**
+     * @return page size
+     */
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * @return opaque token to load next page or null if this is the last page
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    /**
+     * @return true if next page exists
+     */
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    /**
+     * @return page items
+     */
+    public List<T> getContent() {
+        return content;
+    }
+}
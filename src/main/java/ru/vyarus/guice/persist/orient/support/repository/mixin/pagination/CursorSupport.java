@@ -0,0 +1,25 @@
+package ru.vyarus.guice.persist.orient.support.repository.mixin.pagination;
+
+import ru.vyarus.guice.persist.orient.repository.delegate.Delegate;
+
+/**
+ * Keyset (cursor) pagination: implementation use {@link Pagination} to select records after the last
+ * record of previous page (in rid order). Unlike {@link PageSupport}, page loading cost does not depend on
+ * page position (no records skipped), but pages could be navigated only forward and total count is not known.
+ * <p>Don't use directly, {@link Pagination} already extends it. Additional interface introduced just to
+ * simplify navigation.</p>
+ *
+ * @param <R> page item type
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@Delegate(CursorSupportDelegate.class)
+public interface CursorSupport<R> {
+
+    /**
+     * @param cursor   cursor from previous page ({@link CursorPage#getNextCursor()}) or null for the first page
+     * @param pageSize elements in page
+     * @return entities page
+     */
+    CursorPage<R> getCursorPage(String cursor, int pageSize);
+}
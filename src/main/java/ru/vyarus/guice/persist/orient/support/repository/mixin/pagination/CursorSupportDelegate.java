@@ -0,0 +1,57 @@
+package ru.vyarus.guice.persist.orient.support.repository.mixin.pagination;
+
+import com.google.common.base.Charsets;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.io.BaseEncoding;
+import com.google.inject.ProvidedBy;
+import com.google.inject.internal.DynamicSingletonProvider;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import ru.vyarus.guice.persist.orient.db.util.RidUtils;
+import ru.vyarus.guice.persist.orient.repository.delegate.ext.instance.Repository;
+
+import java.util.List;
+
+/**
+ * Keyset pagination implementation. Loads one more record than requested to detect next page existence.
+ * Cursor is encoded rid of page last record.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@ProvidedBy(DynamicSingletonProvider.class)
+public abstract class CursorSupportDelegate implements CursorSupport {
+
+    private static final BaseEncoding ENCODING = BaseEncoding.base64Url().omitPadding();
+
+    @SuppressWarnings("unchecked")
+    public CursorPage getCursorPage(@Repository final Pagination repository,
+                                    final String cursor, final int pageSize) {
+        Preconditions.checkArgument(pageSize > 0, "Page size must be > 0");
+        List content = repository.getAllAfter(decode(cursor), pageSize + 1);
+        String next = null;
+        if (content.size() > pageSize) {
+            content = Lists.newArrayList(content.subList(0, pageSize));
+            next = encode(content.get(pageSize - 1));
+        }
+        return new CursorPage(pageSize, next, content);
+    }
+
+    private String encode(final Object last) {
+        return ENCODING.encode(RidUtils.getRid(last).getBytes(Charsets.UTF_8));
+    }
+
+    private ORID decode(final String cursor) {
+        ORID res = new ORecordId();
+        if (cursor != null) {
+            try {
+                res = new ORecordId(new String(ENCODING.decode(cursor), Charsets.UTF_8));
+            } catch (IllegalArgumentException ex) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor, ex);
+            }
+            Preconditions.checkArgument(res.isPersistent(), "Invalid cursor: %s", cursor);
+        }
+        return res;
+    }
+}
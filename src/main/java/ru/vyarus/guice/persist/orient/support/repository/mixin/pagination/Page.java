@@ -16,14 +16,21 @@ public class Page<T> {
     private final int totalCount;
     private final int pageSize;
     private final List<T> content;
+    private final boolean next;
 
     public Page(final int currentPage, final int totalPages, final int totalCount,
                 final int pageSize, final List<T> content) {
+        this(currentPage, totalPages, totalCount, pageSize, content, currentPage < totalPages);
+    }
+
+    public Page(final int currentPage, final int totalPages, final int totalCount,
+                final int pageSize, final List<T> content, final boolean next) {
         this.currentPage = currentPage;
         this.totalPages = totalPages;
         this.totalCount = totalCount;
         this.pageSize = pageSize;
         this.content = content;
+        this.next = next;
     }
 
     /**
@@ -34,14 +41,14 @@ public class Page<T> {
     }
 
     /**
-     * @return total pages count
+     * @return total pages count (-1 if total not calculated)
      */
     public int getTotalPages() {
         return totalPages;
     }
 
     /**
-     * @return total elements count (in db)
+     * @return total elements count (in db) (-1 if total not calculated)
      */
     public int getTotalCount() {
         return totalCount;
@@ -60,4 +67,11 @@ public class Page<T> {
     public List<T> getContent() {
         return content;
     }
+
+    /**
+     * @return true if next page exists
+     */
+    public boolean hasNext() {
+        return next;
+    }
 }
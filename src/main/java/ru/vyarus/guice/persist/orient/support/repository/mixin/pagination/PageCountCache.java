@@ -0,0 +1,108 @@
+package ru.vyarus.guice.persist.orient.support.repository.mixin.pagination;
+
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import javassist.util.proxy.Proxy;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Records count cache for {@link PageTotal#CACHED} pagination mode. Count is cached by schema class name
+ * for configured time ({@link ru.vyarus.guice.persist.orient.RepositoryModule#pageCountCacheTtl(long)}).
+ * <p>Crud mixins invalidate class count on save and delete (delete by id invalidates all counts, because
+ * record class is unknown). Writes performed other way (queries, other connections) are visible only
+ * after cache expiration.</p>
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@Singleton
+public class PageCountCache {
+
+    private final long ttl;
+    private final ConcurrentMap<String, Entry> counts = new ConcurrentHashMap<String, Entry>();
+
+    @Inject
+    public PageCountCache(@Named("orient.repository.page.count.ttl") final long ttl) {
+        this.ttl = ttl;
+    }
+
+    /**
+     * @param type schema class name
+     * @return cached count or null if not cached or expired
+     */
+    public Integer get(final String type) {
+        final Entry entry = counts.get(type);
+        Integer res = null;
+        if (entry != null) {
+            if (entry.expires > System.currentTimeMillis()) {
+                res = entry.count;
+            } else {
+                counts.remove(type, entry);
+            }
+        }
+        return res;
+    }
+
+    /**
+     * @param type  schema class name
+     * @param count records count
+     * @return count
+     */
+    public int put(final String type, final int count) {
+        if (ttl > 0) {
+            counts.put(type, new Entry(count, System.currentTimeMillis() + ttl));
+        }
+        return count;
+    }
+
+    /**
+     * @param type schema class name
+     */
+    public void invalidate(final String type) {
+        if (type != null && !counts.isEmpty()) {
+            counts.remove(type);
+        }
+    }
+
+    /**
+     * Invalidates count of entity class.
+     *
+     * @param entity object (pojo or proxy) or document
+     */
+    public void invalidateFor(final Object entity) {
+        if (entity != null && !counts.isEmpty()) {
+            final String type;
+            if (entity instanceof ODocument) {
+                type = ((ODocument) entity).getClassName();
+            } else {
+                type = (entity instanceof Proxy ? entity.getClass().getSuperclass() : entity.getClass())
+                        .getSimpleName();
+            }
+            invalidate(type);
+        }
+    }
+
+    /**
+     * Invalidate all cached counts.
+     */
+    public void invalidateAll() {
+        counts.clear();
+    }
+
+    /**
+     * Cached value.
+     */
+    private static class Entry {
+        private final int count;
+        private final long expires;
+
+        Entry(final int count, final long expires) {
+            this.count = count;
+            this.expires = expires;
+        }
+    }
+}
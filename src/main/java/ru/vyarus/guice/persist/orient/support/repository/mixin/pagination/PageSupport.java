@@ -22,4 +22,14 @@ public interface PageSupport<R> {
      * @return entities page
      */
     Page<R> getPage(int page, int pageSize);
+
+    /**
+     * Count query for each page could be avoided: total could be cached, estimated or not calculated at all.
+     *
+     * @param page     page number (starting from 1)
+     * @param pageSize elements in page
+     * @param total    total count calculation mode
+     * @return entities page
+     */
+    Page<R> getPage(int page, int pageSize, PageTotal total);
 }
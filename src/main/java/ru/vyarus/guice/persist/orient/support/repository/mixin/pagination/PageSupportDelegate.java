@@ -3,8 +3,13 @@ package ru.vyarus.guice.persist.orient.support.repository.mixin.pagination;
 import com.google.common.base.Preconditions;
 import com.google.inject.ProvidedBy;
 import com.google.inject.internal.DynamicSingletonProvider;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import ru.vyarus.guice.persist.orient.repository.delegate.ext.generic.Generic;
 import ru.vyarus.guice.persist.orient.repository.delegate.ext.instance.Repository;
 
+import javax.inject.Inject;
+import javax.inject.Provider;
 import java.util.List;
 
 /**
@@ -16,16 +21,62 @@ import java.util.List;
 @ProvidedBy(DynamicSingletonProvider.class)
 public abstract class PageSupportDelegate implements PageSupport {
 
-    @SuppressWarnings("unchecked")
+    private final Provider<ODatabaseDocumentTx> dbProvider;
+    private final PageCountCache countCache;
+
+    @Inject
+    public PageSupportDelegate(final Provider<ODatabaseDocumentTx> dbProvider, final PageCountCache countCache) {
+        this.dbProvider = dbProvider;
+        this.countCache = countCache;
+    }
+
     public Page getPage(@Repository final Pagination repository, final int page, final int pageSize) {
+        return getPage(repository, null, page, pageSize, PageTotal.EXACT);
+    }
+
+    @SuppressWarnings("unchecked")
+    public Page getPage(@Repository final Pagination repository,
+                        @Generic(value = "M", genericHolder = Pagination.class) final Class<?> model,
+                        final int page, final int pageSize, final PageTotal total) {
         Preconditions.checkArgument(page > 0, "Page parameter must be > 0");
         Preconditions.checkArgument(pageSize > 0, "Page size must be > 0");
-        final int count = repository.getCount();
-        final int pagesTotal = (int) Math.ceil((double) count / pageSize);
-        Preconditions.checkArgument(page <= pagesTotal, "Can't select page %s: total pages count %s",
-                page, pagesTotal);
+        Preconditions.checkNotNull(total, "Total mode required");
         final int start = (page - 1) * pageSize;
-        final List content = repository.getAll(start, pageSize);
-        return new Page(page, pagesTotal, count, pageSize, content);
+        final Page res;
+        if (total == PageTotal.NONE) {
+            // one more record to detect next page
+            final List content = repository.getAll(start, pageSize + 1);
+            final boolean next = content.size() > pageSize;
+            res = new Page(page, -1, -1, pageSize, next ? content.subList(0, pageSize) : content, next);
+        } else {
+            final int count = count(repository, model, total);
+            final int pagesTotal = (int) Math.ceil((double) count / pageSize);
+            // cached or estimated count could be not accurate
+            Preconditions.checkArgument(total != PageTotal.EXACT || page <= pagesTotal,
+                    "Can't select page %s: total pages count %s", page, pagesTotal);
+            final List content = repository.getAll(start, pageSize);
+            res = new Page(page, pagesTotal, count, pageSize, content);
+        }
+        return res;
+    }
+
+    private int count(final Pagination repository, final Class<?> model, final PageTotal total) {
+        final int res;
+        switch (total) {
+            case CACHED:
+                final String type = model.getSimpleName();
+                final Integer cached = countCache.get(type);
+                res = cached != null ? cached : countCache.put(type, repository.getCount());
+                break;
+            case ESTIMATED:
+                final OClass cls = dbProvider.get().getMetadata().getImmutableSchemaSnapshot()
+                        .getClass(model.getSimpleName());
+                res = cls == null ? 0 : (int) cls.count();
+                break;
+            default:
+                res = repository.getCount();
+                break;
+        }
+        return res;
     }
 }
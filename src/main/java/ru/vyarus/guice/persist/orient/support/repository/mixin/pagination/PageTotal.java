@@ -0,0 +1,29 @@
+package ru.vyarus.guice.persist.orient.support.repository.mixin.pagination;
+
+/**
+ * Total count calculation mode for {@link PageSupport#getPage(int, int, PageTotal)}.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public enum PageTotal {
+    /**
+     * Count query executed for each page (default).
+     */
+    EXACT,
+    /**
+     * Count query result cached for model class (see {@link PageCountCache}). Cache is invalidated on writes
+     * through crud mixins or after configured time.
+     */
+    CACHED,
+    /**
+     * Count taken from class clusters metadata (no query). Not accurate under transaction (current
+     * transaction changes are not counted).
+     */
+    ESTIMATED,
+    /**
+     * Total count is not calculated: one more record loaded to detect next page existence.
+     * Total count and total pages are -1 in resulted page.
+     */
+    NONE
+}
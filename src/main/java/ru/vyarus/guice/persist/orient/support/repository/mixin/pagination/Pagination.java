@@ -1,5 +1,6 @@
 package ru.vyarus.guice.persist.orient.support.repository.mixin.pagination;
 
+import com.orientechnologies.orient.core.id.ORID;
 import ru.vyarus.guice.persist.orient.repository.command.ext.pagination.Limit;
 import ru.vyarus.guice.persist.orient.repository.command.ext.pagination.Skip;
 import ru.vyarus.guice.persist.orient.repository.command.query.Query;
@@ -16,7 +17,7 @@ import java.util.List;
  * @author Vyacheslav Rusakov
  * @since 01.11.2014
  */
-public interface Pagination<M, R> extends PageSupport<R> {
+public interface Pagination<M, R> extends PageSupport<R>, CursorSupport<R> {
 
     /**
      * @param skip  skip results
@@ -26,6 +27,16 @@ public interface Pagination<M, R> extends PageSupport<R> {
     @Query("select from ${M}")
     List<R> getAll(@Skip int skip, @Limit int limit);
 
+    /**
+     * Keyset pagination query: cost does not depend on page position, because records are not skipped.
+     *
+     * @param last  rid of the last record from previous page (or #-1:-1 to select from the beginning)
+     * @param limit number of items to select (to select all set value less or equal 0)
+     * @return list of entities, selected after provided rid (in rid order)
+     */
+    @Query("select from ${M} where @rid > ? order by @rid")
+    List<R> getAllAfter(ORID last, @Limit int limit);
+
     /**
      * @return number of records
      */
@@ -0,0 +1,108 @@
+package ru.vyarus.guice.persist.orient.db.pool
+
+import com.google.inject.Guice
+import com.google.inject.Injector
+import com.google.inject.Key
+import com.google.inject.ProvisionException
+import com.google.inject.TypeLiteral
+import com.google.inject.persist.PersistService
+import com.orientechnologies.orient.core.config.OGlobalConfiguration
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx
+import ru.vyarus.guice.persist.orient.db.DbType
+import ru.vyarus.guice.persist.orient.db.pool.metrics.JmxPoolMetrics
+import ru.vyarus.guice.persist.orient.db.pool.metrics.PoolMetrics
+import ru.vyarus.guice.persist.orient.db.pool.support.AcquireLimitsModule
+import ru.vyarus.guice.persist.orient.db.transaction.template.SpecificTxAction
+import ru.vyarus.guice.persist.orient.db.transaction.template.SpecificTxTemplate
+import spock.lang.Specification
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.Future
+import java.util.concurrent.TimeUnit
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class PoolAcquireLimitsTest extends Specification {
+
+    Injector injector
+    SpecificTxTemplate<ODatabaseDocumentTx> template
+    ExecutorService executor = Executors.newFixedThreadPool(2)
+
+    void setup() {
+        OGlobalConfiguration.DB_POOL_MAX.setValue(1)
+        injector = Guice.createInjector(new AcquireLimitsModule())
+        injector.getInstance(PersistService).start()
+        template = injector.getInstance(Key.get(new TypeLiteral<SpecificTxTemplate<ODatabaseDocumentTx>>() {}))
+    }
+
+    void cleanup() {
+        executor.shutdownNow()
+        injector.getInstance(PersistService).stop()
+        OGlobalConfiguration.DB_POOL_MAX.setValue(OGlobalConfiguration.DB_POOL_MAX.defValue)
+    }
+
+    def "Check acquire timeout"() {
+
+        when: "all connections used"
+        CountDownLatch release = new CountDownLatch(1)
+        Future holder = hold(release)
+        long start = System.currentTimeMillis()
+        template.doInTransaction({ db -> } as SpecificTxAction)
+        then: "acquire failed after timeout"
+        def ex = thrown(ProvisionException)
+        ex.cause instanceof PoolExhaustedException
+        ex.cause.message == "Pool DOCUMENT exhausted: failed to obtain connection in 300 ms"
+        System.currentTimeMillis() - start >= 300
+
+        when: "connection released"
+        release.countDown()
+        holder.get(5, TimeUnit.SECONDS)
+        template.doInTransaction({ db -> } as SpecificTxAction)
+        then: "connection available"
+        noExceptionThrown()
+        (injector.getInstance(PoolMetrics) as JmxPoolMetrics).getStats(DbType.DOCUMENT).rejectedCount >= 1
+    }
+
+    def "Check waiting queue limit"() {
+
+        when: "all connections used and one thread already waits"
+        CountDownLatch release = new CountDownLatch(1)
+        Future holder = hold(release)
+        Future waiter = executor.submit({
+            template.doInTransaction({ db -> } as SpecificTxAction)
+        })
+        // let waiter start waiting
+        sleep(100)
+        long start = System.currentTimeMillis()
+        template.doInTransaction({ db -> } as SpecificTxAction)
+        then: "request rejected immediately"
+        def ex = thrown(ProvisionException)
+        ex.cause instanceof PoolExhaustedException
+        ex.cause.message == "Pool DOCUMENT exhausted: 1 threads already waiting for connection"
+        System.currentTimeMillis() - start < 300
+
+        when: "connection released"
+        release.countDown()
+        holder.get(5, TimeUnit.SECONDS)
+        waiter.get(5, TimeUnit.SECONDS)
+        then: "waiting thread obtained connection"
+        noExceptionThrown()
+    }
+
+    private Future hold(CountDownLatch release) {
+        CountDownLatch acquired = new CountDownLatch(1)
+        Future res = executor.submit({
+            template.doInTransaction({ db ->
+                db.getMetadata()
+                acquired.countDown()
+                release.await()
+            } as SpecificTxAction)
+        })
+        acquired.await(5, TimeUnit.SECONDS)
+        return res
+    }
+}
@@ -0,0 +1,81 @@
+package ru.vyarus.guice.persist.orient.db.pool
+
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx
+import com.orientechnologies.orient.core.sql.OCommandSQL
+import ru.vyarus.guice.persist.orient.AbstractTest
+import ru.vyarus.guice.persist.orient.db.DbType
+import ru.vyarus.guice.persist.orient.db.pool.metrics.JmxPoolMetrics
+import ru.vyarus.guice.persist.orient.db.pool.metrics.PoolMetrics
+import ru.vyarus.guice.persist.orient.db.pool.metrics.PoolStats
+import ru.vyarus.guice.persist.orient.db.pool.support.PoolMetricsModule
+import ru.vyarus.guice.persist.orient.db.transaction.template.SpecificTxAction
+import ru.vyarus.guice.persist.orient.db.transaction.template.SpecificTxTemplate
+import ru.vyarus.guice.persist.orient.support.Config
+import spock.guice.UseModules
+
+import javax.inject.Inject
+import javax.management.ObjectName
+import java.lang.management.ManagementFactory
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@UseModules(PoolMetricsModule)
+class PoolMetricsTest extends AbstractTest {
+
+    @Inject
+    PoolMetrics metrics
+    @Inject
+    SpecificTxTemplate<ODatabaseDocumentTx> documentTemplate
+
+    def "Check pool metrics"() {
+
+        setup:
+        PoolStats stats = (metrics as JmxPoolMetrics).getStats(DbType.DOCUMENT)
+        long acquired = stats.acquireCount
+        long commits = stats.commitCount
+
+        when: "performing transaction"
+        long inUse = 0
+        documentTemplate.doInTransaction({ db ->
+            db.command(new OCommandSQL("select from Model")).execute()
+            inUse = stats.connectionsInUse
+        } as SpecificTxAction)
+        then: "transaction counted"
+        inUse == 1
+        stats.connectionsInUse == 0
+        stats.peakConnectionsInUse >= 1
+        stats.acquireCount == acquired + 1
+        stats.commitCount == commits + 1
+        stats.maxPoolSize > 0
+
+        when: "transaction failed"
+        long rollbacks = stats.rollbackCount
+        try {
+            documentTemplate.doInTransaction({ db ->
+                db.command(new OCommandSQL("select from Model")).execute()
+                throw new IllegalStateException()
+            } as SpecificTxAction)
+        } catch (IllegalStateException ignored) {
+        }
+        then: "rollback counted"
+        stats.rollbackCount == rollbacks + 1
+        stats.connectionsInUse == 0
+
+        when: "reading stats from jmx"
+        def name = new ObjectName("${JmxPoolMetrics.DOMAIN}:type=PoolStats,pool=DOCUMENT,uri=${ObjectName.quote(Config.DB)}")
+        def server = ManagementFactory.getPlatformMBeanServer()
+        then: "mbean registered"
+        server.getAttribute(name, "AcquireCount") == stats.acquireCount
+        server.getAttribute(name, "Uri") == Config.DB
+
+        when: "stopping pool"
+        persist.stop()
+        then: "mbean removed"
+        !server.isRegistered(name)
+
+        cleanup:
+        persist.start()
+    }
+}
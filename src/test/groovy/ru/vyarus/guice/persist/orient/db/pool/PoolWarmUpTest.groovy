@@ -0,0 +1,52 @@
+package ru.vyarus.guice.persist.orient.db.pool
+
+import com.google.inject.Guice
+import com.google.inject.Injector
+import com.google.inject.persist.PersistService
+import com.orientechnologies.orient.core.config.OGlobalConfiguration
+import com.orientechnologies.orient.core.db.OPartitionedDatabasePool
+import com.orientechnologies.orient.core.db.OPartitionedDatabasePoolFactory
+import ru.vyarus.guice.persist.orient.support.Config
+import ru.vyarus.guice.persist.orient.support.modules.PackageSchemeModule
+import spock.lang.Specification
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class PoolWarmUpTest extends Specification {
+
+    Injector injector
+
+    void cleanup() {
+        OGlobalConfiguration.DB_POOL_MIN.setValue(OGlobalConfiguration.DB_POOL_MIN.defValue)
+        injector.getInstance(PersistService).stop()
+    }
+
+    def "Check pool warm up"() {
+
+        when: "starting with min pool size"
+        OGlobalConfiguration.DB_POOL_MIN.setValue(4)
+        injector = Guice.createInjector(new PackageSchemeModule())
+        injector.getInstance(PersistService).start()
+        OPartitionedDatabasePool pool = pool()
+        then: "connections opened in advance"
+        pool.createdInstances >= 4
+        pool.availableConnections >= 4
+    }
+
+    def "Check default warm up"() {
+
+        when: "starting with default min pool size"
+        injector = Guice.createInjector(new PackageSchemeModule())
+        injector.getInstance(PersistService).start()
+        OPartitionedDatabasePool pool = pool()
+        then: "single connection opened"
+        pool.createdInstances >= 1
+    }
+
+    OPartitionedDatabasePool pool() {
+        OPartitionedDatabasePoolFactory factory = injector.getInstance(DocumentPool).@poolFactory
+        return factory.get(Config.DB, Config.USER, Config.PASS)
+    }
+}
@@ -2,6 +2,7 @@ package ru.vyarus.guice.persist.orient.db.pool
 
 import com.google.inject.Inject
 import com.google.inject.persist.PersistService
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx
 import com.orientechnologies.orient.object.db.OObjectDatabaseTx
 import ru.vyarus.guice.persist.orient.db.transaction.TransactionManager
 import ru.vyarus.guice.persist.orient.db.transaction.TxConfig
@@ -31,6 +32,8 @@ class PoolsTransactionTest extends Specification {
     TransactionManager transactionManager;
     @javax.inject.Inject
     SpecificTxTemplate<OObjectDatabaseTx> template
+    @javax.inject.Inject
+    SpecificTxTemplate<ODatabaseDocumentTx> documentTemplate
 
     @Inject
     MockDocumentPool documentPool
@@ -59,6 +62,25 @@ class PoolsTransactionTest extends Specification {
         objectPool.committed
     }
 
+    def "Check only participating pools committed"() {
+
+        when: "unit of work use only document connection"
+        documentTemplate.doInTransaction({ db ->
+            // do nothing
+        } as SpecificTxAction)
+        then: "only document pool committed"
+        documentPool.committed
+        !objectPool.committed
+
+        when: "unit of work without connection"
+        documentPool.start(null)
+        transactionManager.begin()
+        transactionManager.end()
+        then: "no pools affected"
+        !documentPool.committed
+        !objectPool.committed
+    }
+
     def "Check general rollback"() {
 
         when: "unit of work failed"
@@ -0,0 +1,22 @@
+package ru.vyarus.guice.persist.orient.db.pool.support
+
+import com.google.inject.AbstractModule
+import ru.vyarus.guice.persist.orient.OrientModule
+import ru.vyarus.guice.persist.orient.support.Config
+import ru.vyarus.guice.persist.orient.support.modules.RestrictModule
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class AcquireLimitsModule extends AbstractModule {
+
+    @Override
+    protected void configure() {
+        install(new OrientModule(Config.DB, Config.USER, Config.PASS)
+                .poolAcquireTimeout(300)
+                .poolAcquireQueueLimit(1)
+                .poolMetrics(true))
+        install(new RestrictModule())
+    }
+}
@@ -0,0 +1,20 @@
+package ru.vyarus.guice.persist.orient.db.pool.support
+
+import com.google.inject.AbstractModule
+import ru.vyarus.guice.persist.orient.OrientModule
+import ru.vyarus.guice.persist.orient.support.Config
+import ru.vyarus.guice.persist.orient.support.modules.RestrictModule
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class PoolMetricsModule extends AbstractModule {
+
+    @Override
+    protected void configure() {
+        install(new OrientModule(Config.DB, Config.USER, Config.PASS).poolMetrics(true))
+        install(new ru.vyarus.guice.persist.orient.support.PackageSchemeModule(Config.MODEL_PKG))
+        install(new RestrictModule())
+    }
+}
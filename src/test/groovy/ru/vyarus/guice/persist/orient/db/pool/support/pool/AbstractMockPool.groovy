@@ -1,6 +1,9 @@
 package ru.vyarus.guice.persist.orient.db.pool.support.pool
 
 import ru.vyarus.guice.persist.orient.db.pool.PoolManager
+import ru.vyarus.guice.persist.orient.db.transaction.TransactionManager
+
+import javax.inject.Inject
 
 /**
  * @author Vyacheslav Rusakov 
@@ -8,6 +11,9 @@ import ru.vyarus.guice.persist.orient.db.pool.PoolManager
  */
 abstract class AbstractMockPool<T> implements PoolManager<T> {
 
+    @Inject
+    TransactionManager transactionManager
+
     boolean started
     boolean committed
     boolean rolledBack
@@ -57,6 +63,7 @@ abstract class AbstractMockPool<T> implements PoolManager<T> {
 
     @Override
     T get() {
+        transactionManager.registerPool(this)
         return null
     }
 }
@@ -3,12 +3,25 @@ package ru.vyarus.guice.persist.orient.db.pool.support.pool
 import com.orientechnologies.orient.object.db.OObjectDatabaseTx
 import ru.vyarus.guice.persist.orient.db.DbType
 
+import javax.inject.Inject
+
 /**
  * @author Vyacheslav Rusakov 
  * @since 01.08.2014
  */
 class MockObjectPool extends AbstractMockPool<OObjectDatabaseTx>{
 
+    @Inject
+    MockDocumentPool documentPool
+
+    @Override
+    OObjectDatabaseTx get() {
+        def res = super.get()
+        // object pool use document connection
+        documentPool.get()
+        return res
+    }
+
     @Override
     DbType getType() {
         return DbType.OBJECT
@@ -0,0 +1,98 @@
+package ru.vyarus.guice.persist.orient.db.retry
+
+import com.google.inject.Inject
+import ru.vyarus.guice.persist.orient.db.retry.support.BackoffCases
+import ru.vyarus.guice.persist.orient.support.modules.DefaultModule
+import spock.guice.UseModules
+import spock.lang.Specification
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@UseModules(DefaultModule)
+class RetryBackoffTest extends Specification {
+
+    @Inject
+    BackoffCases cases
+    @Inject
+    RetryStatistics statistics
+
+    def "Check exponential backoff"() {
+
+        when: "call always failing method with backoff"
+        long start = System.currentTimeMillis()
+        cases.backoff()
+        then: "delays applied: 50 + 100 + 200"
+        thrown(IllegalStateException)
+        cases.callCount == 4
+        System.currentTimeMillis() - start >= 350
+        with(stats('backoff')) {
+            calls == 1
+            retries == 3
+            failed == 1
+            recovered == 0
+        }
+    }
+
+    def "Check max delay and jitter"() {
+
+        when: "call always failing method with limited delay"
+        long start = System.currentTimeMillis()
+        cases.limitedBackoff()
+        then: "delays limited: 50 + 60 + 60 (+-50%)"
+        thrown(IllegalStateException)
+        cases.callCount == 4
+        (80L..1000L).contains(System.currentTimeMillis() - start)
+    }
+
+    def "Check retry budget"() {
+
+        when: "call failing method with retry budget"
+        cases.budget()
+        then: "retries limited by budget"
+        thrown(IllegalStateException)
+        cases.callCount == 4
+
+        when: "call again within budget window"
+        cases.callCount = 0
+        cases.budget()
+        then: "budget exhausted - no retries"
+        thrown(IllegalStateException)
+        cases.callCount == 1
+        with(stats('budget')) {
+            calls == 2
+            retries == 3
+            failed == 2
+            budgetExhausted == 2
+        }
+    }
+
+    def "Check recovery stats"() {
+
+        when: "call method failing twice"
+        cases.failCount = 2
+        cases.recover()
+        then: "method recovered"
+        cases.callCount == 3
+        with(stats('recover')) {
+            calls == 1
+            retries == 2
+            recovered == 1
+            failed == 0
+        }
+        statistics.all.keySet().find { it.contains('recover') }
+    }
+
+    def "Check bad configuration"() {
+
+        when: "call method with bad jitter"
+        cases.badJitter()
+        then: "configuration error"
+        thrown(IllegalArgumentException)
+    }
+
+    private MethodRetryStats stats(String method) {
+        statistics.getStats(BackoffCases.getMethod(method))
+    }
+}
@@ -0,0 +1,43 @@
+package ru.vyarus.guice.persist.orient.db.retry.support
+
+import ru.vyarus.guice.persist.orient.db.retry.Retry
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class BackoffCases {
+
+    int callCount
+    int failCount
+
+    @Retry(value = 3, delay = 50L, multiplier = 2d)
+    void backoff() {
+        callCount++
+        throw new IllegalStateException(new ExceptionCases.REx())
+    }
+
+    @Retry(value = 3, delay = 50L, multiplier = 10d, maxDelay = 60L, jitter = 0.5d)
+    void limitedBackoff() {
+        callCount++
+        throw new IllegalStateException(new ExceptionCases.REx())
+    }
+
+    @Retry(value = 10, budget = 3, budgetWindow = 60000L)
+    void budget() {
+        callCount++
+        throw new IllegalStateException(new ExceptionCases.REx())
+    }
+
+    @Retry(5)
+    void recover() {
+        callCount++
+        if (callCount <= failCount) {
+            throw new IllegalStateException(new ExceptionCases.REx())
+        }
+    }
+
+    @Retry(value = 3, jitter = 2d)
+    void badJitter() {
+    }
+}
@@ -0,0 +1,63 @@
+package ru.vyarus.guice.persist.orient.db.scheme.initializer
+
+import com.orientechnologies.orient.core.metadata.schema.OClass
+import com.orientechnologies.orient.core.metadata.schema.OSchema
+import com.orientechnologies.orient.core.tx.OTransaction
+import com.orientechnologies.orient.object.db.OObjectDatabaseTx
+import ru.vyarus.guice.persist.orient.AbstractTest
+import ru.vyarus.guice.persist.orient.db.scheme.initializer.support.BatchSchemeModule
+import ru.vyarus.guice.persist.orient.db.scheme.initializer.support.model.BaseModel
+import ru.vyarus.guice.persist.orient.db.scheme.initializer.support.model.FirstModel
+import ru.vyarus.guice.persist.orient.db.scheme.initializer.support.model.ItemModel
+import ru.vyarus.guice.persist.orient.db.scheme.initializer.support.model.NodeModel
+import ru.vyarus.guice.persist.orient.db.scheme.initializer.support.model.SecondModel
+import ru.vyarus.guice.persist.orient.db.transaction.TxConfig
+import ru.vyarus.guice.persist.orient.db.transaction.template.SpecificTxAction
+import spock.guice.UseModules
+
+import javax.inject.Inject
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@UseModules(BatchSchemeModule)
+class BatchSchemeInitTest extends AbstractTest {
+
+    @Inject
+    ObjectSchemeInitializer initializer
+
+    def "Check batch registration"() {
+
+        when: "scheme initialized on startup"
+        context.transactionManager.begin(new TxConfig(OTransaction.TXTYPE.NOTX))
+        OSchema schema = context.getConnection().getMetadata().getSchema()
+        then: "all hierarchies registered"
+        schema.getClass(BaseModel).getClassIndex("BaseModel.name") != null
+        schema.getClass(FirstModel).isSubClassOf(BaseModel.simpleName)
+        schema.getClass(FirstModel).getClassIndex("FirstModel.first").getType() == OClass.INDEX_TYPE.UNIQUE.name()
+        schema.getClass(SecondModel).isSubClassOf(BaseModel.simpleName)
+        schema.getClass(SecondModel).getProperty("second").isNotNull()
+        schema.getClass(ItemModel).getClassIndex("ItemModel.code") != null
+        schema.getClass(NodeModel).isSubClassOf("V")
+
+        cleanup:
+        context.transactionManager.end()
+    }
+
+    def "Check repeated registration"() {
+
+        when: "registering model classes again"
+        context.doWithoutTransaction({ db ->
+            db.getEntityManager().deregisterEntityClasses(BaseModel.package.name)
+        } as SpecificTxAction<Void, OObjectDatabaseTx>)
+        initializer.clearModelCache()
+        context.doWithoutTransaction({ db ->
+            initializer.register([ItemModel, FirstModel, NodeModel, SecondModel] as List<Class<?>>)
+        } as SpecificTxAction<Void, OObjectDatabaseTx>)
+        then: "nothing changed"
+        context.doWithoutTransaction({ db ->
+            db.getMetadata().getSchema().getClass(FirstModel).getClassIndexes().size() == 1
+        } as SpecificTxAction<Boolean, OObjectDatabaseTx>)
+    }
+}
@@ -0,0 +1,24 @@
+package ru.vyarus.guice.persist.orient.db.scheme.initializer.support
+
+import com.google.inject.AbstractModule
+import ru.vyarus.guice.persist.orient.OrientModule
+import ru.vyarus.guice.persist.orient.db.scheme.initializer.support.model.BaseModel
+import ru.vyarus.guice.persist.orient.support.Config
+import ru.vyarus.guice.persist.orient.support.PackageSchemeModule
+import ru.vyarus.guice.persist.orient.support.modules.RestrictModule
+
+/**
+ * Package model classes registered at once.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class BatchSchemeModule extends AbstractModule {
+
+    @Override
+    protected void configure() {
+        install(new OrientModule(Config.DB, Config.USER, Config.PASS))
+        install(new PackageSchemeModule(BaseModel.package.name))
+        install(new RestrictModule())
+    }
+}
@@ -0,0 +1,14 @@
+package ru.vyarus.guice.persist.orient.db.scheme.initializer.support.model
+
+import com.orientechnologies.orient.core.metadata.schema.OClass
+import ru.vyarus.guice.persist.orient.db.scheme.initializer.ext.field.index.Index
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class ItemModel {
+
+    @Index(OClass.INDEX_TYPE.UNIQUE)
+    String code
+}
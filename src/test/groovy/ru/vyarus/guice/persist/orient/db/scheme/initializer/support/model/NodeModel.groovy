@@ -0,0 +1,12 @@
+package ru.vyarus.guice.persist.orient.db.scheme.initializer.support.model
+
+import ru.vyarus.guice.persist.orient.db.scheme.initializer.ext.type.vertex.VertexType
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@VertexType
+class NodeModel {
+    String name
+}
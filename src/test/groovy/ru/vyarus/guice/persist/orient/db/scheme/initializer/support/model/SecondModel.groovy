@@ -0,0 +1,13 @@
+package ru.vyarus.guice.persist.orient.db.scheme.initializer.support.model
+
+import ru.vyarus.guice.persist.orient.db.scheme.initializer.ext.field.notnull.ONotNull
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class SecondModel extends BaseModel {
+
+    @ONotNull
+    String second
+}
@@ -9,6 +9,7 @@ import ru.vyarus.java.generics.resolver.context.GenericsInfoFactory
 import spock.guice.UseModules
 import spock.lang.Shared
 
+import java.util.concurrent.Callable
 import java.util.concurrent.ExecutorService
 import java.util.concurrent.Executors
 import java.util.concurrent.Future
@@ -45,17 +46,19 @@ class RepositoryMethodDescriptorCacheTest extends AbstractRepositoryDefinitionTe
     def "Check concurrency"() {
 
         when: "Call method in 20 threads"
+        factory.clearCache()
         List<Future<?>> executed = []
         int times = 20
         times.times({
             executed << executor.submit({
                 lookup(DbRecognitionCases.getMethod("selectAll"))
-            })
+            } as Callable)
         })
         // lock until finish
-        executed.each({ it.get() })
-        then: "Nothing fails"
-        true
+        Set<RepositoryMethodDescriptor> res = executed.collect({ it.get() }) as Set
+        then: "Nothing fails and descriptor built once"
+        res.size() == 1
+        res[0] == lookup(DbRecognitionCases.getMethod("selectAll"))
     }
 
     def "Check cache methods"() {
@@ -12,6 +12,7 @@ import java.lang.reflect.Method
 
 /**
  * Very very simple benchmark. Ofc not accurate, just to understand overhead.
+ * For accurate measurements use jmh benchmarks ({@code gradlew jmh}, see src/jmh).
  *
  * @author Vyacheslav Rusakov 
  * @since 28.10.2014
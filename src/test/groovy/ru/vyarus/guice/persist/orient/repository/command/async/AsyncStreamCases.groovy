@@ -0,0 +1,35 @@
+package ru.vyarus.guice.persist.orient.repository.command.async
+
+import com.google.inject.ProvidedBy
+import com.google.inject.internal.DynamicSingletonProvider
+import com.google.inject.persist.Transactional
+import com.orientechnologies.orient.core.command.OCommandResultListener
+import com.orientechnologies.orient.core.record.impl.ODocument
+import ru.vyarus.guice.persist.orient.repository.command.core.stream.ResultStream
+import ru.vyarus.guice.persist.orient.repository.command.ext.listen.Listen
+import ru.vyarus.guice.persist.orient.support.model.Model
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@Transactional
+@ProvidedBy(DynamicSingletonProvider)
+interface AsyncStreamCases {
+
+    @AsyncQuery(value = "select from Model order by cnt", buffer = 5)
+    ResultStream<Model> select()
+
+    @AsyncQuery(value = "select from Model where cnt >= ? order by cnt", buffer = 5)
+    ResultStream<ODocument> selectDocuments(int from)
+
+    @AsyncQuery(value = "SELECT FROM Model ORDER BY cnt", buffer = 5, timeout = 300L)
+    ResultStream<Model> selectWithTimeout()
+
+    @AsyncQuery(value = "select from NotExisting", buffer = 5)
+    ResultStream<ODocument> badQuery()
+
+    // error: listener not allowed
+    @AsyncQuery("select from Model")
+    ResultStream<Model> withListener(@Listen OCommandResultListener listener)
+}
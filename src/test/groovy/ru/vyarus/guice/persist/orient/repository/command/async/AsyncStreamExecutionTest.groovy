@@ -0,0 +1,100 @@
+package ru.vyarus.guice.persist.orient.repository.command.async
+
+import com.google.inject.Inject
+import com.orientechnologies.orient.core.command.OCommandResultListener
+import com.orientechnologies.orient.core.record.impl.ODocument
+import javassist.util.proxy.Proxy
+import ru.vyarus.guice.persist.orient.AbstractTest
+import ru.vyarus.guice.persist.orient.db.transaction.template.SpecificTxAction
+import ru.vyarus.guice.persist.orient.repository.RepositoryException
+import ru.vyarus.guice.persist.orient.repository.command.core.stream.ResultStream
+import ru.vyarus.guice.persist.orient.support.model.Model
+import ru.vyarus.guice.persist.orient.support.modules.RepositoryTestModule
+import spock.guice.UseModules
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@UseModules(RepositoryTestModule)
+class AsyncStreamExecutionTest extends AbstractTest {
+
+    @Inject
+    AsyncStreamCases repository
+
+    void setup() {
+        context.doInTransaction({ db ->
+            50.times { db.save(new Model(name: 'name' + it, cnt: it)) }
+        } as SpecificTxAction)
+    }
+
+    def "Check async stream"() {
+
+        when: "consuming stream"
+        List<Model> res = repository.select().collect()
+        then: "all records received as detached objects"
+        res.size() == 50
+        res.collect { it.cnt } == (0..49).toList()
+        !(res[0] instanceof Proxy)
+
+        when: "consuming documents"
+        List<Integer> values = repository.selectDocuments(40).collect { ODocument doc -> doc.field('cnt') }
+        then: "all records received"
+        values == (40..49).toList()
+    }
+
+    def "Check backpressure"() {
+
+        when: "reading first record"
+        BlockingResultStream<Model> stream = repository.select()
+        stream.next()
+        sleep(300)
+        then: "query waits for consumer"
+        buffered(stream) == 5
+
+        when: "closing stream"
+        stream.close()
+        sleep(300)
+        then: "query stopped"
+        !stream.hasNext()
+        buffered(stream) == 0
+    }
+
+    def "Check abandoned stream"() {
+
+        when: "reading first record and abandon stream"
+        BlockingResultStream<Model> stream = repository.selectWithTimeout()
+        stream.next()
+        sleep(1000)
+        then: "query cancelled after consumer inactivity timeout"
+        buffered(stream) == 1
+
+        when: "consumer returns"
+        stream.hasNext()
+        then: "error instead of truncated results"
+        def ex = thrown(RepositoryException)
+        ex.getCause() instanceof java.util.concurrent.TimeoutException
+    }
+
+    def "Check query error"() {
+
+        when: "consuming failed query"
+        repository.badQuery().hasNext()
+        then: "error propagated"
+        thrown(RepositoryException)
+    }
+
+    def "Check listener not allowed"() {
+
+        when: "calling stream method with listener"
+        repository.withListener({} as OCommandResultListener)
+        then: "error"
+        thrown(RepositoryException)
+    }
+
+    private int buffered(BlockingResultStream stream) {
+        def field = BlockingResultStream.getDeclaredField('queue')
+        field.accessible = true
+        return field.get(stream).size()
+    }
+}
@@ -0,0 +1,75 @@
+package ru.vyarus.guice.persist.orient.repository.command.cache
+
+import com.google.inject.Inject
+import com.orientechnologies.orient.core.sql.parser.OStatementCache
+import ru.vyarus.guice.persist.orient.AbstractTest
+import ru.vyarus.guice.persist.orient.db.transaction.template.SpecificTxAction
+import ru.vyarus.guice.persist.orient.repository.command.cache.support.CommandCacheCases
+import ru.vyarus.guice.persist.orient.repository.command.core.cache.CommandCache
+import ru.vyarus.guice.persist.orient.support.model.Model
+import ru.vyarus.guice.persist.orient.support.modules.RepositoryTestModule
+import spock.guice.UseModules
+
+import java.util.concurrent.Callable
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@UseModules(RepositoryTestModule)
+class CommandCacheTest extends AbstractTest {
+
+    @Inject
+    CommandCacheCases dao
+    @Inject
+    CommandCache cache
+
+    void setup() {
+        context.doInTransaction({ db ->
+            db.save(new Model(name: 'John', nick: 'Johny', cnt: 1))
+        } as SpecificTxAction)
+    }
+
+    def "Check statements reuse"() {
+
+        when: "executing the same query"
+        long hits = cache.hitCount
+        long misses = cache.missCount
+        dao.findByName('John')
+        dao.findByName('John')
+        dao.findByName('Other')
+        then: "statement parsed once"
+        cache.missCount - misses == 1
+        cache.hitCount - hits == 2
+
+        when: "executing el query with different values"
+        hits = cache.hitCount
+        misses = cache.missCount
+        dao.findByField('name', 'John')
+        dao.findByField('nick', 'Johny')
+        def res = dao.findByField('name', 'John')
+        then: "each final command parsed once (name query is the same as in first method)"
+        res.size() == 1
+        cache.missCount - misses == 1
+        cache.hitCount - hits == 2
+
+        when: "executing update command"
+        hits = cache.hitCount
+        int cnt = dao.update(2, 'John')
+        cnt = dao.update(3, 'John')
+        then: "update statement reused"
+        cnt == 1
+        cache.hitCount - hits == 1
+        cache.hitRate > 0
+        context.doInTransaction({ db -> dao.findByName('John')[0].cnt } as SpecificTxAction) == 3
+    }
+
+    def "Check cache size applied"() {
+
+        expect: "storage cache replaced with configured size"
+        cache.maxSize == 1000
+        context.doInTransaction({ db ->
+            db.storage.getResource(OStatementCache.simpleName, { null } as Callable).@mapSize
+        } as SpecificTxAction) == 1000
+    }
+}
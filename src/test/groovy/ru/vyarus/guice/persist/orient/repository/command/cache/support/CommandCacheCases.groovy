@@ -0,0 +1,26 @@
+package ru.vyarus.guice.persist.orient.repository.command.cache.support
+
+import com.google.inject.ProvidedBy
+import com.google.inject.internal.DynamicClassProvider
+import com.google.inject.persist.Transactional
+import ru.vyarus.guice.persist.orient.repository.command.ext.elvar.ElVar
+import ru.vyarus.guice.persist.orient.repository.command.query.Query
+import ru.vyarus.guice.persist.orient.support.model.Model
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@Transactional
+@ProvidedBy(DynamicClassProvider)
+interface CommandCacheCases {
+
+    @Query('select from Model where name = ?')
+    List<Model> findByName(String name)
+
+    @Query('select from Model where ${field} = ?')
+    List<Model> findByField(@ElVar(value = "field", allowedValues = ["name", "nick"]) String field, String value)
+
+    @Query('update Model set cnt = ? where name = ?')
+    int update(int cnt, String name)
+}
@@ -1,5 +1,6 @@
 package ru.vyarus.guice.persist.orient.repository.command.ext.elvar
 
+import ru.vyarus.guice.persist.orient.repository.command.core.el.ElTemplate
 import ru.vyarus.guice.persist.orient.repository.command.core.el.ElUtils
 import spock.lang.Specification
 
@@ -70,4 +71,30 @@ class StringTemplateTest extends Specification {
         then: "validation failed"
         thrown(IllegalStateException)
     }
-}
\ No newline at end of file
+
+    def "Check compiled template"() {
+
+        when: "rendering compiled template"
+        ElTemplate template = ElTemplate.compile(string, staticParams)
+        String res = template.render(params)
+        then: "result is the same as with direct substitution"
+        res == ElUtils.replace(string, staticParams + params)
+        template.static == isStatic
+        where:
+        string                            | staticParams      | params                             | isStatic
+        'sample ${field}'                 | [:]               | ['field': 'val']                   | false
+        'sample ${field} and ${field2}'   | ['field': 'val']  | ['field2': ' val2 ']               | false
+        'sample ${field} and ${field}'    | [:]               | ['field': 'val']                   | false
+        '${field}${field2}'               | [:]               | ['field': 'val', 'field2': 'val2'] | false
+        'sample ${field} end'             | ['field': 'val']  | [:]                                | true
+        'sample $ {field} $'              | [:]               | [:]                                | true
+    }
+
+    def "Check compiled template substitution check"() {
+
+        when: "rendering template without all values"
+        ElTemplate.compile('${fld1} ${fld2}', ['fld1': 'val']).render([:])
+        then: "error"
+        thrown(IllegalStateException)
+    }
+}
@@ -3,6 +3,8 @@ package ru.vyarus.guice.persist.orient.repository.command.ext.pagination
 import com.google.inject.ProvidedBy
 import com.google.inject.internal.DynamicSingletonProvider
 import com.google.inject.persist.Transactional
+import ru.vyarus.guice.persist.orient.repository.command.ext.dynamicparams.DynamicParams
+import ru.vyarus.guice.persist.orient.repository.command.ext.param.Param
 import ru.vyarus.guice.persist.orient.repository.command.query.Query
 import ru.vyarus.guice.persist.orient.support.model.Model
 
@@ -23,6 +25,14 @@ interface PaginationCases {
     @Query("select from Model where name=? and nick=?")
     List<Model> parametersPagedObject(String name, String nick, @Skip Long start, @Limit Long max);
 
+    // named parameters with page definition
+    @Query("select from Model where name=:name and nick=:nick")
+    List<Model> namedPaged(@Param("name") String name, @Param("nick") String nick, @Skip int start, @Limit int max);
+
+    // dynamic parameters with page definition
+    @Query("select from Model where name=? and nick=?")
+    List<Model> dynamicPaged(@DynamicParams Object[] params, @Skip int start, @Limit int max);
+
     // error - not allowed duplicate definition
     @Query("select from Model where name=? and nick=?")
     List<Model> parametersPagedDouble(String name, String nick, @Skip int start, @Skip int max);
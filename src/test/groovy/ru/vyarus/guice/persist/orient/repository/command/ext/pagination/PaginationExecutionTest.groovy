@@ -3,6 +3,7 @@ package ru.vyarus.guice.persist.orient.repository.command.ext.pagination
 import com.google.inject.Inject
 import ru.vyarus.guice.persist.orient.AbstractTest
 import ru.vyarus.guice.persist.orient.db.transaction.template.SpecificTxAction
+import ru.vyarus.guice.persist.orient.repository.command.core.cache.CommandCache
 import ru.vyarus.guice.persist.orient.support.model.Model
 import ru.vyarus.guice.persist.orient.support.modules.RepositoryTestModule
 import spock.guice.UseModules
@@ -16,6 +17,8 @@ class PaginationExecutionTest extends AbstractTest {
 
     @Inject
     PaginationCases dao
+    @Inject
+    CommandCache cache
 
     def "Check pagination"() {
 
@@ -59,4 +62,39 @@ class PaginationExecutionTest extends AbstractTest {
         cleanup:
         context.transactionManager.end()
     }
-}
\ No newline at end of file
+
+    def "Check pagination bound as parameters"() {
+
+        setup:
+        context.transactionManager.begin()
+        context.doInTransaction({ db ->
+            db.save(new Model(name: 'John', nick: 'Doe', cnt: 1))
+            db.save(new Model(name: 'John', nick: 'Doe', cnt: 2))
+            db.save(new Model(name: 'John', nick: 'Doe', cnt: 3))
+        } as SpecificTxAction)
+
+        when: "selecting different pages"
+        List<Model> res = dao.parametersPaged('John', 'Doe', 1, 1)
+        long hits = cache.hitCount
+        List<Model> res2 = dao.parametersPaged('John', 'Doe', 2, 2)
+        then: "the same statement used"
+        res*.cnt == [2]
+        res2*.cnt == [3]
+        cache.hitCount - hits == 1
+
+        when: "paged select with named parameters"
+        res = dao.namedPaged('John', 'Doe', 1, 1)
+        res2 = dao.namedPaged('John', 'Doe', 1, 2)
+        then: "pagination applied"
+        res*.cnt == [2]
+        res2*.cnt == [2, 3]
+
+        when: "paged select with dynamic parameters"
+        res = dao.dynamicPaged(['John', 'Doe'] as Object[], 2, 1)
+        then: "pagination parameters applied after dynamic parameters"
+        res*.cnt == [3]
+
+        cleanup:
+        context.transactionManager.end()
+    }
+}
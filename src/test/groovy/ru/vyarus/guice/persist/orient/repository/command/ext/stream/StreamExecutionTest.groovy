@@ -0,0 +1,130 @@
+package ru.vyarus.guice.persist.orient.repository.command.ext.stream
+
+import com.google.inject.Inject
+import com.orientechnologies.orient.core.record.impl.ODocument
+import javassist.util.proxy.Proxy
+import ru.vyarus.guice.persist.orient.AbstractTest
+import ru.vyarus.guice.persist.orient.db.transaction.template.SpecificTxAction
+import ru.vyarus.guice.persist.orient.repository.RepositoryException
+import ru.vyarus.guice.persist.orient.repository.command.core.stream.PagedResultStream
+import ru.vyarus.guice.persist.orient.repository.command.core.stream.ResultStream
+import ru.vyarus.guice.persist.orient.repository.command.ext.stream.support.StreamCases
+import ru.vyarus.guice.persist.orient.support.model.Model
+import ru.vyarus.guice.persist.orient.support.modules.RepositoryTestModule
+import spock.guice.UseModules
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@UseModules(RepositoryTestModule)
+class StreamExecutionTest extends AbstractTest {
+
+    @Inject
+    StreamCases dao
+
+    void setup() {
+        context.doInTransaction({ db ->
+            25.times { db.save(new Model(name: 'name' + it, cnt: it)) }
+        } as SpecificTxAction)
+    }
+
+    def "Check lazy loading"() {
+
+        when: "iterating stream"
+        List<Integer> loaded = []
+        List<Integer> values = context.doInTransaction({ db ->
+            ResultStream<Model> stream = dao.all()
+            loaded << stream.loaded
+            List<Integer> res = []
+            stream.each {
+                res << it.cnt
+                loaded << stream.loaded
+            }
+            return res
+        } as SpecificTxAction)
+        then: "all records loaded by pages"
+        values.sort() == (0..24).toList()
+        loaded.unique() == [0, 10, 20, 25]
+
+        when: "iterating documents with parameter"
+        values = context.doInTransaction({ db ->
+            dao.documents(5).collect { ODocument doc -> doc.field('cnt') }
+        } as SpecificTxAction)
+        then: "correct result"
+        values.sort() == (5..24).toList()
+    }
+
+    def "Check condition paging"() {
+
+        when: "iterating with condition"
+        List<Integer> values = context.doInTransaction({ db ->
+            dao.conditional(20, 'name1').collect { ODocument doc -> doc.field('cnt') }
+        } as SpecificTxAction)
+        then: "condition applied to all pages"
+        values.sort() == [1, 20, 21, 22, 23, 24]
+
+        when: "iterating with keywords in literal"
+        values = context.doInTransaction({ db ->
+            dao.literal().collect { it.cnt }
+        } as SpecificTxAction)
+        then: "query accepted"
+        values.sort() == (0..24).toList()
+    }
+
+    def "Check close"() {
+
+        when: "closing stream before end"
+        PagedResultStream<Model> stream = context.doInTransaction({ db ->
+            ResultStream<Model> res = dao.all()
+            res.next()
+            res.close()
+            return res
+        } as SpecificTxAction)
+        then: "no more pages loaded"
+        !stream.hasNext()
+        stream.loaded == 10
+    }
+
+    def "Check detach"() {
+
+        when: "iterating detached stream"
+        List<Model> res = context.doInTransaction({ db ->
+            dao.detached().collect()
+        } as SpecificTxAction)
+        then: "objects detached"
+        res.size() == 25
+        !(res[0] instanceof Proxy)
+        res*.cnt.sort() == (0..24).toList()
+    }
+
+    def "Check usage outside of unit of work"() {
+
+        when: "iterating stream after transaction"
+        ResultStream<Model> stream = context.doInTransaction({ db -> dao.all() } as SpecificTxAction)
+        stream.next()
+        then: "error"
+        thrown(RuntimeException)
+    }
+
+    def "Check not paged queries not allowed"() {
+
+        when: "calling stream method with order by"
+        dao.ordered()
+        then: "error"
+        thrown(RepositoryException)
+
+        when: "calling stream method with projection"
+        dao.projection()
+        then: "error"
+        thrown(RepositoryException)
+    }
+
+    def "Check pagination not allowed"() {
+
+        when: "calling stream method with limit"
+        dao.limited(10)
+        then: "error"
+        thrown(RepositoryException)
+    }
+}
@@ -0,0 +1,52 @@
+package ru.vyarus.guice.persist.orient.repository.command.ext.stream.support
+
+import com.google.inject.ProvidedBy
+import com.google.inject.internal.DynamicSingletonProvider
+import com.google.inject.persist.Transactional
+import com.orientechnologies.orient.core.record.impl.ODocument
+import ru.vyarus.guice.persist.orient.repository.command.core.stream.ResultStream
+import ru.vyarus.guice.persist.orient.repository.command.ext.pagination.Limit
+import ru.vyarus.guice.persist.orient.repository.command.ext.stream.StreamPage
+import ru.vyarus.guice.persist.orient.repository.command.query.Query
+import ru.vyarus.guice.persist.orient.repository.core.ext.service.result.ext.detach.DetachResult
+import ru.vyarus.guice.persist.orient.support.model.Model
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@Transactional
+@ProvidedBy(DynamicSingletonProvider)
+@StreamPage(10)
+interface StreamCases {
+
+    @Query("select from Model")
+    ResultStream<Model> all()
+
+    @StreamPage(7)
+    @Query("select from Model where cnt >= ?")
+    ResultStream<ODocument> documents(int from)
+
+    @DetachResult
+    @Query("select from Model")
+    ResultStream<Model> detached()
+
+    @Query("select from Model where cnt >= ? or name = ?")
+    ResultStream<ODocument> conditional(int from, String name)
+
+    // keyword in literal
+    @Query("select from Model where name <> 'order by lock'")
+    ResultStream<Model> literal()
+
+    // error: order by not allowed
+    @Query("select from Model order by cnt")
+    ResultStream<Model> ordered()
+
+    // error: projection not allowed
+    @Query("select name from Model")
+    ResultStream<ODocument> projection()
+
+    // error: limit not allowed
+    @Query("select from Model")
+    ResultStream<Model> limited(@Limit int limit)
+}
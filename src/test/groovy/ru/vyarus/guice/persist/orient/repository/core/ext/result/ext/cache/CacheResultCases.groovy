@@ -0,0 +1,38 @@
+package ru.vyarus.guice.persist.orient.repository.core.ext.result.ext.cache
+
+import com.google.inject.ProvidedBy
+import com.google.inject.internal.DynamicSingletonProvider
+import com.google.inject.persist.Transactional
+import com.orientechnologies.orient.core.record.impl.ODocument
+import ru.vyarus.guice.persist.orient.repository.command.query.Query
+import ru.vyarus.guice.persist.orient.repository.core.ext.service.result.ext.cache.CacheResult
+import ru.vyarus.guice.persist.orient.support.model.Model
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@Transactional
+@ProvidedBy(DynamicSingletonProvider)
+interface CacheResultCases {
+
+    @Query("select from Model where name = ?")
+    @CacheResult
+    List<Model> findByName(String name)
+
+    @Query("select from Model where name = ?")
+    @CacheResult
+    List<ODocument> findDocuments(String name)
+
+    @Query("select count(@rid) from Model")
+    @CacheResult
+    Long count()
+
+    @Query("select from (select from Model) where name = ?")
+    @CacheResult("Model")
+    Model[] findArray(String name)
+
+    @Query("select from Model")
+    @CacheResult
+    Iterator<Model> iterate()
+}
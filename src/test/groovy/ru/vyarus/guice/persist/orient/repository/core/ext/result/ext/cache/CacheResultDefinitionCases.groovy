@@ -0,0 +1,23 @@
+package ru.vyarus.guice.persist.orient.repository.core.ext.result.ext.cache
+
+import com.google.inject.ProvidedBy
+import com.google.inject.internal.DynamicSingletonProvider
+import com.google.inject.persist.Transactional
+import ru.vyarus.guice.persist.orient.repository.command.ext.elvar.ElVar
+import ru.vyarus.guice.persist.orient.repository.command.query.Query
+import ru.vyarus.guice.persist.orient.repository.core.ext.service.result.ext.cache.CacheResult
+import ru.vyarus.guice.persist.orient.support.model.Model
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@Transactional
+@ProvidedBy(DynamicSingletonProvider)
+interface CacheResultDefinitionCases {
+
+    // error: class can't be resolved
+    @Query('select from ${type}')
+    @CacheResult
+    List<Model> dynamicClass(@ElVar("type") String type)
+}
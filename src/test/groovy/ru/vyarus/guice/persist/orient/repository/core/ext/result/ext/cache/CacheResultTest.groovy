@@ -0,0 +1,189 @@
+package ru.vyarus.guice.persist.orient.repository.core.ext.result.ext.cache
+
+import com.google.inject.Inject
+import com.orientechnologies.orient.core.record.impl.ODocument
+import ru.vyarus.guice.persist.orient.AbstractTest
+import ru.vyarus.guice.persist.orient.db.transaction.template.SpecificTxAction
+import ru.vyarus.guice.persist.orient.repository.core.MethodDefinitionException
+import ru.vyarus.guice.persist.orient.repository.core.MethodExecutionException
+import ru.vyarus.guice.persist.orient.repository.core.ext.service.result.ext.cache.ResultCache
+import ru.vyarus.guice.persist.orient.support.model.Model
+import ru.vyarus.guice.persist.orient.support.modules.BootstrapModule
+import ru.vyarus.guice.persist.orient.support.modules.RepositoryTestModule
+import spock.guice.UseModules
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@UseModules([RepositoryTestModule, BootstrapModule])
+class CacheResultTest extends AbstractTest {
+
+    @Inject
+    CacheResultCases repository
+    @Inject
+    CacheResultDefinitionCases definitionRepository
+    @Inject
+    ResultCache cache
+
+    void setup() {
+        cache.invalidateAll()
+    }
+
+    def "Check result caching"() {
+
+        when: "calling method twice"
+        List<Model> res = repository.findByName('name1')
+        List<Model> res2 = repository.findByName('name1')
+        then: "cached detached result returned"
+        res.size() == 1
+        res[0].class == Model
+        res[0].name == 'name1'
+        res.is(res2)
+        cache.size() == 1
+
+        when: "calling with other arguments"
+        res2 = repository.findByName('name2')
+        then: "new result"
+        res2[0].name == 'name2'
+        cache.size() == 2
+
+        when: "calling methods without object results"
+        Long cnt = repository.count()
+        Model[] arr = repository.findArray('name3')
+        then: "cached"
+        cnt == 10
+        repository.count().is(cnt)
+        arr[0].name == 'name3'
+        repository.findArray('name3')[0].is(arr[0])
+        cache.size() == 4
+    }
+
+    def "Check cached results are not shared mutable instances"() {
+
+        when: "modifying cached list"
+        repository.findByName('name1').clear()
+        then: "list is unmodifiable"
+        thrown(UnsupportedOperationException)
+        repository.findByName('name1').size() == 1
+
+        when: "modifying cached array"
+        Model[] arr = repository.findArray('name3')
+        arr[0] = null
+        then: "array copy returned"
+        !repository.findArray('name3').is(arr)
+        repository.findArray('name3')[0].name == 'name3'
+    }
+
+    def "Check invalidation after commit"() {
+
+        when: "changing record in transaction"
+        List<Model> res = repository.findByName('name1')
+        int sizeInTx = context.doInTransaction({ db ->
+            db.save(new Model(name: 'name1', nick: 'new'))
+            // hook already called, but change is not committed
+            cache.size()
+        } as SpecificTxAction)
+        then: "cache invalidated only after commit"
+        sizeInTx == 1
+        cache.size() == 0
+        repository.findByName('name1').size() == 2
+
+        when: "changing record in rolled back transaction"
+        res = repository.findByName('name1')
+        try {
+            context.doInTransaction({ db ->
+                db.save(new Model(name: 'name1', nick: 'new2'))
+                throw new IllegalStateException('rollback')
+            } as SpecificTxAction)
+        } catch (IllegalStateException ignored) {
+        }
+        then: "cache not invalidated"
+        cache.size() == 1
+        repository.findByName('name1').is(res)
+    }
+
+    def "Check documents caching"() {
+
+        when: "caching documents"
+        List<ODocument> res = repository.findDocuments('name1')
+        then: "document copy cached"
+        repository.findDocuments('name1').is(res)
+        res[0].field('name') == 'name1'
+        // fields are accessible without connection
+        res[0].field('nick') == 'nick1'
+    }
+
+    def "Check invalidation"() {
+
+        when: "caching result and updating record"
+        List<Model> res = repository.findByName('name1')
+        Long cnt = repository.count()
+        context.doInTransaction({ db ->
+            Model model = db.query(new com.orientechnologies.orient.core.sql.query.OSQLSynchQuery<Model>(
+                    "select from Model where name = 'name1'"))[0]
+            model.nick = 'changed'
+            db.save(model)
+        } as SpecificTxAction)
+        then: "cache invalidated"
+        cache.size() == 0
+        !repository.findByName('name1').is(res)
+        repository.findByName('name1')[0].nick == 'changed'
+        repository.count().is(cnt)
+
+        when: "creating new record"
+        context.doInTransaction({ db ->
+            db.save(new Model(name: 'name1', nick: 'new'))
+        } as SpecificTxAction)
+        then: "cache invalidated"
+        repository.findByName('name1').size() == 2
+        repository.count() == 11
+
+        when: "deleting record"
+        context.doInTransaction({ db ->
+            db.command(new com.orientechnologies.orient.core.sql.OCommandSQL(
+                    "delete from Model where nick = 'new'")).execute()
+        } as SpecificTxAction)
+        then: "cache invalidated"
+        repository.findByName('name1').size() == 1
+        repository.count() == 10
+    }
+
+    def "Check transaction with changes"() {
+
+        when: "calling cached method in transaction with changes"
+        List<Model> cached = repository.findByName('name1')
+        List<Model> res = context.doInTransaction({ db ->
+            db.save(new Model(name: 'name1', nick: 'new'))
+            repository.findByName('name1')
+        } as SpecificTxAction)
+        then: "cache not used (orient sql doesn't see new records in transaction)"
+        !res.is(cached)
+        repository.findByName('name1').size() == 2
+
+        when: "transaction rolled back"
+        try {
+            context.doInTransaction({ db ->
+                db.save(new Model(name: 'name1', nick: 'new2'))
+                repository.findByName('name1')
+                throw new IllegalStateException('rollback')
+            } as SpecificTxAction)
+        } catch (IllegalStateException ignored) {
+        }
+        then: "not committed changes were not cached"
+        repository.findByName('name1').size() == 2
+    }
+
+    def "Check not supported results"() {
+
+        when: "caching iterator"
+        repository.iterate()
+        then: "error"
+        thrown(MethodExecutionException)
+
+        when: "dependent class can't be resolved"
+        definitionRepository.dynamicClass('Model')
+        then: "error"
+        thrown(MethodDefinitionException)
+    }
+}
@@ -7,6 +7,7 @@ import com.orientechnologies.orient.core.record.impl.ODocument
 import ru.vyarus.guice.persist.orient.db.DbType
 import ru.vyarus.guice.persist.orient.repository.command.query.Query
 import ru.vyarus.guice.persist.orient.repository.core.ext.service.result.ext.detach.DetachResult
+import ru.vyarus.guice.persist.orient.repository.core.ext.result.ext.detach.support.LinkedModel
 import ru.vyarus.guice.persist.orient.support.model.Model
 
 /**
@@ -54,6 +55,18 @@ interface DetachCases {
     @DetachResult
     String noActualDetach()
 
+    @Query("select from LinkedModel")
+    @DetachResult
+    List<LinkedModel> selectLinkedDetach()
+
+    @Query("select from LinkedModel where link.name = 'shared'")
+    @DetachResult(depth = 0)
+    List<LinkedModel> selectShallowDetach()
+
+    @Query("select from LinkedModel where link.name = 'shared'")
+    @DetachResult(depth = 1)
+    List<LinkedModel> selectDepthDetach()
+
     // error: can't detach under document connection
     @Query("select from Model")
     @DetachResult
@@ -2,8 +2,12 @@ package ru.vyarus.guice.persist.orient.repository.core.ext.result.ext.detach
 
 import com.google.inject.Inject
 import com.orientechnologies.orient.core.exception.ODatabaseException
+import com.orientechnologies.orient.object.db.OObjectDatabaseTx
 import ru.vyarus.guice.persist.orient.AbstractTest
+import ru.vyarus.guice.persist.orient.db.scheme.initializer.ObjectSchemeInitializer
+import ru.vyarus.guice.persist.orient.db.transaction.template.SpecificTxAction
 import ru.vyarus.guice.persist.orient.repository.core.MethodExecutionException
+import ru.vyarus.guice.persist.orient.repository.core.ext.result.ext.detach.support.LinkedModel
 import ru.vyarus.guice.persist.orient.support.model.Model
 import ru.vyarus.guice.persist.orient.support.modules.BootstrapModule
 import ru.vyarus.guice.persist.orient.support.modules.RepositoryTestModule
@@ -18,6 +22,8 @@ class DetachExecutionTest extends AbstractTest {
 
     @Inject
     DetachCases repository
+    @Inject
+    ObjectSchemeInitializer schemeInitializer
 
     def "Check detach"() {
 
@@ -84,4 +90,51 @@ class DetachExecutionTest extends AbstractTest {
         then: "error, only object connection allowed"
         thrown(MethodExecutionException)
     }
+
+    def "Check linked objects detach"() {
+        setup: "linked objects"
+        context.doWithoutTransaction({ db -> schemeInitializer.register(LinkedModel) } as SpecificTxAction)
+        context.doInTransaction({ OObjectDatabaseTx db ->
+            def shared = db.save(new Model(name: 'shared'))
+            def deep = new LinkedModel(name: 'deep', link: new Model(name: 'deepLink'))
+            db.save(new LinkedModel(name: 'first', link: shared, links: [new Model(name: 'l1')], next: deep))
+            db.save(new LinkedModel(name: 'second', link: shared, links: []))
+        } as SpecificTxAction)
+
+        when: "detaching entire graph"
+        List<LinkedModel> res = repository.selectLinkedDetach()
+        def first = res.find { it.name == 'first' }
+        def second = res.find { it.name == 'second' }
+        then: "graph detached, shared object detached once"
+        res.size() == 3
+        first.class == LinkedModel
+        first.link.class == Model
+        first.link.name == 'shared'
+        first.link.is(second.link)
+        first.next.is(res.find { it.name == 'deep' })
+        first.links[0].name == 'l1'
+        first.next.link.name == 'deepLink'
+
+        when: "detaching only result objects"
+        res = repository.selectShallowDetach()
+        first = res.find { it.name == 'first' }
+        then: "links not detached"
+        first.class == LinkedModel
+        first.link == null
+        first.links == null
+        first.next == null
+        res.find { it.name == 'second' }.links.isEmpty()
+
+        when: "detaching with direct links"
+        res = repository.selectDepthDetach()
+        first = res.find { it.name == 'first' }
+        then: "only direct links detached, shared object detached once"
+        first.link.class == Model
+        first.link.name == 'shared'
+        first.link.is(res.find { it.name == 'second' }.link)
+        first.links[0].class == Model
+        first.next.class == LinkedModel
+        first.next.name == 'deep'
+        first.next.link == null
+    }
 }
\ No newline at end of file
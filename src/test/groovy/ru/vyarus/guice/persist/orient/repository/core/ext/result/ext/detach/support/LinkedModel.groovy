@@ -0,0 +1,15 @@
+package ru.vyarus.guice.persist.orient.repository.core.ext.result.ext.detach.support
+
+import ru.vyarus.guice.persist.orient.model.VersionedEntity
+import ru.vyarus.guice.persist.orient.support.model.Model
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class LinkedModel extends VersionedEntity {
+    String name
+    Model link
+    List<Model> links
+    LinkedModel next
+}
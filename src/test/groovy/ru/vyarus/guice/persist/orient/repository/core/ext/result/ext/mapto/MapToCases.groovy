@@ -0,0 +1,68 @@
+package ru.vyarus.guice.persist.orient.repository.core.ext.result.ext.mapto
+
+import com.google.inject.ProvidedBy
+import com.google.inject.internal.DynamicSingletonProvider
+import com.google.inject.persist.Transactional
+import ru.vyarus.guice.persist.orient.db.DbType
+import ru.vyarus.guice.persist.orient.repository.command.core.stream.ResultStream
+import ru.vyarus.guice.persist.orient.repository.command.query.Query
+import ru.vyarus.guice.persist.orient.repository.core.ext.result.ext.mapto.support.ModelDto
+import ru.vyarus.guice.persist.orient.repository.core.ext.result.ext.mapto.support.ModelValue
+import ru.vyarus.guice.persist.orient.repository.core.ext.service.result.ext.mapto.MapTo
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@Transactional
+@ProvidedBy(DynamicSingletonProvider)
+interface MapToCases {
+
+    @Query("select @rid as id, name, nick, cnt, @version as version from Model")
+    @MapTo
+    List<ModelDto> selectProjection()
+
+    @Query("select from Model")
+    @MapTo(ModelDto)
+    List selectExplicit()
+
+    @Query("select from Model where name = ?")
+    @MapTo
+    ModelDto selectPlain(String name)
+
+    @Query("select from Model where name = ?")
+    @MapTo
+    ModelDto selectPlainNoResult(String name)
+
+    @Query("select from Model")
+    @MapTo
+    ModelDto[] selectArray()
+
+    @Query("select from Model")
+    @MapTo
+    Set<ModelDto> selectSet()
+
+    @Query("select from Model")
+    @MapTo
+    Iterator<ModelDto> selectIterator()
+
+    @Query("select from Model")
+    @MapTo
+    ResultStream<ModelDto> selectStream()
+
+    @Query("select from Model")
+    @MapTo
+    List<ModelValue> selectConstructor()
+
+    @Query("select count(@rid) as cnt from Model")
+    @MapTo
+    ModelValue selectAggregate()
+
+    @Query(value = "select from Model", connection = DbType.GRAPH)
+    @MapTo
+    List<ModelDto> selectGraph()
+
+    @Query("select from Model")
+    @MapTo
+    List<String> selectNotDto()
+}
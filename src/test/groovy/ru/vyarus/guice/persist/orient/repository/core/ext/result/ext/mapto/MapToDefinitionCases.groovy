@@ -0,0 +1,28 @@
+package ru.vyarus.guice.persist.orient.repository.core.ext.result.ext.mapto
+
+import com.google.inject.ProvidedBy
+import com.google.inject.internal.DynamicSingletonProvider
+import com.google.inject.persist.Transactional
+import ru.vyarus.guice.persist.orient.db.DbType
+import ru.vyarus.guice.persist.orient.repository.command.query.Query
+import ru.vyarus.guice.persist.orient.repository.core.ext.result.ext.mapto.support.ModelDto
+import ru.vyarus.guice.persist.orient.repository.core.ext.service.result.ext.mapto.MapTo
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@Transactional
+@ProvidedBy(DynamicSingletonProvider)
+interface MapToDefinitionCases {
+
+    // error: object connection not allowed
+    @Query(value = "select from Model", connection = DbType.OBJECT)
+    @MapTo
+    List<ModelDto> objectConnection()
+
+    // error: interface can't be dto
+    @Query("select from Model")
+    @MapTo(Runnable)
+    List badDto()
+}
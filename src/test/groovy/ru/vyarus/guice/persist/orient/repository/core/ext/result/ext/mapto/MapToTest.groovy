@@ -0,0 +1,157 @@
+package ru.vyarus.guice.persist.orient.repository.core.ext.result.ext.mapto
+
+import com.google.inject.Inject
+import com.orientechnologies.orient.core.record.impl.ODocument
+import ru.vyarus.guice.persist.orient.AbstractTest
+import ru.vyarus.guice.persist.orient.db.transaction.template.SpecificTxAction
+import ru.vyarus.guice.persist.orient.repository.core.MethodDefinitionException
+import ru.vyarus.guice.persist.orient.repository.core.MethodExecutionException
+import ru.vyarus.guice.persist.orient.repository.core.ext.result.ext.mapto.support.ModelDto
+import ru.vyarus.guice.persist.orient.repository.core.ext.result.ext.mapto.support.ModelValue
+import ru.vyarus.guice.persist.orient.repository.core.ext.service.result.converter.ResultConversionException
+import ru.vyarus.guice.persist.orient.repository.core.ext.service.result.ext.mapto.mapper.DocumentMapper
+import ru.vyarus.guice.persist.orient.repository.core.ext.service.result.ext.mapto.mapper.DocumentMapperFactory
+import ru.vyarus.guice.persist.orient.repository.core.ext.service.result.ext.mapto.mapper.ReflectionDocumentMapper
+import ru.vyarus.guice.persist.orient.support.modules.BootstrapModule
+import ru.vyarus.guice.persist.orient.support.modules.RepositoryTestModule
+import spock.guice.UseModules
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@UseModules([RepositoryTestModule, BootstrapModule])
+class MapToTest extends AbstractTest {
+
+    @Inject
+    MapToCases repository
+    @Inject
+    MapToDefinitionCases definitionRepository
+
+    def "Check dto mapping"() {
+
+        when: "mapping projection"
+        List<ModelDto> res = repository.selectProjection()
+        then: "plain objects"
+        res.size() == 10
+        res[0].class == ModelDto
+        res[0].id.startsWith('#')
+        res[0].name.startsWith('name')
+        res[0].nick.startsWith('nick')
+        res[0].cnt == 0
+        res[0].version != null
+
+        when: "mapping with explicit dto"
+        res = repository.selectExplicit()
+        then: "mapped"
+        res.size() == 10
+        res[0].class == ModelDto
+        res[0].name.startsWith('name')
+        // no field in document
+        res[0].id == null
+
+        when: "mapping plain result"
+        def dto = repository.selectPlain('name1')
+        then: "mapped"
+        dto.class == ModelDto
+        dto.name == 'name1'
+        repository.selectPlainNoResult('nothing') == null
+
+        when: "mapping array"
+        ModelDto[] arr = repository.selectArray()
+        then: "mapped"
+        arr.length == 10
+        arr[0].name.startsWith('name')
+
+        when: "mapping set"
+        Set<ModelDto> set = repository.selectSet()
+        then: "mapped"
+        set.size() == 10
+        set.iterator().next().class == ModelDto
+
+        when: "mapping iterator"
+        Iterator<ModelDto> it = repository.selectIterator()
+        then: "mapped"
+        it.next().class == ModelDto
+
+        when: "mapping stream"
+        List<ModelDto> streamed = context.doInTransaction({ db ->
+            repository.selectStream().collect()
+        } as SpecificTxAction)
+        then: "lazily mapped"
+        streamed.size() == 10
+        streamed[0].class == ModelDto
+
+        when: "mapping with constructor"
+        List<ModelValue> values = repository.selectConstructor()
+        then: "mapped"
+        values.size() == 10
+        values[0].name.startsWith('name')
+        values[0].nick.startsWith('nick')
+
+        when: "mapping aggregate"
+        def value = repository.selectAggregate()
+        then: "absent field ignored, number converted"
+        value.name == null
+        value.cnt == 10
+
+        when: "mapping under graph connection"
+        res = repository.selectGraph()
+        then: "vertices mapped"
+        res.size() == 10
+        res[0].class == ModelDto
+    }
+
+    def "Check mapping errors"() {
+
+        when: "not dto type"
+        repository.selectNotDto()
+        then: "error"
+        def ex = thrown(MethodExecutionException)
+        ex.cause instanceof ResultConversionException
+
+        when: "object connection"
+        definitionRepository.objectConnection()
+        then: "error"
+        thrown(MethodDefinitionException)
+
+        when: "bad dto declared"
+        definitionRepository.badDto()
+        then: "error"
+        thrown(MethodDefinitionException)
+    }
+
+    def "Check mappers"() {
+
+        when: "generating mapper"
+        DocumentMapper mapper = DocumentMapperFactory.create(ModelValue)
+        def res = mapper.map(new ODocument().fields('name', 'test', 'cnt', 12L, 'nick', 'nck'))
+        then: "direct mapper generated"
+        !(mapper instanceof ReflectionDocumentMapper)
+        res.name == 'test'
+        res.cnt == 12
+        res.nick == 'nck'
+
+        when: "null for primitive"
+        res = mapper.map(new ODocument().fields('name', 'test'))
+        then: "default value used"
+        res.cnt == 0
+        res.nick == null
+
+        when: "generating bean mapper"
+        mapper = DocumentMapperFactory.create(ModelDto)
+        res = mapper.map(new ODocument().fields('name', 'test', 'version', 1))
+        then: "direct mapper generated"
+        !(mapper instanceof ReflectionDocumentMapper)
+        res.name == 'test'
+        res.version == 1L
+
+        when: "mapping not public dto"
+        mapper = DocumentMapperFactory.create(Class.forName(
+                'ru.vyarus.guice.persist.orient.repository.core.ext.result.ext.mapto.support.HiddenDto'))
+        res = mapper.map(new ODocument().field('name', 'test'))
+        then: "reflection used"
+        mapper instanceof ReflectionDocumentMapper
+        res.name == 'test'
+    }
+}
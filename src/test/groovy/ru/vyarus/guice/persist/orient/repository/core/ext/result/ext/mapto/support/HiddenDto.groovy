@@ -0,0 +1,14 @@
+package ru.vyarus.guice.persist.orient.repository.core.ext.result.ext.mapto.support
+
+import groovy.transform.PackageScope
+
+/**
+ * Not public dto (mapped with reflection).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@PackageScope
+class HiddenDto {
+    String name
+}
@@ -0,0 +1,13 @@
+package ru.vyarus.guice.persist.orient.repository.core.ext.result.ext.mapto.support
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class ModelDto {
+    String id
+    String name
+    String nick
+    int cnt
+    Long version
+}
@@ -0,0 +1,19 @@
+package ru.vyarus.guice.persist.orient.repository.core.ext.result.ext.mapto.support
+
+import java.beans.ConstructorProperties
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class ModelValue {
+    final String name
+    final int cnt
+    String nick
+
+    @ConstructorProperties(['name', 'cnt'])
+    ModelValue(String name, int cnt) {
+        this.name = name
+        this.cnt = cnt
+    }
+}
@@ -6,6 +6,8 @@ import com.tinkerpop.blueprints.impls.orient.OrientGraph
 import ru.vyarus.guice.persist.orient.AbstractTest
 import ru.vyarus.guice.persist.orient.db.transaction.template.SpecificTxAction
 import ru.vyarus.guice.persist.orient.db.transaction.template.SpecificTxTemplate
+import ru.vyarus.guice.persist.orient.repository.core.MethodExecutionException
+import ru.vyarus.guice.persist.orient.repository.core.ext.service.result.converter.ResultConversionException
 import ru.vyarus.guice.persist.orient.support.model.Model
 import ru.vyarus.guice.persist.orient.support.model.VertexModel
 import ru.vyarus.guice.persist.orient.support.modules.RepositoryTestModule
@@ -50,6 +52,22 @@ class RepositoryProjectionsTest extends AbstractTest {
         res2.length == 10
         res2[0].startsWith('name')
 
+        when: "selecting numbers into primitive arrays"
+        int[] ints = repository.getCountsArray()
+        long[] longs = repository.getCountsLongArray()
+        double[] doubles = repository.getCountsDoubleArray()
+        then: "arrays filled"
+        ints.length == 10
+        ints[0] == 0
+        longs.length == 10
+        doubles.length == 10
+
+        when: "selecting not numbers into primitive array"
+        repository.getNamesLongArray()
+        then: "error"
+        def ex = thrown(MethodExecutionException)
+        ex.cause instanceof ResultConversionException
+
         when: "need single element from list query"
         String name = repository.getOneName()
         then: "first element taken and projection will work"
@@ -70,6 +88,12 @@ class RepositoryProjectionsTest extends AbstractTest {
         res.size() == 10
         res[0].startsWith('name')
 
+        when: "call counts selection under graph connection"
+        long[] counts = repository.getGraphCountsArray()
+        then: "vertices flatten to primitive values"
+        counts.length == 10
+        counts[0] == 1
+
         when: "calling count under graph connection"
         int cnt = repository.getGraphCount()
         then: "vertex list unwrapped from ODocument"
@@ -30,6 +30,20 @@ public interface RepositoryResultProjections {
     @Query("select name from Model")
     String[] getNamesArray()
 
+    // primitive arrays filled directly from single field documents (numbers converted)
+    @Query("select cnt from Model")
+    int[] getCountsArray()
+
+    @Query("select cnt from Model")
+    long[] getCountsLongArray()
+
+    @Query("select cnt from Model")
+    double[] getCountsDoubleArray()
+
+    // error: values could not be stored in numeric array
+    @Query("select name from Model")
+    long[] getNamesLongArray()
+
     // tricky case: query return list, but as soon as one result expected only first element taken
     // and projection will work on it
     @Query("select name from Model")
@@ -44,6 +58,9 @@ public interface RepositoryResultProjections {
     @Query(value = "select name from VertexModel", connection = DbType.GRAPH)
     List<String> getGraphNames()
 
+    @Query(value = "select count(@rid) from VertexModel group by name", connection = DbType.GRAPH)
+    long[] getGraphCountsArray()
+
     @Query(value = "select count(@rid) from VertexModel", connection = DbType.GRAPH)
     int getGraphCount()
 
@@ -0,0 +1,65 @@
+package ru.vyarus.guice.persist.orient.repository.delegate
+
+import ru.vyarus.guice.persist.orient.repository.delegate.invoker.DelegateInvoker
+import ru.vyarus.guice.persist.orient.repository.delegate.invoker.DelegateInvokerFactory
+import ru.vyarus.guice.persist.orient.repository.delegate.invoker.ReflectionDelegateInvoker
+import ru.vyarus.guice.persist.orient.repository.delegate.support.invoker.InvokerTarget
+import spock.lang.Specification
+
+import java.lang.reflect.InvocationTargetException
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class DelegateInvokerTest extends Specification {
+
+    def "Check generated invokers"() {
+
+        setup:
+        InvokerTarget target = new InvokerTarget()
+
+        when: "calling method with primitives"
+        DelegateInvoker invoker = create('sum', int, long)
+        then: "direct invoker generated"
+        !(invoker instanceof ReflectionDelegateInvoker)
+        invoker.invoke(target, 1, 2L) == 3
+
+        when: "calling method with arrays"
+        invoker = create('array', String[], char)
+        then: "ok"
+        invoker.invoke(target, ['a', 'b'] as String[], ';' as char) == ['a;', 'b;'] as String[]
+
+        when: "calling void method"
+        invoker = create('touch')
+        then: "null returned"
+        invoker.invoke(target) == null
+        target.called == 1
+
+        when: "method fails"
+        create('fail', Object).invoke(target, 'param')
+        then: "error wrapped as in reflection"
+        def ex = thrown(InvocationTargetException)
+        ex.cause instanceof IllegalStateException
+    }
+
+    def "Check reflection fallback"() {
+
+        when: "target type is not public"
+        DelegateInvoker invoker = DelegateInvokerFactory.create(PrivateTarget,
+                PrivateTarget.getDeclaredMethod('hello', String))
+        then: "reflection used"
+        invoker instanceof ReflectionDelegateInvoker
+        invoker.invoke(new PrivateTarget(), 'you') == 'hello you'
+    }
+
+    private DelegateInvoker create(String name, Class... params) {
+        DelegateInvokerFactory.create(InvokerTarget, InvokerTarget.getMethod(name, params))
+    }
+
+    private static class PrivateTarget {
+        String hello(String name) {
+            'hello ' + name
+        }
+    }
+}
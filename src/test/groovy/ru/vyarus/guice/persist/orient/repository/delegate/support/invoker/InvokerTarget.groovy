@@ -0,0 +1,26 @@
+package ru.vyarus.guice.persist.orient.repository.delegate.support.invoker
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class InvokerTarget {
+
+    int called
+
+    int sum(int a, long b) {
+        a + b
+    }
+
+    String[] array(String[] values, char sep) {
+        values.collect { it + sep } as String[]
+    }
+
+    void touch() {
+        called++
+    }
+
+    Object fail(Object param) {
+        throw new IllegalStateException("fail")
+    }
+}
@@ -0,0 +1,120 @@
+package ru.vyarus.guice.persist.orient.repository.mixin.crud
+
+import com.google.inject.Inject
+import com.orientechnologies.orient.core.id.ORID
+import com.orientechnologies.orient.core.id.ORecordId
+import com.orientechnologies.orient.core.record.impl.ODocument
+import ru.vyarus.guice.persist.orient.AbstractTest
+import ru.vyarus.guice.persist.orient.db.transaction.template.SpecificTxAction
+import ru.vyarus.guice.persist.orient.repository.mixin.crud.support.BatchModule
+import ru.vyarus.guice.persist.orient.repository.mixin.crud.support.DocumentDao
+import ru.vyarus.guice.persist.orient.repository.mixin.crud.support.ObjectDao
+import ru.vyarus.guice.persist.orient.support.model.Model
+import spock.guice.UseModules
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@UseModules(BatchModule)
+class CrudBatchTest extends AbstractTest {
+
+    @Inject
+    ObjectDao objectDao
+    @Inject
+    DocumentDao documentDao
+
+    def "Check object batch writes"() {
+
+        when: "saving objects in chunks"
+        List<Model> res = context.doInTransaction({ db ->
+            objectDao.detachAll(objectDao.saveAll((1..10).collect { new Model(name: "name$it") }))
+        } as SpecificTxAction)
+        List<String> ids = res*.id
+        then: "all saved"
+        ids.size() == 10
+        count() == 10
+
+        when: "removing entities"
+        context.doInTransaction({ db ->
+            objectDao.deleteAll(objectDao.getAllAsList().subList(0, 5))
+        } as SpecificTxAction)
+        then: "removed"
+        count() == 5
+
+        when: "removing by ids"
+        ids = context.doInTransaction({ db -> objectDao.getAllAsList()*.id } as SpecificTxAction)
+        objectDao.deleteAll(ids.subList(0, 4).collect { new ORecordId(it) } as ORID[])
+        then: "removed"
+        count() == 1
+    }
+
+    def "Check document batch writes"() {
+
+        when: "saving documents in chunks"
+        List<ORID> ids = context.doInTransaction({ db ->
+            documentDao.saveAll((1..7).collect {
+                ODocument doc = documentDao.create()
+                doc.field('name', "name$it")
+                doc
+            }).collect { it.identity }
+        } as SpecificTxAction)
+        then: "all saved"
+        count() == 7
+
+        when: "removing documents"
+        context.doInTransaction({ db ->
+            documentDao.deleteAll(ids.subList(0, 4).collect { documentDao.get(it) })
+        } as SpecificTxAction)
+        then: "removed"
+        count() == 3
+
+        when: "removing by ids"
+        documentDao.deleteAll(ids.subList(4, 7) as ORID[])
+        then: "removed"
+        count() == 0
+    }
+
+    def "Check batch rollback"() {
+
+        setup:
+        objectDao.saveAll((1..5).collect { new Model(name: "name$it") })
+
+        when: "removing and saving in failed transaction"
+        context.doInTransaction({ db ->
+            objectDao.deleteAll(objectDao.getAllAsList())
+            objectDao.saveAll((1..5).collect { new Model(name: "new$it") })
+            throw new IllegalStateException('rollback')
+        } as SpecificTxAction)
+        then: "nothing changed"
+        thrown(IllegalStateException)
+        count() == 5
+
+        when: "committing chunks in failed transaction"
+        context.doInTransaction({ db ->
+            objectDao.saveAll((1..5).collect { new Model(name: "new$it") }, true)
+            objectDao.deleteAll(objectDao.getAllAsList().subList(0, 7), true)
+            throw new IllegalStateException('rollback')
+        } as SpecificTxAction)
+        then: "committed chunks preserved"
+        thrown(IllegalStateException)
+        count() == 3
+    }
+
+    def "Check records created in transaction removal"() {
+
+        when: "removing just saved records"
+        context.doInTransaction({ db ->
+            List<Model> res = objectDao.saveAll([new Model(name: 'tmp1'), new Model(name: 'tmp2')])
+            objectDao.deleteAll(res)
+        } as SpecificTxAction)
+        then: "removed"
+        count() == 0
+    }
+
+    private long count() {
+        context.doInTransaction({ db ->
+            db.countClass(Model)
+        } as SpecificTxAction)
+    }
+}
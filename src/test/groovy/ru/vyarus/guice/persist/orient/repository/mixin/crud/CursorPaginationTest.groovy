@@ -0,0 +1,76 @@
+package ru.vyarus.guice.persist.orient.repository.mixin.crud
+
+import com.google.inject.Inject
+import com.orientechnologies.orient.core.record.impl.ODocument
+import ru.vyarus.guice.persist.orient.AbstractTest
+import ru.vyarus.guice.persist.orient.db.transaction.template.SpecificTxAction
+import ru.vyarus.guice.persist.orient.repository.RepositoryException
+import ru.vyarus.guice.persist.orient.repository.mixin.crud.support.DocumentDao
+import ru.vyarus.guice.persist.orient.repository.mixin.crud.support.ObjectDao
+import ru.vyarus.guice.persist.orient.support.model.Model
+import ru.vyarus.guice.persist.orient.support.modules.RepositoryTestModule
+import ru.vyarus.guice.persist.orient.support.repository.mixin.pagination.CursorPage
+import spock.guice.UseModules
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@UseModules(RepositoryTestModule)
+class CursorPaginationTest extends AbstractTest {
+
+    @Inject
+    ObjectDao objectDao
+    @Inject
+    DocumentDao documentDao
+
+    def "Test cursor pagination"() {
+
+        setup: "committed records required (rids are temporal inside transaction)"
+        context.doInTransaction({ db ->
+            10.times {
+                db.save(new Model(name: "name$it", nick: "nick$it"))
+            }
+        } as SpecificTxAction)
+        context.transactionManager.begin()
+
+        when: "getting first page"
+        CursorPage<Model> page = objectDao.getCursorPage(null, 4)
+        then:
+        page.pageSize == 4
+        page.content.size() == 4
+        page.hasNext()
+
+        when: "navigating to the end"
+        List<String> names = page.content.collect { it.name }
+        while (page.hasNext()) {
+            page = objectDao.getCursorPage(page.nextCursor, 4)
+            names.addAll(page.content.collect { it.name })
+        }
+        then: "all records visited"
+        names.sort() == (0..9).collect { "name$it" }.sort()
+        page.content.size() == 2
+        page.nextCursor == null
+
+        when: "page size equal to records count"
+        page = objectDao.getCursorPage(null, 10)
+        then: "no next page"
+        page.content.size() == 10
+        !page.hasNext()
+
+        when: "getting documents page"
+        CursorPage<ODocument> page2 = documentDao.getCursorPage(null, 3)
+        page2 = documentDao.getCursorPage(page2.nextCursor, 3)
+        then:
+        page2.content.size() == 3
+        page2.hasNext()
+
+        when: "using bad cursor"
+        objectDao.getCursorPage('bad', 3)
+        then: "error"
+        thrown(RepositoryException)
+
+        cleanup:
+        context.transactionManager.end()
+    }
+}
@@ -0,0 +1,93 @@
+package ru.vyarus.guice.persist.orient.repository.mixin.crud
+
+import com.google.inject.Inject
+import ru.vyarus.guice.persist.orient.AbstractTest
+import ru.vyarus.guice.persist.orient.db.transaction.template.SpecificTxAction
+import ru.vyarus.guice.persist.orient.repository.mixin.crud.support.ObjectDao
+import ru.vyarus.guice.persist.orient.support.model.Model
+import ru.vyarus.guice.persist.orient.support.modules.RepositoryTestModule
+import ru.vyarus.guice.persist.orient.support.repository.mixin.pagination.Page
+import ru.vyarus.guice.persist.orient.support.repository.mixin.pagination.PageCountCache
+import ru.vyarus.guice.persist.orient.support.repository.mixin.pagination.PageTotal
+import spock.guice.UseModules
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@UseModules(RepositoryTestModule)
+class PageTotalTest extends AbstractTest {
+
+    @Inject
+    ObjectDao objectDao
+    @Inject
+    PageCountCache countCache
+
+    void setup() {
+        context.doInTransaction({ db ->
+            10.times {
+                db.save(new Model(name: "name$it", nick: "nick$it"))
+            }
+        } as SpecificTxAction)
+    }
+
+    def "Check page without total"() {
+
+        when: "getting page without total"
+        Page<Model> page = objectDao.getPage(1, 3, PageTotal.NONE)
+        then:
+        page.content.size() == 3
+        page.totalCount == -1
+        page.totalPages == -1
+        page.hasNext()
+
+        when: "getting last page"
+        page = objectDao.getPage(4, 3, PageTotal.NONE)
+        then:
+        page.content.size() == 1
+        !page.hasNext()
+
+        when: "getting exact page"
+        page = objectDao.getPage(3, 3, PageTotal.EXACT)
+        then:
+        page.totalCount == 10
+        page.hasNext()
+    }
+
+    def "Check estimated total"() {
+
+        when: "getting page with estimated total"
+        Page<Model> page = objectDao.getPage(1, 3, PageTotal.ESTIMATED)
+        then:
+        page.content.size() == 3
+        page.totalCount == 10
+        page.totalPages == 4
+    }
+
+    def "Check cached total"() {
+
+        when: "getting page with cached total"
+        Page<Model> page = objectDao.getPage(1, 3, PageTotal.CACHED)
+        then: "count cached"
+        page.totalCount == 10
+        countCache.get('Model') == 10
+
+        when: "count changed without crud mixin"
+        context.doInTransaction({ db -> db.save(new Model(name: 'other')) } as SpecificTxAction)
+        page = objectDao.getPage(1, 3, PageTotal.CACHED)
+        then: "cached count used"
+        page.totalCount == 10
+
+        when: "saving with crud mixin"
+        objectDao.save(new Model(name: 'other2'))
+        page = objectDao.getPage(1, 3, PageTotal.CACHED)
+        then: "count invalidated"
+        page.totalCount == 12
+
+        when: "deleting with crud mixin"
+        objectDao.delete(objectDao.findByName('other'))
+        then: "count invalidated"
+        countCache.get('Model') == null
+        objectDao.getPage(1, 3, PageTotal.CACHED).totalCount == 11
+    }
+}
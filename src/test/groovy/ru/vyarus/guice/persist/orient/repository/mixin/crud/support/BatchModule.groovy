@@ -0,0 +1,18 @@
+package ru.vyarus.guice.persist.orient.repository.mixin.crud.support
+
+import com.google.inject.AbstractModule
+import ru.vyarus.guice.persist.orient.RepositoryModule
+import ru.vyarus.guice.persist.orient.support.modules.PackageSchemeModule
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class BatchModule extends AbstractModule {
+
+    @Override
+    protected void configure() {
+        install(new PackageSchemeModule())
+        install(new RepositoryModule().crudBatchSize(3))
+    }
+}
@@ -1,10 +1,12 @@
 package ru.vyarus.guice.persist.orient.repository.mixin.graph
 
+import com.orientechnologies.orient.core.id.ORID
 import com.orientechnologies.orient.core.record.impl.ODocument
 import com.tinkerpop.blueprints.impls.orient.OrientEdge
 import ru.vyarus.guice.persist.orient.AbstractTest
 import ru.vyarus.guice.persist.orient.db.transaction.template.SpecificTxAction
 import ru.vyarus.guice.persist.orient.repository.mixin.graph.support.EdgesDao
+import ru.vyarus.guice.persist.orient.support.repository.mixin.graph.EdgePair
 import ru.vyarus.guice.persist.orient.support.model.EdgeModel
 import ru.vyarus.guice.persist.orient.support.model.VertexModel
 import ru.vyarus.guice.persist.orient.support.modules.RepositoryTestModule
@@ -172,4 +174,45 @@ class EdgesSupportTest extends AbstractTest {
         dao.<EdgeModel>getEdge(edge.getIdentity().toString()).name == "tttest"
 
     }
-}
\ No newline at end of file
+
+    def "Check bulk edges"() {
+
+        setup:
+        dao.saveAll((1..4).collect { new VertexModel(name: "bulk$it") })
+        List<String> ids = context.doInTransaction({ db ->
+            dao.getAllAsList().findAll { it.name.startsWith('bulk') }.sort { it.name }*.id
+        } as SpecificTxAction)
+        List<EdgePair> pairs = [EdgePair.of(ids[0], ids[1]), EdgePair.of(ids[0], ids[2]),
+                                EdgePair.of(ids[1], ids[2]), EdgePair.of(ids[3], ids[0])]
+
+        when: "creating edges"
+        List<ORID> edges = dao.createEdges(EdgeModel, pairs)
+        then: "created"
+        edges.size() == 4
+        edges.every { it.persistent }
+
+        when: "searching edges"
+        Map<EdgePair, EdgeModel> found = context.doInTransaction({ db ->
+            Map<EdgePair, EdgeModel> res = dao.findEdges(EdgeModel,
+                    pairs + [EdgePair.of(ids[1], ids[0]), EdgePair.of(ids[2], ids[3])])
+            // check object api instances in transaction
+            assert res.values().every { it instanceof EdgeModel }
+            res.collectEntries { k, v -> [(k): v.id] }
+        } as SpecificTxAction)
+        then: "only existing edges found"
+        found.size() == 4
+        found.keySet() == pairs as Set
+        found[pairs[0]] == edges[0].toString()
+        found[pairs[3]] == edges[3].toString()
+
+        when: "searching edges for vertex created in transaction"
+        int cnt = context.doInTransaction({ db ->
+            VertexModel vertex = dao.save(new VertexModel(name: 'new'))
+            List<ORID> res = dao.createEdges(EdgeModel, [EdgePair.of(vertex, ids[0])])
+            assert res.size() == 1 && !res[0].persistent
+            dao.findEdges(EdgeModel, [EdgePair.of(vertex, ids[0]), EdgePair.of(ids[0], ids[1])]).size()
+        } as SpecificTxAction)
+        then: "found"
+        cnt == 2
+    }
+}
@@ -4,6 +4,7 @@ import com.orientechnologies.orient.core.id.ORecordId
 import com.tinkerpop.blueprints.impls.orient.OrientEdge
 import com.tinkerpop.blueprints.impls.orient.OrientVertex
 import ru.vyarus.guice.persist.orient.AbstractTest
+import ru.vyarus.guice.persist.orient.db.transaction.template.SpecificTxAction
 import ru.vyarus.guice.persist.orient.repository.mixin.graph.support.ObjectVertexDao
 import ru.vyarus.guice.persist.orient.support.model.EdgeModel
 import ru.vyarus.guice.persist.orient.support.model.VertexModel
@@ -96,4 +97,75 @@ class ObjectVertexCrudTest extends AbstractTest {
         true
 
     }
-}
\ No newline at end of file
+
+    def "Check set based delete"() {
+
+        setup:
+        context.doInTransaction({ db ->
+            10.times {
+                dao.save(new VertexModel(name: 'test' + it, nick: it % 2 == 0 ? 'even' : 'odd'))
+                if (it > 0) {
+                    dao.createEdge(dao.findByName('test' + (it - 1)), dao.findByName('test' + it))
+                }
+            }
+        } as SpecificTxAction)
+
+        when: "removing entities"
+        int cnt = context.doInTransaction({ db ->
+            dao.deleteAll([dao.findByName('test0'), dao.findByName('test1')])
+        } as SpecificTxAction)
+        then: "removed with edges"
+        cnt == 2
+        count() == 8
+        edges() == 7
+
+        when: "removing by ids"
+        cnt = context.doInTransaction({ db ->
+            dao.deleteAll(new ORecordId(dao.findByName('test2').id), new ORecordId(dao.findByName('test3').id))
+        } as SpecificTxAction)
+        then: "removed"
+        cnt == 2
+        count() == 6
+        edges() == 5
+
+        when: "removing by condition in transaction"
+        cnt = dao.deleteWhere("nick = ? and name <> ?", 'even', 'test4')
+        then: "removed"
+        cnt == 2
+        count() == 4
+        edges() == 1
+
+        when: "removing by condition in background"
+        cnt = dao.deleteWhereInBackground("nick = ?", 'odd').get()
+        then: "removed"
+        cnt == 3
+        count() == 1
+        edges() == 0
+    }
+
+    def "Check set based delete rollback"() {
+
+        setup:
+        context.doInTransaction({ db ->
+            3.times { dao.save(new VertexModel(name: 'test' + it)) }
+        } as SpecificTxAction)
+
+        when: "removing in failed transaction"
+        context.doInTransaction({ db ->
+            dao.deleteWhere("name like 'test%'")
+            dao.deleteAll([dao.save(new VertexModel(name: 'new'))])
+            throw new IllegalStateException('rollback')
+        } as SpecificTxAction)
+        then: "nothing removed"
+        thrown(IllegalStateException)
+        count() == 3
+    }
+
+    private long count() {
+        context.doInTransaction({ db -> db.countClass(VertexModel) } as SpecificTxAction)
+    }
+
+    private long edges() {
+        context.doInTransaction({ db -> dao.countEdges() } as SpecificTxAction)
+    }
+}
@@ -0,0 +1,86 @@
+package ru.vyarus.guice.persist.orient.repository.precompile
+
+import com.google.inject.AbstractModule
+import com.google.inject.Guice
+import com.google.inject.Injector
+import com.google.inject.persist.PersistService
+import ru.vyarus.guice.persist.orient.repository.command.support.DbRecognitionCases
+import ru.vyarus.guice.persist.orient.repository.core.MethodDefinitionException
+import ru.vyarus.guice.persist.orient.repository.core.MethodDescriptorFactory
+import ru.vyarus.guice.persist.orient.repository.core.spi.RepositoryMethodDescriptor
+import ru.vyarus.guice.persist.orient.repository.precompile.support.BadRepository
+import ru.vyarus.guice.persist.orient.repository.precompile.support.PrecompileModule
+import ru.vyarus.guice.persist.orient.repository.precompile.support.RepositoryConsumer
+import spock.lang.Specification
+
+import java.lang.reflect.Method
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class PrecompileDescriptorsTest extends Specification {
+
+    Injector injector
+
+    void cleanup() {
+        if (injector != null) {
+            injector.getInstance(PersistService).stop()
+        }
+        injector = null
+    }
+
+    def "Check descriptors precompilation"() {
+
+        when: "creating injector with precompilation"
+        injector = Guice.createInjector(new PrecompileModule(true))
+        then: "nothing built before start"
+        descriptors(DbRecognitionCases) == null
+
+        when: "starting persistence"
+        injector.getInstance(PersistService).start()
+        Map<Method, Object> cache = descriptors(DbRecognitionCases)
+        int size = DbRecognitionCases.getMethods().length
+        then: "all repository descriptors built"
+        cache.size() == size
+        cache.values().every { it instanceof RepositoryMethodDescriptor }
+
+        when: "calling repository method"
+        RepositoryMethodDescriptor desc = cache[DbRecognitionCases.getMethod("selectAll")]
+        injector.getInstance(RepositoryConsumer).repository.get().selectAll()
+        then: "precompiled descriptor used"
+        cache.size() == size
+        injector.getInstance(MethodDescriptorFactory)
+                .create(DbRecognitionCases.getMethod("selectAll"), DbRecognitionCases).is(desc)
+    }
+
+    def "Check precompilation disabled by default"() {
+
+        when: "starting persistence without precompilation"
+        injector = Guice.createInjector(new PrecompileModule(false))
+        injector.getInstance(PersistService).start()
+        then: "no descriptors built"
+        descriptors(DbRecognitionCases) == null
+    }
+
+    def "Check definition errors fail startup"() {
+
+        when: "starting persistence with incorrect repository"
+        injector = Guice.createInjector(new PrecompileModule(true), new AbstractModule() {
+            @Override
+            protected void configure() {
+                bind(BadRepository)
+            }
+        })
+        injector.getInstance(PersistService).start()
+        then: "startup failed"
+        def ex = thrown(MethodDefinitionException)
+        ex.message == "Failed to analyze repository method BadRepository#bad()"
+    }
+
+    Map<Method, Object> descriptors(Class type) {
+        def field = MethodDescriptorFactory.getDeclaredField("cache")
+        field.setAccessible(true)
+        return (field.get(injector.getInstance(MethodDescriptorFactory)) as Map)[type]
+    }
+}
@@ -0,0 +1,24 @@
+package ru.vyarus.guice.persist.orient.repository.precompile.support
+
+import com.google.inject.ProvidedBy
+import com.google.inject.internal.DynamicSingletonProvider
+import com.google.inject.persist.Transactional
+import ru.vyarus.guice.persist.orient.db.DbType
+import ru.vyarus.guice.persist.orient.repository.command.query.Query
+import ru.vyarus.guice.persist.orient.support.model.Model
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@Transactional
+@ProvidedBy(DynamicSingletonProvider)
+interface BadRepository {
+
+    @Query("select from Model")
+    List<Model> ok()
+
+    // graph connection can't return objects
+    @Query(value = "select from Model", connection = DbType.GRAPH)
+    List<Model> bad()
+}
@@ -0,0 +1,25 @@
+package ru.vyarus.guice.persist.orient.repository.precompile.support
+
+import com.google.inject.AbstractModule
+import ru.vyarus.guice.persist.orient.RepositoryModule
+import ru.vyarus.guice.persist.orient.support.modules.PackageSchemeModule
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class PrecompileModule extends AbstractModule {
+
+    boolean precompile
+
+    PrecompileModule(boolean precompile) {
+        this.precompile = precompile
+    }
+
+    @Override
+    protected void configure() {
+        install(new PackageSchemeModule())
+        install(new RepositoryModule().precompileDescriptors(precompile))
+        bind(RepositoryConsumer)
+    }
+}
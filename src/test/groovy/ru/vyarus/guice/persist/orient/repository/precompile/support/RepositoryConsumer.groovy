@@ -0,0 +1,18 @@
+package ru.vyarus.guice.persist.orient.repository.precompile.support
+
+import ru.vyarus.guice.persist.orient.repository.command.support.DbRecognitionCases
+
+import javax.inject.Inject
+import javax.inject.Provider
+
+/**
+ * Repository is not bound directly, but must be found as dependency.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class RepositoryConsumer {
+
+    @Inject
+    Provider<DbRecognitionCases> repository
+}
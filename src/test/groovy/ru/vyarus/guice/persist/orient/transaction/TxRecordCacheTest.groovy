@@ -0,0 +1,83 @@
+package ru.vyarus.guice.persist.orient.transaction
+
+import com.google.inject.Guice
+import com.orientechnologies.orient.core.id.ORecordId
+import com.orientechnologies.orient.core.record.impl.ODocument
+import ru.vyarus.guice.persist.orient.AbstractTest
+import ru.vyarus.guice.persist.orient.db.DbType
+import ru.vyarus.guice.persist.orient.db.transaction.cache.TxRecordCache
+import ru.vyarus.guice.persist.orient.repository.mixin.crud.support.DocumentDao
+import ru.vyarus.guice.persist.orient.repository.mixin.crud.support.ObjectDao
+import ru.vyarus.guice.persist.orient.support.model.Model
+import ru.vyarus.guice.persist.orient.support.modules.DefaultModule
+import ru.vyarus.guice.persist.orient.transaction.support.TxCacheModule
+import spock.guice.UseModules
+
+import javax.inject.Inject
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@UseModules(TxCacheModule)
+class TxRecordCacheTest extends AbstractTest {
+
+    @Inject
+    ObjectDao objectDao
+    @Inject
+    DocumentDao documentDao
+    @Inject
+    TxRecordCache cache
+
+    def "Check transaction record cache"() {
+
+        setup:
+        // identity updated after commit
+        String id = documentDao.save(new ODocument('Model').field('name', 'name')).identity.toString()
+        long hits = cache.hits
+
+        when: "loading object twice in transaction"
+        context.transactionManager.begin()
+        Model first = objectDao.get(id)
+        Model second = objectDao.get(id)
+        then: "same instance returned"
+        first.is(second)
+        cache.hits == hits + 1
+
+        when: "loading document in the same transaction"
+        ODocument doc = documentDao.get(id)
+        then: "document cached separately"
+        doc.is(documentDao.get(id))
+        cache.hits == hits + 2
+
+        when: "deleting record"
+        objectDao.delete(id)
+        then: "evicted"
+        objectDao.get(id) == null
+        documentDao.get(id) == null
+
+        when: "new transaction"
+        context.transactionManager.rollback()
+        context.transactionManager.begin()
+        Model third = objectDao.get(id)
+        then: "cache cleared"
+        third != null
+        !third.is(first)
+
+        cleanup:
+        if (context.transactionManager.isTransactionActive()) {
+            context.transactionManager.end()
+        }
+    }
+
+    def "Check cache disabled by default"() {
+
+        when: "module configured with defaults"
+        TxRecordCache defaultCache = Guice.createInjector(new DefaultModule()).getInstance(TxRecordCache)
+        defaultCache.put(DbType.DOCUMENT, new ORecordId("#1:1"), new ODocument())
+        then: "nothing cached"
+        !defaultCache.enabled
+        defaultCache.get(DbType.DOCUMENT, new ORecordId("#1:1")) == null
+        defaultCache.hits == 0
+    }
+}
@@ -0,0 +1,24 @@
+package ru.vyarus.guice.persist.orient.transaction.support
+
+import com.google.inject.AbstractModule
+import ru.vyarus.guice.persist.orient.OrientModule
+import ru.vyarus.guice.persist.orient.RepositoryModule
+import ru.vyarus.guice.persist.orient.support.Config
+import ru.vyarus.guice.persist.orient.support.PackageSchemeModule
+import ru.vyarus.guice.persist.orient.support.modules.RestrictModule
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class TxCacheModule extends AbstractModule {
+
+    @Override
+    protected void configure() {
+        install(new OrientModule(Config.DB, Config.USER, Config.PASS)
+                .transactionRecordCache(true))
+        install(new PackageSchemeModule(Config.MODEL_PKG))
+        install(new RepositoryModule())
+        install(new RestrictModule())
+    }
+}